@@ -0,0 +1,92 @@
+package com.Bridge.bridge.config.kafka;
+
+import com.Bridge.bridge.dto.request.ChatMessageRequest;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.kafka.support.serializer.JsonDeserializer;
+import org.springframework.kafka.support.serializer.JsonSerializer;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 채팅 메세지 직렬화 비교 -> 기존 JsonSerializer vs ChatMessageCodec
+ * ns/op 측정, 메세지당 바이트 수는 setUp 에서 출력
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+public class ChatMessageCodecBenchmark {
+
+    private static final String TOPIC = "chat";
+
+    // 메세지 본문 길이
+    @Param({"20", "200"})
+    private int contentLength;
+
+    private final JsonSerializer<ChatMessageRequest> jsonSerializer = new JsonSerializer<>();
+
+    private final JsonDeserializer<ChatMessageRequest> jsonDeserializer =
+            new JsonDeserializer<>(ChatMessageRequest.class, false);
+
+    private final ChatMessageSerializer binarySerializer = new ChatMessageSerializer();
+
+    private final ChatMessageDeserializer binaryDeserializer = new ChatMessageDeserializer();
+
+    private ChatMessageRequest message;
+
+    private byte[] json;
+
+    private byte[] binary;
+
+    @Setup
+    public void setUp() {
+        StringBuilder content = new StringBuilder();
+        for (int i = 0; i < contentLength; i++) {
+            content.append((char) ('가' + i % 100));
+        }
+
+        message = ChatMessageRequest.builder()
+                .messageId(UUID.randomUUID().toString())
+                .chatRoomId(UUID.randomUUID().toString())
+                .type(ChatMessageRequest.MessageType.TALK)
+                .senderId(12345L)
+                .message(content.toString())
+                .readStat(false)
+                .sendTime(LocalDateTime.now().withNano(0))
+                .build();
+
+        json = jsonSerializer.serialize(TOPIC, message);
+        binary = binarySerializer.serialize(TOPIC, message);
+
+        System.out.printf("%n[contentLength=%d] json=%d bytes, binary=%d bytes%n",
+                contentLength, json.length, binary.length);
+    }
+
+    @Benchmark
+    public byte[] jsonSerialize() {
+        return jsonSerializer.serialize(TOPIC, message);
+    }
+
+    @Benchmark
+    public byte[] binarySerialize() {
+        return binarySerializer.serialize(TOPIC, message);
+    }
+
+    @Benchmark
+    public ChatMessageRequest jsonDeserialize() {
+        return jsonDeserializer.deserialize(TOPIC, json);
+    }
+
+    @Benchmark
+    public ChatMessageRequest binaryDeserialize() {
+        return binaryDeserializer.deserialize(TOPIC, binary);
+    }
+}
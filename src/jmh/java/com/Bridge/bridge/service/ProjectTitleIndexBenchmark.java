@@ -0,0 +1,116 @@
+package com.Bridge.bridge.service;
+
+import com.Bridge.bridge.util.HangulJamo;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 모집글 제목 검색 비교 -> 기존 contains 전체 탐색 vs 자모 분리 제목 전체 탐색 (오타 허용) vs ProjectTitleIndex
+ * us/op 측정, 검색어는 오타 하나가 들어간 제목 일부
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+public class ProjectTitleIndexBenchmark {
+
+    private static final String[] WORDS = {
+            "브릿지", "어플", "개발", "프로젝트", "스터디", "백엔드", "프론트엔드", "디자이너", "모집", "공모전",
+            "사이드", "웹", "서비스", "기획", "구합니다", "함께", "해커톤", "게임", "플랫폼", "커뮤니티"};
+
+    // 모집글 수
+    @Param({"1000", "10000"})
+    private int projectCount;
+
+    private final ProjectTitleIndex index = new ProjectTitleIndex();
+
+    private final List<String> titles = new ArrayList<>();
+
+    // 제목의 단어마다 그 단어부터 끝까지 자모로 분리해 둔 것
+    private final List<List<String>> jamoTitles = new ArrayList<>();
+
+    private String word;
+
+    private String jamoWord;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        for (long id = 1; id <= projectCount; id++) {
+            StringBuilder title = new StringBuilder();
+            for (int w = 0; w < 4; w++) {
+                title.append(WORDS[random.nextInt(WORDS.length)]).append(' ');
+            }
+            title.append(id);
+            titles.add(title.toString());
+            index.add(id, title.toString());
+
+            List<String> suffixes = new ArrayList<>();
+            String[] words = title.toString().split(" ");
+            for (int i = 0; i < words.length; i++) {
+                suffixes.add(HangulJamo.decompose(String.join("", List.of(words).subList(i, words.length))));
+            }
+            jamoTitles.add(suffixes);
+        }
+
+        // "플랫폼 커뮤니티" 의 오타
+        word = "플랫폼 커뮤나티";
+        jamoWord = HangulJamo.decompose(word);
+    }
+
+    @Benchmark
+    public int linearContains() {
+        int count = 0;
+        for (String title : titles) {
+            if (title.contains(word)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    @Benchmark
+    public int linearJamoScan() {
+        int count = 0;
+        for (List<String> suffixes : jamoTitles) {
+            for (String suffix : suffixes) {
+                if (startsWithinOneEdit(suffix, jamoWord)) {
+                    count++;
+                    break;
+                }
+            }
+        }
+        return count;
+    }
+
+    @Benchmark
+    public Map<Long, Double> titleIndex() {
+        return index.search(word, 1000);
+    }
+
+    // text 가 query 와 편집 거리 1 이내인 접두어로 시작하는지
+    private static boolean startsWithinOneEdit(String text, String query) {
+        int i = 0;
+        int limit = Math.min(text.length(), query.length());
+        while (i < limit && text.charAt(i) == query.charAt(i)) {
+            i++;
+        }
+        if (i == query.length()) {
+            return true;
+        }
+        return text.startsWith(query.substring(i + 1), i + 1)
+                || text.startsWith(query.substring(i + 1), i)
+                || text.startsWith(query.substring(i), i + 1);
+    }
+}
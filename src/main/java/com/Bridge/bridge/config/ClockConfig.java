@@ -0,0 +1,19 @@
+package com.Bridge.bridge.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Clock;
+import java.time.ZoneId;
+
+/**
+ * 서비스 기준 시계 -> 메세지 보낸 시간과 비교하는 시간은 같은 시간대(Asia/Seoul)로 계산
+ */
+@Configuration
+public class ClockConfig {
+
+    @Bean
+    Clock clock() {
+        return Clock.system(ZoneId.of("Asia/Seoul"));
+    }
+}
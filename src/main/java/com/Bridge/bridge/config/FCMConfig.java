@@ -4,13 +4,18 @@ import com.google.auth.oauth2.GoogleCredentials;
 import com.google.firebase.FirebaseApp;
 import com.google.firebase.FirebaseOptions;
 import com.google.firebase.messaging.FirebaseMessaging;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.core.io.ClassPathResource;
 
 import java.io.IOException;
 
+/**
+ * Firebase Admin SDK 설정 -> 실제 발송(fcm.client=firebase)일 때만 키 파일을 읽음
+ */
 @Configuration
+@ConditionalOnProperty(name = "fcm.client", havingValue = "firebase", matchIfMissing = true)
 public class FCMConfig {
 
     private final ClassPathResource firebaseResource = new ClassPathResource("firebase/bridge-950ec-firebase-adminsdk-o692d-8249202110.json");
@@ -0,0 +1,256 @@
+package com.Bridge.bridge.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.SessionLimitExceededException;
+import org.springframework.web.socket.handler.WebSocketSessionDecorator;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 느린 클라이언트 세션 -> 보내지 못한 프레임을 버퍼에 쌓고 한도를 넘으면 정책에 따라 처리
+ * (ConcurrentWebSocketSessionDecorator 와 같은 방식으로 한 스레드만 전송, 나머지는 버퍼에 추가)
+ * - 전송 하나가 send-time-limit 을 넘기면 정책과 관계없이 연결 종료
+ * - 버퍼가 send-buffer-size-limit 을 넘으면
+ *   DROP_OLDEST   : 오래된 MESSAGE 프레임부터 버림 -> 클라이언트는 lastSeq 로 다시 구독해서 복구
+ *   COALESCE_READ : 같은 채팅방, 같은 사람의 읽음 이벤트는 마지막 것만 남기고, 그래도 넘으면 연결 종료
+ *   DISCONNECT    : 연결 종료
+ * 프레임 구분은 STOMP 헤더로만 -> 본문(JSON)은 읽지 않음 (MessageReceiver 가 TYPE_HEADER, SENDER_HEADER 를 붙여서 보냄)
+ */
+@Slf4j
+public class SlowConsumerSessionDecorator extends WebSocketSessionDecorator {
+
+    public enum OverflowPolicy {
+        DROP_OLDEST, COALESCE_READ, DISCONNECT
+    }
+
+    // 채팅 메세지 종류, 보낸 사람 STOMP 헤더
+    public static final String TYPE_HEADER = "chat-type";
+
+    public static final String SENDER_HEADER = "chat-sender";
+
+    private static final String READ_TYPE = "READ";
+
+    private static final String MESSAGE_FRAME = "MESSAGE\n";
+
+    private static final String HEADER_END = "\n\n";
+
+    private static final String DESTINATION_HEADER = "\ndestination:";
+
+    private static final String TYPE_HEADER_LINE = "\n" + TYPE_HEADER + ":";
+
+    private static final String SENDER_HEADER_LINE = "\n" + SENDER_HEADER + ":";
+
+    private final int sendTimeLimit;
+
+    private final int bufferSizeLimit;
+
+    private final OverflowPolicy policy;
+
+    private final MeterRegistry meterRegistry;
+
+    // 보내지 못한 프레임 -> buffer 로 동기화
+    private final ArrayDeque<Frame> buffer = new ArrayDeque<>();
+
+    private int bufferSize;
+
+    private final Lock flushLock = new ReentrantLock();
+
+    private volatile long sendStartTime;
+
+    private volatile boolean limitExceeded;
+
+    public SlowConsumerSessionDecorator(WebSocketSession delegate, int sendTimeLimit, int bufferSizeLimit,
+                                        OverflowPolicy policy, MeterRegistry meterRegistry) {
+        super(delegate);
+        this.sendTimeLimit = sendTimeLimit;
+        this.bufferSizeLimit = bufferSizeLimit;
+        this.policy = policy;
+        this.meterRegistry = meterRegistry;
+    }
+
+    public int getBufferSize() {
+        synchronized (buffer) {
+            return bufferSize;
+        }
+    }
+
+    @Override
+    public void sendMessage(WebSocketMessage<?> message) throws IOException {
+        // 종료 처리 중인 세션
+        if (limitExceeded) {
+            return;
+        }
+
+        enqueue(new Frame(message));
+
+        do {
+            if (!tryFlush()) {
+                checkSessionLimits();
+                break;
+            }
+        } while (!isBufferEmpty() && !limitExceeded);
+    }
+
+    private void enqueue(Frame frame) {
+        synchronized (buffer) {
+            // 읽음 이벤트는 누적값 -> 아직 못 보낸 이전 이벤트는 필요 없음
+            if (policy == OverflowPolicy.COALESCE_READ && frame.readKey != null) {
+                Iterator<Frame> iterator = buffer.iterator();
+                while (iterator.hasNext()) {
+                    Frame buffered = iterator.next();
+                    if (frame.readKey.equals(buffered.readKey)) {
+                        iterator.remove();
+                        bufferSize -= buffered.size;
+                        countDropped("coalesced");
+                    }
+                }
+            }
+            buffer.addLast(frame);
+            bufferSize += frame.size;
+        }
+    }
+
+    private boolean tryFlush() throws IOException {
+        if (!flushLock.tryLock()) {
+            return false;
+        }
+        try {
+            while (true) {
+                Frame frame;
+                synchronized (buffer) {
+                    frame = buffer.pollFirst();
+                    if (frame == null || limitExceeded) {
+                        break;
+                    }
+                    bufferSize -= frame.size;
+                }
+                sendStartTime = System.currentTimeMillis();
+                getDelegate().sendMessage(frame.message);
+                sendStartTime = 0;
+            }
+        } finally {
+            sendStartTime = 0;
+            flushLock.unlock();
+        }
+        return true;
+    }
+
+    private boolean isBufferEmpty() {
+        synchronized (buffer) {
+            return buffer.isEmpty();
+        }
+    }
+
+    private void checkSessionLimits() {
+        if (limitExceeded) {
+            return;
+        }
+
+        long sendStarted = sendStartTime;
+        if (sendStarted > 0 && System.currentTimeMillis() - sendStarted > sendTimeLimit) {
+            evict("send-time", "전송 시간 초과 (" + sendTimeLimit + "ms)");
+        }
+
+        synchronized (buffer) {
+            if (bufferSize <= bufferSizeLimit) {
+                return;
+            }
+            if (policy == OverflowPolicy.DROP_OLDEST) {
+                dropOldest();
+                return;
+            }
+        }
+        evict("buffer-size", "전송 버퍼 초과 (" + bufferSizeLimit + " bytes)");
+    }
+
+    /**
+     * 한도 안으로 들어올 때까지 오래된 MESSAGE 프레임 삭제 (CONNECTED, RECEIPT 등은 유지)
+     */
+    private void dropOldest() {
+        Iterator<Frame> iterator = buffer.iterator();
+        while (bufferSize > bufferSizeLimit && iterator.hasNext()) {
+            Frame frame = iterator.next();
+            if (frame.messageFrame) {
+                iterator.remove();
+                bufferSize -= frame.size;
+                countDropped("oldest");
+            }
+        }
+    }
+
+    /**
+     * 느린 클라이언트 연결 종료 -> SubProtocolWebSocketHandler 에서 예외를 받아 세션을 닫음
+     */
+    private void evict(String reason, String message) {
+        limitExceeded = true;
+        synchronized (buffer) {
+            buffer.clear();
+            bufferSize = 0;
+        }
+        meterRegistry.counter("chat.websocket.session.evicted", "reason", reason).increment();
+        log.warn("느린 클라이언트 연결 종료 sessionId = {}, {}", getId(), message);
+        throw new SessionLimitExceededException(message, CloseStatus.SESSION_NOT_RELIABLE);
+    }
+
+    private void countDropped(String reason) {
+        meterRegistry.counter("chat.websocket.session.dropped", "reason", reason).increment();
+    }
+
+    private static class Frame {
+
+        private final WebSocketMessage<?> message;
+
+        private final int size;
+
+        private final boolean messageFrame;
+
+        // 읽음 이벤트 구분 키 (destination + senderId) -> 읽음 이벤트가 아니면 null
+        private final String readKey;
+
+        private Frame(WebSocketMessage<?> message) {
+            this.message = message;
+            this.size = message.getPayloadLength();
+
+            String payload = message instanceof TextMessage ? ((TextMessage) message).getPayload() : null;
+            this.messageFrame = payload != null && payload.startsWith(MESSAGE_FRAME);
+            this.readKey = messageFrame ? readKey(payload) : null;
+        }
+
+        private static String readKey(String payload) {
+            // 헤더 부분만 확인 -> 본문에 같은 문자열이 있어도 구분에 영향 없음
+            int headerEnd = payload.indexOf(HEADER_END);
+            if (headerEnd < 0) {
+                return null;
+            }
+            String headers = payload.substring(MESSAGE_FRAME.length() - 1, headerEnd + 1);
+            if (!READ_TYPE.equals(headerValue(headers, TYPE_HEADER_LINE))) {
+                return null;
+            }
+            String destination = headerValue(headers, DESTINATION_HEADER);
+            String sender = headerValue(headers, SENDER_HEADER_LINE);
+            if (destination == null || sender == null) {
+                return null;
+            }
+            return destination + '#' + sender;
+        }
+
+        private static String headerValue(String headers, String header) {
+            int start = headers.indexOf(header);
+            if (start < 0) {
+                return null;
+            }
+            start += header.length();
+            int end = headers.indexOf('\n', start);
+            return end < 0 ? null : headers.substring(start, end);
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.Bridge.bridge.config;
+
+import com.Bridge.bridge.config.SlowConsumerSessionDecorator.OverflowPolicy;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.messaging.support.AbstractSubscribableChannel;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.config.annotation.DelegatingWebSocketMessageBrokerConfiguration;
+import org.springframework.web.socket.messaging.SubProtocolWebSocketHandler;
+
+/**
+ * STOMP 메세지 브로커 설정 (@EnableWebSocketMessageBroker 대신 직접 상속)
+ * -> 세션 전송 버퍼를 SlowConsumerSessionDecorator 로 교체하기 위함
+ * 나머지 설정은 WebSocketConfig (WebSocketMessageBrokerConfigurer) 에서
+ */
+@Configuration
+@RequiredArgsConstructor
+public class WebSocketBrokerConfig extends DelegatingWebSocketMessageBrokerConfiguration {
+
+    private final MeterRegistry meterRegistry;
+
+    // 전송 버퍼가 가득 찬 세션 처리 정책
+    @Value("${chat.websocket.overflow-policy:COALESCE_READ}")
+    private OverflowPolicy overflowPolicy;
+
+    @Bean
+    @Override
+    public WebSocketHandler subProtocolWebSocketHandler(AbstractSubscribableChannel clientInboundChannel,
+                                                        AbstractSubscribableChannel clientOutboundChannel) {
+        return new SubProtocolWebSocketHandler(clientInboundChannel, clientOutboundChannel) {
+            @Override
+            protected WebSocketSession decorateSession(WebSocketSession session) {
+                return new SlowConsumerSessionDecorator(session, getSendTimeLimit(), getSendBufferSizeLimit(),
+                        overflowPolicy, meterRegistry);
+            }
+        };
+    }
+}
@@ -1,23 +1,63 @@
 package com.Bridge.bridge.config;
 
 import com.Bridge.bridge.security.ChannelInBoundInterceptor;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.messaging.simp.config.ChannelRegistration;
 import org.springframework.messaging.simp.config.MessageBrokerRegistry;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.web.socket.config.annotation.EnableWebSocket;
-import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
 import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
 import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketTransportRegistration;
 
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+@Slf4j
 @Configuration
 @EnableWebSocket
-@EnableWebSocketMessageBroker
 @RequiredArgsConstructor
 public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
     private final ChannelInBoundInterceptor channelInboundInterceptor;
 
+    private final MeterRegistry meterRegistry;
+
+    // 클라이언트 -> 서버 프레임 처리 스레드
+    @Value("${chat.websocket.inbound.core-pool-size:8}")
+    private int inboundCorePoolSize;
+
+    @Value("${chat.websocket.inbound.max-pool-size:16}")
+    private int inboundMaxPoolSize;
+
+    @Value("${chat.websocket.inbound.queue-capacity:10000}")
+    private int inboundQueueCapacity;
+
+    // 서버 -> 클라이언트 프레임 전송 스레드
+    @Value("${chat.websocket.outbound.core-pool-size:8}")
+    private int outboundCorePoolSize;
+
+    @Value("${chat.websocket.outbound.max-pool-size:16}")
+    private int outboundMaxPoolSize;
+
+    @Value("${chat.websocket.outbound.queue-capacity:10000}")
+    private int outboundQueueCapacity;
+
+    // 세션별 전송 한도 -> 넘으면 WebSocketBrokerConfig 의 정책에 따라 처리
+    @Value("${chat.websocket.send-buffer-size-limit:524288}")
+    private int sendBufferSizeLimit;
+
+    @Value("${chat.websocket.send-time-limit:10000}")
+    private int sendTimeLimit;
+
     @Override
     public void registerStompEndpoints(StompEndpointRegistry registry) {
         registry.addEndpoint("/ws")
@@ -34,7 +74,90 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
         registry.setApplicationDestinationPrefixes("/pub");
     }
 
+    @Override
+    public void configureWebSocketTransport(WebSocketTransportRegistration registration) {
+        registration.setSendBufferSizeLimit(sendBufferSizeLimit);
+        registration.setSendTimeLimit(sendTimeLimit);
+    }
+
+    @Override
     public void configureClientInboundChannel(ChannelRegistration registration) {
         registration.interceptors(channelInboundInterceptor);
+        // 대기열이 가득 차면 프레임을 읽은 스레드에서 직접 처리 -> 보내는 클라이언트만 느려짐
+        registration.taskExecutor(channelExecutor("inbound", inboundCorePoolSize, inboundMaxPoolSize, inboundQueueCapacity,
+                new ThreadPoolExecutor.CallerRunsPolicy()));
+    }
+
+    @Override
+    public void configureClientOutboundChannel(ChannelRegistration registration) {
+        // 대기열이 가득 차면 전송 버림 -> 브로커/Kafka 리스너 스레드가 전송을 대신 처리하며 막히지 않도록
+        // 버린 메세지는 클라이언트가 sync 로 다시 받고, 계속 밀리는 세션은 SlowConsumerSessionDecorator 가 끊음
+        registration.taskExecutor(channelExecutor("outbound", outboundCorePoolSize, outboundMaxPoolSize, outboundQueueCapacity,
+                dropPolicy("outbound")));
+    }
+
+    /**
+     * 채널 스레드 풀 생성 -> 대기열 크기, 활성 스레드 수, 작업 대기/처리 시간 지표 등록
+     * 스레드가 max-pool-size 까지 늘어난 뒤에도 대기열이 가득 차면 rejectedExecutionHandler 로 처리
+     */
+    private ThreadPoolTaskExecutor channelExecutor(String channel, int corePoolSize, int maxPoolSize, int queueCapacity,
+                                                   RejectedExecutionHandler rejectedExecutionHandler) {
+        Timer waitTimer = Timer.builder("chat.websocket.channel.task.wait")
+                .tag("channel", channel)
+                .register(meterRegistry);
+        Timer executionTimer = Timer.builder("chat.websocket.channel.task.execution")
+                .tag("channel", channel)
+                .register(meterRegistry);
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix("ws-" + channel + "-");
+        executor.setCorePoolSize(corePoolSize);
+        executor.setMaxPoolSize(maxPoolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setRejectedExecutionHandler(rejectedExecutionHandler);
+        executor.setTaskDecorator(task -> {
+            long registered = System.nanoTime();
+            return () -> {
+                long started = System.nanoTime();
+                waitTimer.record(started - registered, TimeUnit.NANOSECONDS);
+                try {
+                    task.run();
+                } finally {
+                    executionTimer.record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+                }
+            };
+        });
+
+        Gauge.builder("chat.websocket.channel.queued", executor, WebSocketConfig::getQueueSize)
+                .tag("channel", channel)
+                .register(meterRegistry);
+        Gauge.builder("chat.websocket.channel.active", executor, ThreadPoolTaskExecutor::getActiveCount)
+                .tag("channel", channel)
+                .register(meterRegistry);
+        return executor;
+    }
+
+    /**
+     * 대기열이 가득 찬 작업 버림 -> 버린 개수 지표 등록
+     * 예외를 던지면 브로커가 나머지 구독자에게도 보내지 못하므로 그냥 버림
+     */
+    private RejectedExecutionHandler dropPolicy(String channel) {
+        Counter droppedCounter = Counter.builder("chat.websocket.channel.task.dropped")
+                .tag("channel", channel)
+                .register(meterRegistry);
+
+        return (task, executor) -> {
+            droppedCounter.increment();
+            log.debug("{} 채널 대기열 가득 참 -> 전송 버림 queued = {}", channel, executor.getQueue().size());
+        };
+    }
+
+    private static int getQueueSize(ThreadPoolTaskExecutor executor) {
+        try {
+            return executor.getThreadPoolExecutor().getQueue().size();
+        } catch (IllegalStateException e) {
+            // 아직 초기화 전
+            return 0;
+        }
     }
 }
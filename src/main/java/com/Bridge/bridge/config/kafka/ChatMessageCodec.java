@@ -0,0 +1,290 @@
+package com.Bridge.bridge.config.kafka;
+
+import com.Bridge.bridge.dto.request.ChatMessageRequest;
+import org.apache.kafka.common.errors.SerializationException;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.UUID;
+
+/**
+ * 채팅 메세지 바이너리 포맷
+ *
+ * [MAGIC 1byte][VERSION 1byte] 뒤에 필드마다 [TAG 1byte][LENGTH varint][VALUE] 반복
+ * - 값이 없는 필드는 쓰지 않음
+ * - UUID 형식 ID 는 36자 문자열 대신 16바이트로 저장
+ * - 모르는 TAG 는 LENGTH 만큼 건너뜀 -> 필드 추가 시 이전 버전 노드도 읽을 수 있음
+ * - 기존 필드의 의미가 바뀌는 경우에만 VERSION 을 올림
+ */
+public final class ChatMessageCodec {
+
+    public static final byte MAGIC = (byte) 0xB7;      // JSON('{') 과 구분하기 위한 첫 바이트
+
+    public static final byte VERSION = 1;
+
+    private static final int TAG_MESSAGE_ID = 1;
+    private static final int TAG_CHAT_ROOM_ID = 2;
+    private static final int TAG_TYPE = 3;
+    private static final int TAG_SENDER_ID = 4;
+    private static final int TAG_MESSAGE = 5;
+    private static final int TAG_READ_STAT = 6;
+    private static final int TAG_SEND_TIME = 7;
+    private static final int TAG_MESSAGE_UUID = 8;      // UUID 형식 ID 는 16바이트로 저장
+    private static final int TAG_CHAT_ROOM_UUID = 9;
+    private static final int TAG_SEQ = 10;
+
+    private ChatMessageCodec() {
+    }
+
+    public static boolean isBinary(byte[] data) {
+        return data != null && data.length >= 2 && data[0] == MAGIC;
+    }
+
+    public static byte[] encode(ChatMessageRequest message) {
+        // 크기를 먼저 계산해서 한 번에 할당
+        byte[] messageId = toUuidBytes(message.getMessageId());
+        byte[] messageIdText = messageId == null ? toBytes(message.getMessageId()) : null;
+        byte[] chatRoomId = toUuidBytes(message.getChatRoomId());
+        byte[] chatRoomIdText = chatRoomId == null ? toBytes(message.getChatRoomId()) : null;
+        // enum 순서가 바뀌어도 깨지지 않도록 이름으로 저장
+        byte[] type = message.getType() == null ? null : toBytes(message.getType().name());
+        byte[] content = toBytes(message.getMessage());
+        Long senderId = message.getSenderId();
+        Long seq = message.getSeq();
+        LocalDateTime sendTime = message.getSendTime();
+        long epochSecond = sendTime == null ? 0 : sendTime.toEpochSecond(ZoneOffset.UTC);
+        int nano = sendTime == null ? 0 : sendTime.getNano();
+
+        int size = 2
+                + bytesFieldSize(messageId) + bytesFieldSize(messageIdText)
+                + bytesFieldSize(chatRoomId) + bytesFieldSize(chatRoomIdText)
+                + bytesFieldSize(type) + bytesFieldSize(content)
+                + (senderId == null ? 0 : 2 + varLongSize(senderId))
+                + (seq == null ? 0 : 2 + varLongSize(seq))
+                + (message.isReadStat() ? 3 : 0)
+                + (sendTime == null ? 0 : 2 + varLongSize(epochSecond) + varLongSize(nano));
+
+        Writer writer = new Writer(size);
+        writer.data[writer.pos++] = MAGIC;
+        writer.data[writer.pos++] = VERSION;
+
+        writer.writeBytes(TAG_MESSAGE_ID, messageIdText);
+        writer.writeBytes(TAG_MESSAGE_UUID, messageId);
+        writer.writeBytes(TAG_CHAT_ROOM_ID, chatRoomIdText);
+        writer.writeBytes(TAG_CHAT_ROOM_UUID, chatRoomId);
+        if (seq != null) {
+            writer.writeLong(TAG_SEQ, seq);
+        }
+        writer.writeBytes(TAG_TYPE, type);
+        if (senderId != null) {
+            writer.writeLong(TAG_SENDER_ID, senderId);
+        }
+        writer.writeBytes(TAG_MESSAGE, content);
+        if (message.isReadStat()) {
+            writer.writeLong(TAG_READ_STAT, 1);
+        }
+        if (sendTime != null) {
+            writer.writeTime(TAG_SEND_TIME, epochSecond, nano);
+        }
+        return writer.data;
+    }
+
+    public static ChatMessageRequest decode(byte[] data) {
+        if (!isBinary(data)) {
+            throw new SerializationException("채팅 메세지 바이너리 포맷이 아닙니다.");
+        }
+        if (data[1] > VERSION) {
+            throw new SerializationException("지원하지 않는 채팅 메세지 버전입니다. version = " + data[1]);
+        }
+
+        Reader reader = new Reader(data, 2);
+        ChatMessageRequest message = new ChatMessageRequest();
+
+        while (reader.hasRemaining()) {
+            int tag = reader.data[reader.pos++] & 0xFF;
+            int length = (int) reader.readVarLong();
+            int end = reader.pos + length;
+            if (length < 0 || end > data.length) {
+                throw new SerializationException("잘못된 채팅 메세지 길이입니다. tag = " + tag);
+            }
+
+            switch (tag) {
+                case TAG_MESSAGE_ID:
+                    message.setMessageId(reader.readString(length));
+                    break;
+                case TAG_CHAT_ROOM_ID:
+                    message.setChatRoomId(reader.readString(length));
+                    break;
+                case TAG_MESSAGE_UUID:
+                    message.setMessageId(reader.readUuid(length));
+                    break;
+                case TAG_CHAT_ROOM_UUID:
+                    message.setChatRoomId(reader.readUuid(length));
+                    break;
+                case TAG_SEQ:
+                    message.setSeq(reader.readVarLong());
+                    break;
+                case TAG_TYPE:
+                    message.setType(toType(reader.readString(length)));
+                    break;
+                case TAG_SENDER_ID:
+                    message.setSenderId(reader.readVarLong());
+                    break;
+                case TAG_MESSAGE:
+                    message.setMessage(reader.readString(length));
+                    break;
+                case TAG_READ_STAT:
+                    message.setReadStat(reader.readVarLong() == 1);
+                    break;
+                case TAG_SEND_TIME:
+                    long epochSecond = reader.readVarLong();
+                    int nano = (int) reader.readVarLong();
+                    message.setSendTime(LocalDateTime.ofEpochSecond(epochSecond, nano, ZoneOffset.UTC));
+                    break;
+                default:
+                    // 이후 버전에서 추가된 필드 -> 건너뜀
+                    break;
+            }
+            reader.pos = end;
+        }
+        return message;
+    }
+
+    /**
+     * 모르는 메세지 타입은 null 로 -> 이후 버전에서 추가된 타입
+     */
+    private static ChatMessageRequest.MessageType toType(String name) {
+        for (ChatMessageRequest.MessageType type : ChatMessageRequest.MessageType.values()) {
+            if (type.name().equals(name)) {
+                return type;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 소문자 표준 UUID 문자열만 16바이트로 변환 -> 그 외에는 문자열 그대로 저장해서 원본 보존
+     */
+    private static byte[] toUuidBytes(String value) {
+        if (value == null || value.length() != 36) {
+            return null;
+        }
+        UUID uuid;
+        try {
+            uuid = UUID.fromString(value);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+        if (!uuid.toString().equals(value)) {
+            return null;
+        }
+        return ByteBuffer.allocate(16)
+                .putLong(uuid.getMostSignificantBits())
+                .putLong(uuid.getLeastSignificantBits())
+                .array();
+    }
+
+    private static byte[] toBytes(String value) {
+        return value == null ? null : value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static int bytesFieldSize(byte[] value) {
+        return value == null ? 0 : 1 + varLongSize(value.length) + value.length;
+    }
+
+    private static int varLongSize(long value) {
+        int size = 1;
+        while ((value & ~0x7FL) != 0) {
+            size++;
+            value >>>= 7;
+        }
+        return size;
+    }
+
+    private static final class Writer {
+
+        private final byte[] data;
+
+        private int pos;
+
+        private Writer(int size) {
+            this.data = new byte[size];
+        }
+
+        private void writeBytes(int tag, byte[] value) {
+            if (value == null) {
+                return;
+            }
+            data[pos++] = (byte) tag;
+            writeVarLong(value.length);
+            System.arraycopy(value, 0, data, pos, value.length);
+            pos += value.length;
+        }
+
+        private void writeLong(int tag, long value) {
+            data[pos++] = (byte) tag;
+            writeVarLong(varLongSize(value));
+            writeVarLong(value);
+        }
+
+        private void writeTime(int tag, long epochSecond, int nano) {
+            data[pos++] = (byte) tag;
+            writeVarLong(varLongSize(epochSecond) + varLongSize(nano));
+            writeVarLong(epochSecond);
+            writeVarLong(nano);
+        }
+
+        private void writeVarLong(long value) {
+            while ((value & ~0x7FL) != 0) {
+                data[pos++] = (byte) ((value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+            data[pos++] = (byte) value;
+        }
+    }
+
+    private static final class Reader {
+
+        private final byte[] data;
+
+        private int pos;
+
+        private Reader(byte[] data, int pos) {
+            this.data = data;
+            this.pos = pos;
+        }
+
+        private boolean hasRemaining() {
+            return pos < data.length;
+        }
+
+        private String readString(int length) {
+            return new String(data, pos, length, StandardCharsets.UTF_8);
+        }
+
+        private String readUuid(int length) {
+            if (length != 16) {
+                throw new SerializationException("잘못된 UUID 길이입니다. length = " + length);
+            }
+            ByteBuffer buffer = ByteBuffer.wrap(data, pos, 16);
+            return new UUID(buffer.getLong(), buffer.getLong()).toString();
+        }
+
+        private long readVarLong() {
+            long value = 0;
+            for (int shift = 0; shift < 64; shift += 7) {
+                if (pos >= data.length) {
+                    throw new SerializationException("채팅 메세지가 중간에 끊겼습니다.");
+                }
+                byte b = data[pos++];
+                value |= (long) (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) {
+                    return value;
+                }
+            }
+            throw new SerializationException("잘못된 varint 입니다.");
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.Bridge.bridge.config.kafka;
+
+import com.Bridge.bridge.dto.request.ChatMessageRequest;
+import org.apache.kafka.common.serialization.Deserializer;
+import org.springframework.kafka.support.serializer.JsonDeserializer;
+
+/**
+ * 바이너리 -> 채팅 메세지
+ * 바이너리 포맷이 아니면 JSON 으로 읽음 -> 기존 JsonSerializer 로 보낸 메세지와 섞여 있어도 처리 가능
+ */
+public class ChatMessageDeserializer implements Deserializer<ChatMessageRequest> {
+
+    private final JsonDeserializer<ChatMessageRequest> jsonDeserializer =
+            new JsonDeserializer<>(ChatMessageRequest.class, false);
+
+    @Override
+    public ChatMessageRequest deserialize(String topic, byte[] data) {
+        if (data == null) {
+            return null;
+        }
+        if (ChatMessageCodec.isBinary(data)) {
+            return ChatMessageCodec.decode(data);
+        }
+        return jsonDeserializer.deserialize(topic, data);
+    }
+
+    @Override
+    public void close() {
+        jsonDeserializer.close();
+    }
+}
@@ -0,0 +1,18 @@
+package com.Bridge.bridge.config.kafka;
+
+import com.Bridge.bridge.dto.request.ChatMessageRequest;
+import org.apache.kafka.common.serialization.Serializer;
+
+/**
+ * 채팅 메세지 -> 바이너리 (ChatMessageCodec)
+ */
+public class ChatMessageSerializer implements Serializer<ChatMessageRequest> {
+
+    @Override
+    public byte[] serialize(String topic, ChatMessageRequest data) {
+        if (data == null) {
+            return null;
+        }
+        return ChatMessageCodec.encode(data);
+    }
+}
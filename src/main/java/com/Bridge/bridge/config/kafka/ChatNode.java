@@ -0,0 +1,33 @@
+package com.Bridge.bridge.config.kafka;
+
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.util.UUID;
+
+/**
+ * 현재 서버(노드) 식별자
+ * 노드별 컨슈머 그룹, 접속 정보 복제 시 사용 -> 지정하지 않으면 호스트 이름 사용
+ */
+@Getter
+@Component
+public class ChatNode {
+
+    private final String id;
+
+    public ChatNode(@Value("${kafka.chat.node-id:}") String nodeId) {
+        this.id = (nodeId == null || nodeId.isBlank()) ? resolveHostName() : nodeId;
+    }
+
+    private String resolveHostName() {
+        try {
+            return InetAddress.getLocalHost().getHostName();
+        }
+        catch (UnknownHostException e) {
+            return UUID.randomUUID().toString();
+        }
+    }
+}
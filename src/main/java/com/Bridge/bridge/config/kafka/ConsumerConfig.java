@@ -1,17 +1,27 @@
 package com.Bridge.bridge.config.kafka;
 
+import com.Bridge.bridge.dto.request.AlarmEvent;
+import com.Bridge.bridge.dto.request.BookmarkEvictEvent;
+import com.Bridge.bridge.dto.request.ChatCacheEvictEvent;
 import com.Bridge.bridge.dto.request.ChatMessageRequest;
 
+import com.Bridge.bridge.dto.request.ChatPresenceEvent;
 import com.Bridge.bridge.util.Constant;
 import com.google.common.collect.ImmutableMap;
+import lombok.RequiredArgsConstructor;
+import org.apache.kafka.clients.admin.AdminClientConfig;
+import org.apache.kafka.clients.admin.NewTopic;
 import org.apache.kafka.common.serialization.StringDeserializer;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.kafka.annotation.EnableKafka;
 import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
+import org.springframework.kafka.config.TopicBuilder;
 import org.springframework.kafka.core.ConsumerFactory;
 
 import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
+import org.springframework.kafka.core.KafkaAdmin;
 import org.springframework.kafka.support.serializer.JsonDeserializer;
 
 import java.util.Map;
@@ -20,24 +30,208 @@ import static org.apache.kafka.clients.consumer.ConsumerConfig.*;
 
 @EnableKafka
 @Configuration
+@RequiredArgsConstructor
 public class ConsumerConfig {
 
+    private final ChatNode chatNode;
+
+    // 채팅 토픽 파티션 수 -> 채팅방 ID 키 기준으로 분산
+    @Value("${kafka.chat.partitions:3}")
+    private int partitions;
+
+    @Value("${kafka.chat.replicas:1}")
+    private short replicas;
+
+    // 리스너 컨슈머 스레드 수 -> 파티션 수보다 크면 남는 스레드는 놀게 됨
+    @Value("${kafka.chat.concurrency:3}")
+    private int concurrency;
+
+    // true 면 노드별 컨슈머 그룹 사용 -> 모든 노드가 모든 메세지를 받아 자기 구독자에게 전달
+    // false 면 기존처럼 하나의 그룹을 공유 (단일 서버 운영 시)
+    @Value("${kafka.chat.node-group:true}")
+    private boolean nodeGroup;
+
+    // kafka / local -> local 이면 브로커 없이 동작하므로 토픽 생성 안함
+    @Value("${chat.transport:kafka}")
+    private String transport;
+
     @Bean
     ConcurrentKafkaListenerContainerFactory<String, ChatMessageRequest> kafkaListenerContainerFactory() {
         ConcurrentKafkaListenerContainerFactory<String, ChatMessageRequest> factory = new ConcurrentKafkaListenerContainerFactory<>();
         factory.setConsumerFactory(consumerFactory());
+        factory.setConcurrency(Math.min(concurrency, partitions));
+        return factory;
+    }
+
+    @Bean
+    public KafkaAdmin kafkaAdmin() {
+        KafkaAdmin kafkaAdmin = new KafkaAdmin(Map.of(AdminClientConfig.BOOTSTRAP_SERVERS_CONFIG, Constant.BOOTSTRAP_SERVER));
+        kafkaAdmin.setAutoCreate("kafka".equals(transport));
+        return kafkaAdmin;
+    }
+
+    /**
+     * 채팅 토픽 생성 -> 이미 존재하고 파티션 수가 더 적으면 KafkaAdmin 이 파티션을 늘려줌
+     */
+    @Bean
+    public NewTopic chatTopic() {
+        return TopicBuilder.name(Constant.KAFKA_TOPIC)
+                .partitions(partitions)
+                .replicas(replicas)
+                .build();
+    }
+
+    /**
+     * 채팅방 접속 정보 복제 토픽 -> 순서 보장을 위해 파티션 1개
+     */
+    @Bean
+    public NewTopic chatPresenceTopic() {
+        return TopicBuilder.name(Constant.PRESENCE_TOPIC)
+                .partitions(1)
+                .replicas(replicas)
+                .build();
+    }
+
+    /**
+     * 다른 노드에 접속한 유저에게 보낼 알림 토픽
+     */
+    @Bean
+    public NewTopic alarmTopic() {
+        return TopicBuilder.name(Constant.ALARM_TOPIC)
+                .partitions(1)
+                .replicas(replicas)
+                .build();
+    }
+
+    @Bean
+    ConcurrentKafkaListenerContainerFactory<String, AlarmEvent> alarmListenerContainerFactory() {
+        ConcurrentKafkaListenerContainerFactory<String, AlarmEvent> factory = new ConcurrentKafkaListenerContainerFactory<>();
+        factory.setConsumerFactory(alarmConsumerFactory());
+        return factory;
+    }
+
+    /**
+     * 알림은 유저가 접속한 노드가 받아야 하므로 노드별 컨슈머 그룹 사용
+     */
+    @Bean
+    public ConsumerFactory<String, AlarmEvent> alarmConsumerFactory() {
+        JsonDeserializer<AlarmEvent> deserializer = new JsonDeserializer<>(AlarmEvent.class, false);
+
+        Map<String, Object> consumerConfigurations =
+                ImmutableMap.<String, Object>builder()
+                        .put(BOOTSTRAP_SERVERS_CONFIG, Constant.BOOTSTRAP_SERVER)
+                        .put(GROUP_ID_CONFIG, Constant.GROUP_ID + "-alarm-" + chatNode.getId())
+                        .put(AUTO_OFFSET_RESET_CONFIG, "latest")
+                        .build();
+
+        return new DefaultKafkaConsumerFactory<>(consumerConfigurations, new StringDeserializer(), deserializer);
+    }
+
+    /**
+     * 스크랩 캐시 삭제 토픽 -> 모든 노드가 받아서 자기 캐시 삭제
+     */
+    @Bean
+    public NewTopic bookmarkEvictTopic() {
+        return TopicBuilder.name(Constant.BOOKMARK_EVICT_TOPIC)
+                .partitions(1)
+                .replicas(replicas)
+                .build();
+    }
+
+    @Bean
+    ConcurrentKafkaListenerContainerFactory<String, BookmarkEvictEvent> bookmarkEvictListenerContainerFactory() {
+        ConcurrentKafkaListenerContainerFactory<String, BookmarkEvictEvent> factory = new ConcurrentKafkaListenerContainerFactory<>();
+        factory.setConsumerFactory(bookmarkEvictConsumerFactory());
+        return factory;
+    }
+
+    /**
+     * 모든 노드가 받아야 하므로 노드별 컨슈머 그룹 사용
+     */
+    @Bean
+    public ConsumerFactory<String, BookmarkEvictEvent> bookmarkEvictConsumerFactory() {
+        JsonDeserializer<BookmarkEvictEvent> deserializer = new JsonDeserializer<>(BookmarkEvictEvent.class, false);
+
+        Map<String, Object> consumerConfigurations =
+                ImmutableMap.<String, Object>builder()
+                        .put(BOOTSTRAP_SERVERS_CONFIG, Constant.BOOTSTRAP_SERVER)
+                        .put(GROUP_ID_CONFIG, Constant.GROUP_ID + "-bookmark-" + chatNode.getId())
+                        .put(AUTO_OFFSET_RESET_CONFIG, "latest")
+                        .build();
+
+        return new DefaultKafkaConsumerFactory<>(consumerConfigurations, new StringDeserializer(), deserializer);
+    }
+
+    /**
+     * 최근 메세지 캐시 삭제 토픽 -> 모든 노드가 받아서 자기 캐시 삭제
+     */
+    @Bean
+    public NewTopic chatCacheEvictTopic() {
+        return TopicBuilder.name(Constant.CHAT_CACHE_EVICT_TOPIC)
+                .partitions(1)
+                .replicas(replicas)
+                .build();
+    }
+
+    @Bean
+    ConcurrentKafkaListenerContainerFactory<String, ChatCacheEvictEvent> chatCacheEvictListenerContainerFactory() {
+        ConcurrentKafkaListenerContainerFactory<String, ChatCacheEvictEvent> factory = new ConcurrentKafkaListenerContainerFactory<>();
+        factory.setConsumerFactory(chatCacheEvictConsumerFactory());
         return factory;
     }
 
+    /**
+     * 모든 노드가 받아야 하므로 노드별 컨슈머 그룹 사용
+     */
+    @Bean
+    public ConsumerFactory<String, ChatCacheEvictEvent> chatCacheEvictConsumerFactory() {
+        JsonDeserializer<ChatCacheEvictEvent> deserializer = new JsonDeserializer<>(ChatCacheEvictEvent.class, false);
+
+        Map<String, Object> consumerConfigurations =
+                ImmutableMap.<String, Object>builder()
+                        .put(BOOTSTRAP_SERVERS_CONFIG, Constant.BOOTSTRAP_SERVER)
+                        .put(GROUP_ID_CONFIG, Constant.GROUP_ID + "-chat-cache-" + chatNode.getId())
+                        .put(AUTO_OFFSET_RESET_CONFIG, "latest")
+                        .build();
+
+        return new DefaultKafkaConsumerFactory<>(consumerConfigurations, new StringDeserializer(), deserializer);
+    }
+
+    @Bean
+    ConcurrentKafkaListenerContainerFactory<String, ChatPresenceEvent> presenceListenerContainerFactory() {
+        ConcurrentKafkaListenerContainerFactory<String, ChatPresenceEvent> factory = new ConcurrentKafkaListenerContainerFactory<>();
+        factory.setConsumerFactory(presenceConsumerFactory());
+        return factory;
+    }
+
+    /**
+     * 접속 정보는 모든 노드가 받아야 하므로 항상 노드별 컨슈머 그룹 사용
+     */
+    @Bean
+    public ConsumerFactory<String, ChatPresenceEvent> presenceConsumerFactory() {
+        JsonDeserializer<ChatPresenceEvent> deserializer = new JsonDeserializer<>(ChatPresenceEvent.class, false);
+
+        Map<String, Object> consumerConfigurations =
+                ImmutableMap.<String, Object>builder()
+                        .put(BOOTSTRAP_SERVERS_CONFIG, Constant.BOOTSTRAP_SERVER)
+                        .put(GROUP_ID_CONFIG, Constant.GROUP_ID + "-presence-" + chatNode.getId())
+                        .put(AUTO_OFFSET_RESET_CONFIG, "latest")
+                        .build();
+
+        return new DefaultKafkaConsumerFactory<>(consumerConfigurations, new StringDeserializer(), deserializer);
+    }
+
+    /**
+     * 채팅 메세지는 바이너리 포맷 -> JSON 으로 보낸 메세지도 함께 읽음
+     */
     @Bean
     public ConsumerFactory<String, ChatMessageRequest> consumerFactory() {
-        JsonDeserializer<ChatMessageRequest> deserializer = new JsonDeserializer<>();
-        deserializer.addTrustedPackages("*");
+        ChatMessageDeserializer deserializer = new ChatMessageDeserializer();
 
         Map<String, Object> consumerConfigurations =
                 ImmutableMap.<String, Object>builder()
                         .put(BOOTSTRAP_SERVERS_CONFIG, Constant.BOOTSTRAP_SERVER)
-                        .put(GROUP_ID_CONFIG, Constant.GROUP_ID)
+                        .put(GROUP_ID_CONFIG, groupId())
                         .put(KEY_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class)
                         .put(VALUE_DESERIALIZER_CLASS_CONFIG, deserializer)
                         .put(AUTO_OFFSET_RESET_CONFIG, "latest")
@@ -45,4 +239,14 @@ public class ConsumerConfig {
 
         return new DefaultKafkaConsumerFactory<>(consumerConfigurations, new StringDeserializer(), deserializer);
     }
+
+    /**
+     * 컨슈머 그룹 ID
+     */
+    private String groupId() {
+        if (!nodeGroup) {
+            return Constant.GROUP_ID;
+        }
+        return Constant.GROUP_ID + "-" + chatNode.getId();
+    }
 }
@@ -1,9 +1,14 @@
 package com.Bridge.bridge.config.kafka;
 
+import com.Bridge.bridge.dto.request.AlarmEvent;
+import com.Bridge.bridge.dto.request.BookmarkEvictEvent;
+import com.Bridge.bridge.dto.request.ChatCacheEvictEvent;
 import com.Bridge.bridge.dto.request.ChatMessageRequest;
+import com.Bridge.bridge.dto.request.ChatPresenceEvent;
 import com.Bridge.bridge.util.Constant;
 import com.google.common.collect.ImmutableMap;
 import org.apache.kafka.common.serialization.StringSerializer;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.kafka.annotation.EnableKafka;
@@ -12,6 +17,7 @@ import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.kafka.core.ProducerFactory;
 import org.springframework.kafka.support.serializer.JsonSerializer;
 
+import java.util.HashMap;
 import java.util.Map;
 
 import static org.apache.kafka.clients.producer.ProducerConfig.*;
@@ -20,9 +26,33 @@ import static org.apache.kafka.clients.producer.ProducerConfig.*;
 @Configuration
 public class ProducerConfig {
 
+    // 채팅 메세지 값 포맷 (binary / json)
+    // 컨슈머는 두 포맷 모두 읽을 수 있으므로 모든 노드 배포 후 binary 로 전환
+    @Value("${kafka.chat.codec:binary}")
+    private String codec;
+
+    // 중복 전송 방지 -> acks=all 필요
+    @Value("${kafka.producer.idempotence:true}")
+    private boolean idempotence;
+
+    // 배치를 모으기 위해 기다리는 시간
+    @Value("${kafka.producer.linger-ms:5}")
+    private int lingerMs;
+
+    @Value("${kafka.producer.batch-size:65536}")
+    private int batchSize;
+
+    // none, lz4, zstd ...
+    @Value("${kafka.producer.compression-type:lz4}")
+    private String compressionType;
+
     @Bean
     public ProducerFactory<String, ChatMessageRequest> producerFactory() {
-        return new DefaultKafkaProducerFactory<>(producerConfigurations());
+        Map<String, Object> configurations = new HashMap<>(producerConfigurations());
+        if ("binary".equalsIgnoreCase(codec)) {
+            configurations.put(VALUE_SERIALIZER_CLASS_CONFIG, ChatMessageSerializer.class);
+        }
+        return new DefaultKafkaProducerFactory<>(configurations);
     }
 
     @Bean
@@ -31,6 +61,11 @@ public class ProducerConfig {
                 .put(BOOTSTRAP_SERVERS_CONFIG, Constant.BOOTSTRAP_SERVER)
                 .put(KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class)
                 .put(VALUE_SERIALIZER_CLASS_CONFIG, JsonSerializer.class)
+                .put(ENABLE_IDEMPOTENCE_CONFIG, idempotence)
+                .put(ACKS_CONFIG, idempotence ? "all" : "1")
+                .put(LINGER_MS_CONFIG, lingerMs)
+                .put(BATCH_SIZE_CONFIG, batchSize)
+                .put(COMPRESSION_TYPE_CONFIG, compressionType)
                 .build();
     }
 
@@ -38,4 +73,44 @@ public class ProducerConfig {
     public KafkaTemplate<String, ChatMessageRequest> kafkaTemplate() {
         return new KafkaTemplate<>(producerFactory());
     }
+
+    @Bean
+    public ProducerFactory<String, ChatPresenceEvent> presenceProducerFactory() {
+        return new DefaultKafkaProducerFactory<>(producerConfigurations());
+    }
+
+    @Bean
+    public KafkaTemplate<String, ChatPresenceEvent> presenceKafkaTemplate() {
+        return new KafkaTemplate<>(presenceProducerFactory());
+    }
+
+    @Bean
+    public ProducerFactory<String, AlarmEvent> alarmProducerFactory() {
+        return new DefaultKafkaProducerFactory<>(producerConfigurations());
+    }
+
+    @Bean
+    public KafkaTemplate<String, AlarmEvent> alarmKafkaTemplate() {
+        return new KafkaTemplate<>(alarmProducerFactory());
+    }
+
+    @Bean
+    public ProducerFactory<String, BookmarkEvictEvent> bookmarkEvictProducerFactory() {
+        return new DefaultKafkaProducerFactory<>(producerConfigurations());
+    }
+
+    @Bean
+    public KafkaTemplate<String, BookmarkEvictEvent> bookmarkEvictKafkaTemplate() {
+        return new KafkaTemplate<>(bookmarkEvictProducerFactory());
+    }
+
+    @Bean
+    public ProducerFactory<String, ChatCacheEvictEvent> chatCacheEvictProducerFactory() {
+        return new DefaultKafkaProducerFactory<>(producerConfigurations());
+    }
+
+    @Bean
+    public KafkaTemplate<String, ChatCacheEvictEvent> chatCacheEvictKafkaTemplate() {
+        return new KafkaTemplate<>(chatCacheEvictProducerFactory());
+    }
 }
@@ -1,7 +1,9 @@
 package com.Bridge.bridge.controller;
 
 import com.Bridge.bridge.dto.request.ChatRoomRequest;
+import com.Bridge.bridge.dto.response.ChatHistoryPageResponse;
 import com.Bridge.bridge.dto.response.ChatHistoryResponse;
+import com.Bridge.bridge.dto.response.ChatSyncResponse;
 import com.Bridge.bridge.dto.response.ChatListResponse;
 import com.Bridge.bridge.dto.response.ChatMessageResponse;
 import com.Bridge.bridge.dto.response.ChatRoomResponse;
@@ -39,8 +41,10 @@ public class ChatController {
      * 채팅방 목록 조회
      */
     @GetMapping("/chat/{userId}")
-    public ResponseEntity<?> getChatList(@PathVariable Long userId) {
-        List<ChatListResponse> allChat = chatService.findAllChat(userId);
+    public ResponseEntity<?> getChatList(@PathVariable Long userId,
+                                         @RequestParam(value = "page", required = false) Integer page,
+                                         @RequestParam(value = "size", required = false) Integer size) {
+        List<ChatListResponse> allChat = chatService.findAllChat(userId, page, size);
         return ResponseEntity.ok(allChat);
     }
 
@@ -53,6 +57,39 @@ public class ChatController {
         return ResponseEntity.ok(chatHistory);
     }
 
+    /**
+     * 채팅방 기록 조회 (커서 기반 페이징)
+     */
+    @GetMapping("/chat/history")
+    public ResponseEntity<?> getChatHistory(@RequestParam("chatRoomId") String chatRoomId,
+                                            @RequestParam(value = "before", required = false) String before,
+                                            @RequestParam(value = "size", required = false) Integer size) {
+        ChatHistoryPageResponse chatHistory = chatService.getChatHistory(chatRoomId, before, size);
+        return ResponseEntity.ok(chatHistory);
+    }
+
+    /**
+     * 재접속 동기화 -> 최근 채팅방들의 since(이전 응답의 cursor) 이후 메세지와 읽음 상태
+     */
+    @GetMapping("/chat/sync")
+    public ResponseEntity<?> syncChat(@RequestParam("userId") Long userId,
+                                      @RequestParam(value = "since", required = false) String since,
+                                      @RequestParam(value = "size", required = false) Integer size) {
+        ChatSyncResponse chatSync = chatService.syncChat(userId, since, size);
+        return ResponseEntity.ok(chatSync);
+    }
+
+    /**
+     * 채팅방 기록 순번 범위 조회 -> 빠진 메세지만 조회
+     */
+    @GetMapping("/chat/history/range")
+    public ResponseEntity<?> getChatHistoryRange(@RequestParam("chatRoomId") String chatRoomId,
+                                                 @RequestParam("fromSeq") long fromSeq,
+                                                 @RequestParam("toSeq") long toSeq) {
+        ChatHistoryResponse chatHistory = chatService.getChatHistory(chatRoomId, fromSeq, toSeq);
+        return ResponseEntity.ok(chatHistory);
+    }
+
     /**
      * 채팅방 나가기
      */
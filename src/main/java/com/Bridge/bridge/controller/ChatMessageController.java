@@ -2,7 +2,6 @@ package com.Bridge.bridge.controller;
 
 import com.Bridge.bridge.dto.request.ChatMessageRequest;
 import com.Bridge.bridge.service.ChatService;
-import com.google.firebase.messaging.FirebaseMessagingException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.messaging.handler.annotation.MessageMapping;
@@ -28,12 +27,22 @@ public class ChatMessageController {
      * 채팅방에 메세지 보내는 경우 (입장 메세지는 따로 구현 x)
      */
     @MessageMapping("/chat/message")
-    public void sendMessage(ChatMessageRequest chatMessageRequest) throws FirebaseMessagingException {
+    public void sendMessage(ChatMessageRequest chatMessageRequest) {
         log.info("message = {}", chatMessageRequest.getMessage());
 
+        // 읽음 이벤트는 서버에서만 발행
+        if (chatMessageRequest.getType() == ChatMessageRequest.MessageType.READ) {
+            return;
+        }
+
         //메세지 저장
         ChatMessageRequest messageRequest = chatService.saveMessage(chatMessageRequest);
 
+        // 이미 받은 메세지 (재전송) -> 다시 보내지 않음
+        if (messageRequest == null) {
+            return;
+        }
+
         //메세지 클라이언트로 전송
         chatService.sendMesssage(messageRequest);
     }
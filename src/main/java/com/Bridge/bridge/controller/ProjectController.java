@@ -1,11 +1,12 @@
 package com.Bridge.bridge.controller;
 
+import com.Bridge.bridge.domain.SearchMode;
 import com.Bridge.bridge.dto.request.*;
 import com.Bridge.bridge.dto.response.*;
 import com.Bridge.bridge.security.JwtTokenProvider;
 import com.Bridge.bridge.service.AlarmService;
 import com.Bridge.bridge.service.ProjectService;
-import com.google.firebase.messaging.FirebaseMessagingException;
+import com.Bridge.bridge.service.SearchSuggester;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
@@ -23,7 +24,12 @@ import java.util.Map;
 @RequiredArgsConstructor
 public class ProjectController {
 
+    private static final int DEFAULT_SUGGEST_SIZE = 10;      // 추천 검색어 기본 개수
+
+    private static final int MAX_SUGGEST_SIZE = 20;          // 추천 검색어 최대 개수
+
     private final ProjectService projectService;
+    private final SearchSuggester searchSuggester;
     private final AlarmService alarmService;
     private final JwtTokenProvider jwtTokenProvider;
 
@@ -46,15 +52,31 @@ public class ProjectController {
 
     // 검색어 기준으로 프로젝트 모집글 조회
     @PostMapping("/projects/searchWord")
-    @Operation(summary = "검색어로 프로젝트 모집글 조회 기능", description = "검색어를 입력하면 검색어가 포함된 제목이나 내용을 가진 모집글을 조회할 수 있다.")
+    @Operation(summary = "검색어로 프로젝트 모집글 조회 기능", description = "검색어를 입력하면 검색어가 포함된 제목이나 내용을 가진 모집글을 조회할 수 있다. mode=TITLE 이면 제목을 초성이나 오타 한 글자까지 허용해서 조회한다.")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "모집글 조회 완료"),
             @ApiResponse(responseCode = "400", description = "모집글 조회 실패"),
             @ApiResponse(responseCode = "401", description = "인증 실패 (Unauthorized)"),
             @ApiResponse(responseCode = "404", description = "유저 찾기 실패")
     })
-    public List<ProjectListResponse> searchProject(HttpServletRequest request, @RequestBody SearchWordRequest searchWord){
-        return projectService.findByTitleAndContent(request, searchWord.getSearchWord());
+    public ProjectListPageResponse searchProject(HttpServletRequest request, @RequestBody SearchWordRequest searchWord,
+                                                 @RequestParam(value = "mode", required = false) SearchMode mode,
+                                                 @RequestParam(value = "after", required = false) String after,
+                                                 @RequestParam(value = "size", required = false) Integer size){
+        return projectService.findByTitleAndContent(request, searchWord.getSearchWord(), mode, after, size);
+    }
+
+    // 검색어 자동완성 -> 검색어를 저장하지 않고 DB 도 조회하지 않음
+    @GetMapping("/projects/suggestions")
+    @Operation(summary = "검색어 자동완성 기능", description = "입력 중인 검색어로 시작하는 모집글 제목과 많이 검색된 검색어를 추천 순으로 조회할 수 있다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "추천 검색어 조회 완료"),
+            @ApiResponse(responseCode = "400", description = "추천 검색어 조회 실패")
+    })
+    public List<String> suggestSearchWord(@RequestParam String prefix,
+                                          @RequestParam(value = "size", required = false) Integer size){
+        int limit = size == null || size <= 0 ? DEFAULT_SUGGEST_SIZE : Math.min(size, MAX_SUGGEST_SIZE);
+        return searchSuggester.suggest(prefix, limit);
     }
 
     // 프로젝트 모집글 삭제
@@ -110,8 +132,10 @@ public class ProjectController {
             @ApiResponse(responseCode = "200", description = "모집글 필터링 조회 완료"),
             @ApiResponse(responseCode = "400", description = "모집글 필터링 조회 실패")
     })
-    public List<ProjectListResponse> filterProjects(HttpServletRequest request, @RequestBody FilterRequest filterRequest){
-        return projectService.filterProjectList(request, filterRequest);
+    public ProjectListPageResponse filterProjects(HttpServletRequest request, @RequestBody FilterRequest filterRequest,
+                                                  @RequestParam(value = "after", required = false) String after,
+                                                  @RequestParam(value = "size", required = false) Integer size){
+        return projectService.filterProjectList(request, filterRequest, after, size);
     }
 
 
@@ -136,8 +160,10 @@ public class ProjectController {
             @ApiResponse(responseCode = "400", description = "전체 모집글 조회 실패"),
             @ApiResponse(responseCode = "404", description = "모집글이 존재하지 않는다.")
     })
-    public List<ProjectListResponse> allProjects(@RequestParam(required = false) Long userId){
-        return projectService.allProjects(userId);
+    public ProjectListPageResponse allProjects(@RequestParam(required = false) Long userId,
+                                               @RequestParam(value = "after", required = false) String after,
+                                               @RequestParam(value = "size", required = false) Integer size){
+        return projectService.allProjects(userId, after, size);
     }
 
     // 내 분야 프로젝트 모집글 불러오기
@@ -149,8 +175,10 @@ public class ProjectController {
             @ApiResponse(responseCode = "401", description = "인증 실패 (Unauthorized)"),
             @ApiResponse(responseCode = "404", description = "유저 찾기 실패 OR 모집글 찾기 실패")
     })
-    public List<ProjectListResponse> findMyPartProjects(HttpServletRequest request, @RequestBody MyPartProjectRequest myPartProjectRequest){
-        return projectService.findMyPartProjects(request, myPartProjectRequest.getPart());
+    public ProjectListPageResponse findMyPartProjects(HttpServletRequest request, @RequestBody MyPartProjectRequest myPartProjectRequest,
+                                                      @RequestParam(value = "after", required = false) String after,
+                                                      @RequestParam(value = "size", required = false) Integer size){
+        return projectService.findMyPartProjects(request, myPartProjectRequest.getPart(), after, size);
     }
 
     // 모집글 마감하기
@@ -194,7 +222,7 @@ public class ProjectController {
      * 프로젝트 지원하기
      */
     @PostMapping("/projects/apply")
-    public ResponseEntity<?> applyProjects(HttpServletRequest request, @RequestParam("projectId") Long projectId) throws FirebaseMessagingException{
+    public ResponseEntity<?> applyProjects(HttpServletRequest request, @RequestParam("projectId") Long projectId) {
         boolean result = projectService.apply(request, projectId);
 
         // 모집자에게 지원자 발생 알림 보내기
@@ -226,7 +254,7 @@ public class ProjectController {
      */
     @PutMapping("/projects/accept")
     public ResponseEntity<?> acceptApply(@RequestParam("userId") Long userId,
-                                         @RequestParam("projectId") Long projectId) throws FirebaseMessagingException {
+                                         @RequestParam("projectId") Long projectId) {
 
         projectService.acceptApply(projectId, userId);
 
@@ -241,7 +269,7 @@ public class ProjectController {
      */
     @PutMapping("/projects/reject")
     public ResponseEntity<?> rejectApply(@RequestParam("userId") Long userId,
-                                         @RequestParam("projectId") Long projectId) throws FirebaseMessagingException {
+                                         @RequestParam("projectId") Long projectId) {
 
         projectService.rejectApply(projectId, userId);
 
@@ -3,14 +3,17 @@ package com.Bridge.bridge.domain;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.DynamicUpdate;
 
 import javax.persistence.*;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 
 @Entity
 @Getter
 @NoArgsConstructor
+@DynamicUpdate      // 채팅방 요약 정보는 MessageBatchWriter 가 직접 갱신 -> 변경된 컬럼만 UPDATE 해서 덮어쓰지 않도록
 public class Chat {
 
     @Id
@@ -20,8 +23,6 @@ public class Chat {
 
     private String chatRoomId; // 채팅방 고유 ID
 
-    private boolean connectStat; // 접속 여부 -> false 면 둘 다 접속 or 모두 접속 안한 상태 / true 면 한 명만 접근
-
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(referencedColumnName = "user_id", name = "make_user_id")
     private User makeUser;      // 채팅방 만든 사람
@@ -33,11 +34,28 @@ public class Chat {
     @OneToMany(mappedBy = "chat", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<Message> messages = new ArrayList<>();     // 해당 채팅방이 담고있는 메세지 목록
 
+    //--채팅방 목록용 요약 정보 (메세지 저장 / 읽음 처리 시 갱신)--//
+    private String lastMessage;             // 마지막 메세지 내용
+
+    private String lastMessageType;         // 마지막 메세지 타입
+
+    private LocalDateTime lastMessageTime;  // 마지막 메세지 보낸 시간
+
+    private int makeUserNotReadCnt;         // 채팅방 만든 사람이 안 읽은 메세지 수
+
+    private int receiveUserNotReadCnt;      // 채팅방 참가한 사람이 안 읽은 메세지 수
+
+    private long lastSeq;                   // 마지막으로 발급한 순번 블록의 끝 (ChatSequenceGenerator 에서 쿼리로만 갱신)
+
+    //--읽음 위치 (이 순번 이하의 메세지는 모두 읽음) -> 메세지 ID 는 여러 노드에서 커밋되는 순서와 다를 수 있음--//
+    private Long makeUserLastReadSeq;       // 채팅방 만든 사람이 마지막으로 읽은 메세지 순번
+
+    private Long receiveUserLastReadSeq;    // 채팅방 참가한 사람이 마지막으로 읽은 메세지 순번
+
     @Builder
     public Chat(String chatRoomId) {
 
         this.chatRoomId = chatRoomId;
-        this.connectStat = false;
     }
 
     //--연관관계 메소드--//
@@ -49,14 +67,54 @@ public class Chat {
         receiver.getJoinChat().add(this);
     }
 
-    public boolean changeConnectStat() {
-        // 1명이 접속하면 True 로 변경
-        if (this.connectStat == false) {
-            this.connectStat = true;
-            return this.connectStat;
+    /**
+     * 메세지를 상대방이 읽었는지 여부
+     * 저장 시점에 상대방이 접속해 있었거나, 상대방의 읽음 위치 이전의 메세지면 읽음
+     * 순번 없는 메세지(순번 도입 전)는 상대방이 한 번이라도 읽었으면 읽음
+     */
+    public boolean isRead(Message message) {
+        if (message.isReadStat()) {
+            return true;
+        }
+
+        boolean writtenByMaker = makeUser != null && makeUser.getId().equals(message.getWriterId());
+        Long lastReadSeq = writtenByMaker ? receiveUserLastReadSeq : makeUserLastReadSeq;
+        if (lastReadSeq == null) {
+            return false;
+        }
+        return message.getSeq() == null || message.getSeq() <= lastReadSeq;
+    }
+
+    /**
+     * 해당 참여자의 안 읽은 메세지 수
+     */
+    public int getNotReadCnt(Long userId) {
+        if (makeUser != null && makeUser.getId().equals(userId)) {
+            return makeUserNotReadCnt;
+        }
+        return receiveUserNotReadCnt;
+    }
+
+    /**
+     * 상대방 참여자 ID
+     */
+    public Long getPeerId(Long userId) {
+        if (makeUser != null && makeUser.getId().equals(userId)) {
+            return receiveUser == null ? null : receiveUser.getId();
+        }
+        return makeUser == null ? null : makeUser.getId();
+    }
+
+    /**
+     * 해당 참여자가 마지막으로 읽은 메세지 순번
+     */
+    public Long getLastReadSeq(Long userId) {
+        if (makeUser != null && makeUser.getId().equals(userId)) {
+            return makeUserLastReadSeq;
+        }
+        if (receiveUser != null && receiveUser.getId().equals(userId)) {
+            return receiveUserLastReadSeq;
         }
-        // 2명 다 접속 중인 경우 False 로 변경
-        this.connectStat = false;
-        return this.connectStat;
+        return null;
     }
 }
@@ -12,6 +12,11 @@ import java.time.LocalTime;
 @Entity
 @Getter
 @NoArgsConstructor
+@Table(indexes = @Index(name = "idx_message_chat_send_time", columnList = "chat_id, send_date_time, message_id"),
+        uniqueConstraints = {
+                @UniqueConstraint(name = "uk_message_chat_uu_id", columnNames = {"chat_id", "message_uu_id"}),
+                @UniqueConstraint(name = "uk_message_chat_seq", columnNames = {"chat_id", "seq"})
+        })
 public class Message {
 
     @Id
@@ -21,6 +26,8 @@ public class Message {
 
     private String messageUuId;       // 클라이언트에서 생성한 매새자 고유 ID
 
+    private Long seq;               // 채팅방 내 메세지 순번 (1부터 증가)
+
     private String content;         // 메세지 내용
 
     private Long writerId;          // 메세지 보낸 사람 ID
@@ -36,8 +43,9 @@ public class Message {
     private Chat chat;              // 해당 메세지가 포함된 채팅방
 
     @Builder
-    public Message(String messageUuId, String content, Long writerId, LocalDateTime sendDateTime,boolean readStat, String type, Chat chat) {
+    public Message(String messageUuId, Long seq, String content, Long writerId, LocalDateTime sendDateTime,boolean readStat, String type, Chat chat) {
         this.messageUuId = messageUuId;
+        this.seq = seq;
         this.content = content;
         this.writerId = writerId;
         this.sendDateTime = sendDateTime;
@@ -46,8 +54,4 @@ public class Message {
         this.chat = chat;
     }
 
-    public void changeReadStat() {
-        this.readStat = true;
-    }
-
 }
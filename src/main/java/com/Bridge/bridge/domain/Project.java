@@ -3,6 +3,7 @@ package com.Bridge.bridge.domain;
 import com.Bridge.bridge.dto.request.ProjectUpdateRequest;
 import com.Bridge.bridge.dto.response.PartResponse;
 import com.Bridge.bridge.dto.response.ProjectResponse;
+import com.Bridge.bridge.service.ProjectIndexListener;
 import com.fasterxml.jackson.annotation.JsonManagedReference;
 import lombok.Builder;
 import lombok.Getter;
@@ -17,6 +18,7 @@ import java.util.stream.Collectors;
 @Entity
 @Getter
 @NoArgsConstructor
+@EntityListeners(ProjectIndexListener.class)
 public class Project {
 
     @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -0,0 +1,14 @@
+package com.Bridge.bridge.domain;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum SearchMode {
+
+    CONTENT("제목 + 개요"),
+    TITLE("제목 (초성, 오타 허용)");
+
+    private final String value;
+}
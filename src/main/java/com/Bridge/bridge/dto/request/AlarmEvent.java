@@ -0,0 +1,42 @@
+package com.Bridge.bridge.dto.request;
+
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 접속 중인 유저에게 STOMP 로 보내는 알림 (/sub/user/{userId}/alarms)
+ * 다른 노드에 접속한 유저에게는 Kafka 로 전달
+ */
+@Data
+@NoArgsConstructor
+public class AlarmEvent {
+
+    private String nodeId;          // 이벤트를 보낸 노드 ID
+
+    private Long userId;            // 알림 받을 유저 ID
+
+    private String type;            // 알림 타입 (Apply, Applier, Chat)
+
+    private String title;           // 알림 제목
+
+    private String body;            // 알림 내용
+
+    private LocalDateTime sendTime; // 알림 생성 시간
+
+    private String fallbackNodeId;  // 받은 노드에 유저가 없으면 FCM 으로 대신 보낼 노드 ID
+
+    @Builder
+    public AlarmEvent(String nodeId, Long userId, String type, String title, String body, LocalDateTime sendTime,
+                      String fallbackNodeId) {
+        this.nodeId = nodeId;
+        this.userId = userId;
+        this.type = type;
+        this.title = title;
+        this.body = body;
+        this.sendTime = sendTime;
+        this.fallbackNodeId = fallbackNodeId;
+    }
+}
@@ -0,0 +1,23 @@
+package com.Bridge.bridge.dto.request;
+
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 스크랩 변경 시 다른 노드의 스크랩 캐시 삭제 이벤트
+ */
+@Data
+@NoArgsConstructor
+public class BookmarkEvictEvent {
+
+    private String nodeId;          // 이벤트를 보낸 노드 ID
+
+    private Long userId;            // 스크랩을 변경한 유저 ID
+
+    @Builder
+    public BookmarkEvictEvent(String nodeId, Long userId) {
+        this.nodeId = nodeId;
+        this.userId = userId;
+    }
+}
@@ -0,0 +1,26 @@
+package com.Bridge.bridge.dto.request;
+
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+public class ChatAlarmRequest {
+
+    private String chatRoomId;      // 채팅방 ID
+
+    private Long senderId;          // 메세지 보낸 유저
+
+    private Long receiverId;        // 알림 받을 유저
+
+    private String message;         // 채팅 내용 -> 여러 메세지를 묶은 경우 마지막 메세지
+
+    private int count = 1;          // 묶인 메세지 수
+
+    @Builder
+    public ChatAlarmRequest(String chatRoomId, Long senderId, Long receiverId, String message) {
+        this.chatRoomId = chatRoomId;
+        this.senderId = senderId;
+        this.receiverId = receiverId;
+        this.message = message;
+    }
+}
@@ -0,0 +1,23 @@
+package com.Bridge.bridge.dto.request;
+
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 채팅방 삭제 시 다른 노드의 최근 메세지 캐시 삭제 이벤트
+ */
+@Data
+@NoArgsConstructor
+public class ChatCacheEvictEvent {
+
+    private String nodeId;          // 이벤트를 보낸 노드 ID
+
+    private String chatRoomId;      // 삭제한 채팅방 ID
+
+    @Builder
+    public ChatCacheEvictEvent(String nodeId, String chatRoomId) {
+        this.nodeId = nodeId;
+        this.chatRoomId = chatRoomId;
+    }
+}
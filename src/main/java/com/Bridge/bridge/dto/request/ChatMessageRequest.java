@@ -1,6 +1,5 @@
 package com.Bridge.bridge.dto.request;
 
-import com.Bridge.bridge.dto.response.ChatHistoryResponse;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -15,13 +14,16 @@ import java.time.LocalDateTime;
 public class ChatMessageRequest implements Serializable {
 
     public enum MessageType {
-        TALK, ACCEPT, REJECT;
+        TALK, ACCEPT, REJECT,
+        READ;   // 읽음 이벤트 -> senderId 가 messageId(seq) 까지 읽음
     }
 
     private String messageId;   // 메세지 고유 ID
 
     private String chatRoomId;  // 채팅방 ID
 
+    private Long seq;           // 채팅방 내 메세지 순번 (서버에서 발급)
+
     private MessageType type;   // 메세지 타입
 
     private Long senderId;      // 메세지 보낸 사람 ID
@@ -32,18 +34,16 @@ public class ChatMessageRequest implements Serializable {
 
     private LocalDateTime sendTime;     // 메세지 보낸시간
 
-    private ChatHistoryResponse chatHistory;
-
     @Builder
-    public ChatMessageRequest(String messageId, String chatRoomId, MessageType type, Long senderId,
-                              String message, boolean readStat, LocalDateTime sendTime, ChatHistoryResponse chatHistory) {
+    public ChatMessageRequest(String messageId, String chatRoomId, Long seq, MessageType type, Long senderId,
+                              String message, boolean readStat, LocalDateTime sendTime) {
         this.messageId = messageId;
         this.chatRoomId = chatRoomId;
+        this.seq = seq;
         this.type = type;
         this.senderId = senderId;
         this.message = message;
         this.readStat = readStat;
         this.sendTime = sendTime;
-        this.chatHistory = chatHistory;
     }
 }
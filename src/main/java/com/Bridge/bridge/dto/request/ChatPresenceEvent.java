@@ -0,0 +1,39 @@
+package com.Bridge.bridge.dto.request;
+
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 노드 간 채팅방 접속 정보 복제용 이벤트
+ */
+@Data
+@NoArgsConstructor
+public class ChatPresenceEvent {
+
+    public enum EventType {
+        ENTER, LEAVE, SNAPSHOT;
+    }
+
+    private String nodeId;          // 이벤트를 보낸 노드 ID
+
+    private EventType type;         // 이벤트 타입
+
+    private String chatRoomId;      // ENTER / LEAVE 대상 채팅방 ID
+
+    private Long userId;            // ENTER / LEAVE 대상 유저 ID
+
+    private Map<String, Set<Long>> rooms;   // SNAPSHOT -> 보낸 노드의 채팅방별 접속 유저 전체
+
+    @Builder
+    public ChatPresenceEvent(String nodeId, EventType type, String chatRoomId, Long userId, Map<String, Set<Long>> rooms) {
+        this.nodeId = nodeId;
+        this.type = type;
+        this.chatRoomId = chatRoomId;
+        this.userId = userId;
+        this.rooms = rooms;
+    }
+}
@@ -14,10 +14,13 @@ public class NotificationRequest {
 
     String body;                // 알림 내용
 
+    String type;                // 알림 타입 (Apply, Applier, Chat)
+
     @Builder
-    public NotificationRequest(Long userId, String title, String body) {
+    public NotificationRequest(Long userId, String title, String body, String type) {
         this.userId = userId;
         this.title = title;
         this.body = body;
+        this.type = type;
     }
 }
@@ -0,0 +1,23 @@
+package com.Bridge.bridge.dto.response;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+public class ChatHistoryPageResponse {
+
+    private List<ChatMessageResponse> chatHistory;   // 채팅 기록 (오래된 순)
+
+    private String before;          // 다음(이전) 페이지 조회용 커서 -> 더 없으면 null
+
+    private boolean hasNext;        // 이전 메세지 존재 여부
+
+    public ChatHistoryPageResponse(List<ChatMessageResponse> chatHistory, String before, boolean hasNext) {
+        this.chatHistory = chatHistory;
+        this.before = before;
+        this.hasNext = hasNext;
+    }
+}
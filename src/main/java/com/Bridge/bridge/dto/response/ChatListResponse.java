@@ -1,14 +1,10 @@
 package com.Bridge.bridge.dto.response;
 
 import com.Bridge.bridge.domain.Chat;
-import com.Bridge.bridge.domain.Message;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
-import java.time.LocalDate;
 import java.time.LocalDateTime;
-import java.time.LocalTime;
-import java.util.stream.Collectors;
 
 @Data
 @NoArgsConstructor
@@ -30,33 +26,20 @@ public class ChatListResponse {
 
     private Long receiverId;
 
-    public ChatListResponse(Chat chat, boolean person) {
+    public ChatListResponse(Chat chat, Long userId) {
         this.roomId = chat.getChatRoomId();
         this.makerId = chat.getMakeUser().getId();
         this.receiverId = chat.getReceiveUser().getId();
-        if (person) {
-            Long receiveId = chat.getReceiveUser().getId();
-            String receiveName = chat.getReceiveUser().getName();
-            this.roomName = receiveName;    // person이 0이면 지원자 이름
-            this.notReadMessageCnt = chat.getMessages().stream()
-                    .filter(m -> m.getWriterId() == receiveId)
-                    .filter(m -> m.isReadStat()==false)
-                    .collect(Collectors.toList()).size();
+        if (this.makerId.equals(userId)) {
+            this.roomName = chat.getReceiveUser().getName();    // 내가 만든 채팅방이면 지원자 이름
+            this.notReadMessageCnt = chat.getMakeUserNotReadCnt();
         }
         else {
-            Long makerId = chat.getMakeUser().getId();
-            String makerName = chat.getMakeUser().getName();
-            this.roomName = makerName;       // person이 1이면 모집자 이름
-            this.notReadMessageCnt = chat.getMessages().stream()
-                    .filter(m -> m.getWriterId() == makerId)
-                    .filter(m -> m.isReadStat()==false)
-                    .collect(Collectors.toList()).size();
-        }
-        if(!chat.getMessages().isEmpty()) {
-            Message message = chat.getMessages().get(chat.getMessages().size() - 1);
-            this.lastMessage = message.getContent();
-            this.type = message.getType();
-            this.lastTime = message.getSendDateTime();
+            this.roomName = chat.getMakeUser().getName();       // 내가 참여한 채팅방이면 모집자 이름
+            this.notReadMessageCnt = chat.getReceiveUserNotReadCnt();
         }
+        this.lastMessage = chat.getLastMessage();
+        this.type = chat.getLastMessageType();
+        this.lastTime = chat.getLastMessageTime();
     }
 }
@@ -15,6 +15,8 @@ public class ChatMessageResponse {
 
     private String messageId;        // 채팅 메세지 ID
 
+    private Long seq;                // 채팅방 내 메세지 순번
+
     private String type;             // 채팅 타입
 
     private String content;          //채팅 내용
@@ -27,10 +29,16 @@ public class ChatMessageResponse {
 
     public ChatMessageResponse(Message message) {
         this.messageId = message.getMessageUuId();
+        this.seq = message.getSeq();
         this.type = message.getType();
         this.content = message.getContent();
         this.senderId = message.getWriterId();
         this.sendTime = message.getSendDateTime();
         this.readStat = message.isReadStat();
     }
+
+    public ChatMessageResponse(Message message, boolean readStat) {
+        this(message);
+        this.readStat = readStat;
+    }
 }
@@ -0,0 +1,26 @@
+package com.Bridge.bridge.dto.response;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+public class ChatRoomSyncResponse {
+
+    private String chatRoomId;
+
+    private List<ChatMessageResponse> messages;     // since 이후 메세지 (오래된 순)
+
+    private Long peerLastReadSeq;       // 상대방이 마지막으로 읽은 메세지 순번 -> 이 순번까지 내 메세지 읽음
+
+    private int notReadMessageCnt;      // 내가 안 읽은 메세지 수
+
+    public ChatRoomSyncResponse(String chatRoomId, List<ChatMessageResponse> messages, Long peerLastReadSeq, int notReadMessageCnt) {
+        this.chatRoomId = chatRoomId;
+        this.messages = messages;
+        this.peerLastReadSeq = peerLastReadSeq;
+        this.notReadMessageCnt = notReadMessageCnt;
+    }
+}
@@ -0,0 +1,23 @@
+package com.Bridge.bridge.dto.response;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+public class ChatSyncResponse {
+
+    private List<ChatRoomSyncResponse> rooms;   // 채팅방별 새 메세지 + 읽음 상태
+
+    private String cursor;      // 다음 동기화 때 since 로 전달 (채팅방별 마지막 순번)
+
+    private boolean hasNext;    // 아직 받지 못한 메세지 존재 여부 -> cursor 로 바로 다시 요청
+
+    public ChatSyncResponse(List<ChatRoomSyncResponse> rooms, String cursor, boolean hasNext) {
+        this.rooms = rooms;
+        this.cursor = cursor;
+        this.hasNext = hasNext;
+    }
+}
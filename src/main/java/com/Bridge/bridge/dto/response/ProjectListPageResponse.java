@@ -0,0 +1,23 @@
+package com.Bridge.bridge.dto.response;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+public class ProjectListPageResponse {
+
+    private List<ProjectListResponse> projects;     // 모집글 목록 (작성시간 순)
+
+    private String after;           // 다음 페이지 조회용 커서 -> 더 없으면 null
+
+    private boolean hasNext;        // 다음 모집글 존재 여부
+
+    public ProjectListPageResponse(List<ProjectListResponse> projects, String after, boolean hasNext) {
+        this.projects = projects;
+        this.after = after;
+        this.hasNext = hasNext;
+    }
+}
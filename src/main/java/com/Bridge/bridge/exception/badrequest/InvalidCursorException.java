@@ -0,0 +1,11 @@
+package com.Bridge.bridge.exception.badrequest;
+
+import com.Bridge.bridge.exception.BridgeException;
+import org.springframework.http.HttpStatus;
+
+public class InvalidCursorException extends BridgeException {
+
+    public InvalidCursorException() {
+        super(HttpStatus.BAD_REQUEST, "올바르지 않은 형식의 커서입니다.", 400);
+    }
+}
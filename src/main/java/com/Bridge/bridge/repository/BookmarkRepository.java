@@ -4,8 +4,16 @@ import com.Bridge.bridge.domain.Bookmark;
 import com.Bridge.bridge.domain.Project;
 import com.Bridge.bridge.domain.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
 
 public interface BookmarkRepository extends JpaRepository<Bookmark, Long> {
 
     Bookmark findByProjectAndUser(Project project, User user);
+
+    // 유저가 스크랩한 프로젝트 ID 목록 -> 목록 조회 시 스크랩 여부를 한 번에 확인
+    @Query(value = "SELECT b.project.id FROM Bookmark AS b WHERE b.user.id = :userId")
+    List<Long> findProjectIdsByUserId(@Param("userId") Long userId);
 }
@@ -2,13 +2,56 @@ package com.Bridge.bridge.repository;
 
 import com.Bridge.bridge.domain.Chat;
 import com.Bridge.bridge.domain.User;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.List;
 import java.util.Optional;
 
 public interface ChatRepository extends JpaRepository<Chat, Long> {
 
     Optional<Chat> findByChatRoomId(String chatRoomId);     // 채팅방 이이디로 채팅방 찾기
 
+    // 채팅방 + 참여자 함께 조회
+    @Query(value = "SELECT c FROM Chat AS c LEFT JOIN FETCH c.makeUser LEFT JOIN FETCH c.receiveUser WHERE c.chatRoomId = :chatRoomId")
+    Optional<Chat> findWithUserByChatRoomId(@Param("chatRoomId") String chatRoomId);
+
     Optional<Chat> findByMakeUserAndReceiveUser(User makeUser, User receiveUser);   // 채팅방 개설시 중복 체크
+
+    // 채팅방 참여 여부 (만든 사람 또는 참가한 사람)
+    @Query(value = "SELECT COUNT(c) > 0 FROM Chat AS c " +
+            "WHERE c.chatRoomId = :chatRoomId AND (c.makeUser.id = :userId OR c.receiveUser.id = :userId)")
+    boolean existsParticipant(@Param("chatRoomId") String chatRoomId, @Param("userId") Long userId);
+
+    // 내가 만든 + 참여한 채팅방 목록 (최근 대화 순)
+    @Query(value = "SELECT c FROM Chat AS c JOIN FETCH c.makeUser JOIN FETCH c.receiveUser " +
+            "WHERE c.makeUser.id = :userId OR c.receiveUser.id = :userId " +
+            "ORDER BY c.lastMessageTime DESC, c.id ASC")
+    List<Chat> findAllByUserId(@Param("userId") Long userId, Pageable pageable);
+
+    // 채팅방 읽음 처리 -> 읽은 사람의 읽음 위치를 저장된 마지막 순번으로 옮기고 안 읽은 메세지 수 초기화 (1 row UPDATE)
+    // 읽음 위치는 뒤로 가지 않음
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "UPDATE chat AS c SET " +
+            "c.make_user_last_read_seq = CASE WHEN c.make_user_id = :userId " +
+            "THEN GREATEST(COALESCE(c.make_user_last_read_seq, 0), " +
+            "(SELECT COALESCE(MAX(m.seq), 0) FROM message AS m WHERE m.chat_id = c.chat_id)) ELSE c.make_user_last_read_seq END, " +
+            "c.make_user_not_read_cnt = CASE WHEN c.make_user_id = :userId THEN 0 ELSE c.make_user_not_read_cnt END, " +
+            "c.receive_user_last_read_seq = CASE WHEN c.receive_user_id = :userId " +
+            "THEN GREATEST(COALESCE(c.receive_user_last_read_seq, 0), " +
+            "(SELECT COALESCE(MAX(m.seq), 0) FROM message AS m WHERE m.chat_id = c.chat_id)) ELSE c.receive_user_last_read_seq END, " +
+            "c.receive_user_not_read_cnt = CASE WHEN c.receive_user_id = :userId THEN 0 ELSE c.receive_user_not_read_cnt END " +
+            "WHERE c.chat_room_id = :chatRoomId", nativeQuery = true)
+    int markAsRead(@Param("chatRoomId") String chatRoomId, @Param("userId") Long userId);
+
+    // 메세지 순번 블록 발급 -> 채팅방 row 락으로 노드 간에도 블록이 겹치지 않음 (ChatSequenceGenerator)
+    @Modifying
+    @Query(value = "UPDATE chat AS c SET c.last_seq = c.last_seq + :size WHERE c.chat_id = :chatId", nativeQuery = true)
+    int leaseSeqBlock(@Param("chatId") Long chatId, @Param("size") int size);
+
+    @Query(value = "SELECT c.lastSeq FROM Chat AS c WHERE c.id = :chatId")
+    long findLastSeq(@Param("chatId") Long chatId);
 }
@@ -0,0 +1,34 @@
+package com.Bridge.bridge.repository;
+
+import com.Bridge.bridge.domain.Chat;
+import com.Bridge.bridge.domain.Message;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+public interface MessageRepository extends JpaRepository<Message, Long> {
+
+    List<Message> findAllByChatOrderBySendDateTimeDescIdDesc(Chat chat, Pageable pageable);    // 채팅방 최신 메세지 N개
+
+    // (sendDateTime, message_id) 커서 이전의 메세지 N개 (최신 순)
+    @Query(value = "SELECT m FROM Message AS m WHERE m.chat = :chat " +
+            "AND (m.sendDateTime < :sendDateTime OR (m.sendDateTime = :sendDateTime AND m.id < :messageId)) " +
+            "ORDER BY m.sendDateTime DESC, m.id DESC")
+    List<Message> findAllBefore(@Param("chat") Chat chat,
+                                @Param("sendDateTime") LocalDateTime sendDateTime,
+                                @Param("messageId") Long messageId,
+                                Pageable pageable);
+
+    Optional<Message> findByChatAndSeq(Chat chat, Long seq);
+
+    List<Message> findAllByChatAndSeqGreaterThanOrderBySeqAsc(Chat chat, Long seq, Pageable pageable);     // 순번 이후 메세지
+
+    Optional<Message> findFirstByChatOrderBySeqDesc(Chat chat);     // 마지막 순번 메세지
+
+    List<Message> findAllByChatAndSeqBetweenOrderBySeqAsc(Chat chat, Long fromSeq, Long toSeq, Pageable pageable);    // 순번 범위 메세지
+}
@@ -1,6 +1,5 @@
 package com.Bridge.bridge.repository;
 
-import com.Bridge.bridge.domain.Part;
 import com.Bridge.bridge.domain.Project;
 import com.Bridge.bridge.domain.User;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -11,7 +10,7 @@ import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
-public interface ProjectRepository extends JpaRepository<Project, Long> {
+public interface ProjectRepository extends JpaRepository<Project, Long>, ProjectRepositoryCustom {
 
     @Override
     List<Project> findAll();
@@ -21,15 +20,25 @@ public interface ProjectRepository extends JpaRepository<Project, Long> {
     @Override
     <S extends Project> S save(S entity);
 
-    List<Project> findAllByRecruitInAndDueDateGreaterThanEqual(List<Part> parts, LocalDateTime dueDate);
-
     List<Project> findAllByUser(User user);
 
-    @Query(value = "SELECT distinct p FROM Project AS p LEFT JOIN FETCH p.recruit WHERE p.dueDate >= :dueDate ORDER BY p.uploadTime")
-    List<Project> findAllByDueDateGreaterThanEqualOrderByUploadTime(@Param("dueDate") LocalDateTime dueDate);
-//    List<Project> findAllByDueDateGreaterThanEqualOrderByUploadTime(LocalDateTime dueDate);
-
     List<Project> findTop20ByDueDateGreaterThanEqualOrderByBookmarkNumDesc(LocalDateTime dueDate);
 
     List<Project> findTop40ByDueDateGreaterThanEqualOrderByDueDate(LocalDateTime dueDate);
+
+    // 모집 중인 모집글의 검색용 컬럼만 (검색 색인, 추천 검색어 다시 읽기)
+    @Query(value = "SELECT p.id AS id, p.title AS title, p.overview AS overview, p.dueDate AS dueDate " +
+            "FROM Project AS p WHERE p.dueDate >= :now")
+    List<OpenProject> findOpenProjects(@Param("now") LocalDateTime now);
+
+    interface OpenProject {
+
+        Long getId();
+
+        String getTitle();
+
+        String getOverview();
+
+        LocalDateTime getDueDate();
+    }
 }
@@ -0,0 +1,19 @@
+package com.Bridge.bridge.repository;
+
+import com.Bridge.bridge.domain.Field;
+import com.Bridge.bridge.domain.Project;
+import com.Bridge.bridge.domain.Stack;
+import com.Bridge.bridge.util.ProjectCursor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface ProjectRepositoryCustom {
+
+    // 모집 중인 프로젝트 (uploadTime, project_id) 순으로 after 다음부터 limit 개 -> 조건이 null 이면 적용하지 않음
+    List<Project> findOpenProjects(LocalDateTime dueDate, Field part, List<Stack> skills,
+                                   ProjectCursor after, int limit);
+
+    // ID 목록에 해당하는 프로젝트 (모집 분야 포함) -> 순서는 보장하지 않음
+    List<Project> findAllWithRecruitByIdIn(List<Long> ids);
+}
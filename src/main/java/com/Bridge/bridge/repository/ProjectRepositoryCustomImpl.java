@@ -0,0 +1,90 @@
+package com.Bridge.bridge.repository;
+
+import com.Bridge.bridge.domain.Field;
+import com.Bridge.bridge.domain.Project;
+import com.Bridge.bridge.domain.Stack;
+import com.Bridge.bridge.util.ProjectCursor;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.JPAExpressions;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import lombok.RequiredArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+
+import static com.Bridge.bridge.domain.QPart.part;
+import static com.Bridge.bridge.domain.QProject.project;
+
+@RequiredArgsConstructor
+public class ProjectRepositoryCustomImpl implements ProjectRepositoryCustom {
+
+    private final JPAQueryFactory jpaQueryFactory;
+
+    @Override
+    public List<Project> findOpenProjects(LocalDateTime dueDate, Field recruitPart, List<Stack> skills,
+                                          ProjectCursor after, int limit) {
+        // 페이지에 해당하는 ID 먼저 조회 -> 모집 분야 fetch join 과 limit 을 같이 쓰면 메모리에서 페이징됨
+        List<Long> ids = jpaQueryFactory
+                .select(project.id)
+                .from(project)
+                .where(project.dueDate.goe(dueDate),
+                        recruitCondition(recruitPart, skills),
+                        afterCondition(after))
+                .orderBy(project.uploadTime.asc(), project.id.asc())
+                .limit(limit)
+                .fetch();
+
+        if (ids.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        return jpaQueryFactory
+                .selectFrom(project)
+                .distinct()
+                .leftJoin(project.recruit).fetchJoin()
+                .where(project.id.in(ids))
+                .orderBy(project.uploadTime.asc(), project.id.asc())
+                .fetch();
+    }
+
+    @Override
+    public List<Project> findAllWithRecruitByIdIn(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        return jpaQueryFactory
+                .selectFrom(project)
+                .distinct()
+                .leftJoin(project.recruit).fetchJoin()
+                .where(project.id.in(ids))
+                .fetch();
+    }
+
+    // 해당 분야(와 기술 스택)를 모집하는 프로젝트
+    private BooleanExpression recruitCondition(Field recruitPart, List<Stack> skills) {
+        if (recruitPart == null) {
+            return null;
+        }
+        return JPAExpressions.selectOne()
+                .from(part)
+                .where(part.project.eq(project),
+                        part.recruitPart.eq(recruitPart),
+                        skills == null || skills.isEmpty() ? null : part.recruitSkill.any().in(skills))
+                .exists();
+    }
+
+    // 커서 다음 모집글 -> 작성시간이 없는 글은 가장 먼저 정렬됨
+    private BooleanExpression afterCondition(ProjectCursor after) {
+        if (after == null) {
+            return null;
+        }
+        if (after.getUploadTime() == null) {
+            return project.uploadTime.isNull().and(project.id.gt(after.getProjectId()))
+                    .or(project.uploadTime.isNotNull());
+        }
+        return project.uploadTime.gt(after.getUploadTime())
+                .or(project.uploadTime.eq(after.getUploadTime()).and(project.id.gt(after.getProjectId())));
+    }
+}
@@ -2,7 +2,10 @@ package com.Bridge.bridge.repository;
 
 import com.Bridge.bridge.domain.SearchWord;
 import com.Bridge.bridge.domain.User;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 
@@ -11,4 +14,18 @@ public interface SearchWordRepository extends JpaRepository<SearchWord, Long> {
     List<SearchWord> findAllByUserOrderByHistoryDesc(User user);
 
     void deleteAllByUser(User user);
+
+    // minUsers 명 이상이 검색한 검색어 (많이 검색된 순)
+    @Query(value = "SELECT s.content AS content, COUNT(s) AS count FROM SearchWord AS s " +
+            "WHERE s.content IS NOT NULL " +
+            "GROUP BY s.content HAVING COUNT(DISTINCT s.user) >= :minUsers " +
+            "ORDER BY COUNT(s) DESC")
+    List<PopularSearchWord> findPopularSearchWords(@Param("minUsers") long minUsers, Pageable pageable);
+
+    interface PopularSearchWord {
+
+        String getContent();
+
+        Long getCount();
+    }
 }
@@ -2,7 +2,11 @@ package com.Bridge.bridge.repository;
 
 import com.Bridge.bridge.domain.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.Optional;
 
 public interface UserRepository extends JpaRepository<User, Long>, UserRepositoryCustom {
@@ -13,4 +17,9 @@ public interface UserRepository extends JpaRepository<User, Long>, UserRepositor
 
     User findByName(String name);
 
+    // 만료된 디바이스 토큰 삭제 -> FCM 에서 UNREGISTERED 등으로 거절된 토큰
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "UPDATE User u SET u.deviceToken = NULL WHERE u.deviceToken IN :deviceTokens")
+    int clearDeviceTokens(@Param("deviceTokens") Collection<String> deviceTokens);
+
 }
@@ -1,26 +1,55 @@
 package com.Bridge.bridge.security;
 
 
+import com.Bridge.bridge.exception.BridgeException;
+import com.Bridge.bridge.service.ChatPresenceService;
+import com.Bridge.bridge.service.ChatRoomTaskExecutor;
 import com.Bridge.bridge.service.ChatService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.messaging.Message;
 import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageDeliveryException;
 import org.springframework.messaging.simp.stomp.StompCommand;
 import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
 import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageHeaderAccessor;
 import org.springframework.stereotype.Component;
 
+import java.security.Principal;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
 @Component
 @Slf4j
 @RequiredArgsConstructor
 public class ChannelInBoundInterceptor implements ChannelInterceptor {
 
+    // CONNECT 인증 헤더 (Bearer 엑세스 토큰)
+    private static final String AUTHORIZATION_HEADER = "Authorization";
+
+    // 클라이언트가 마지막으로 받은 메세지 순번
+    private static final String LAST_SEQ_HEADER = "lastSeq";
+
+    // 유저별 알림 구독 -> /sub/user/{userId}/alarms
+    private static final Pattern ALARM_DESTINATION = Pattern.compile("^/sub/user/(\\d+)/alarms$");
+
     private final ChatService chatService;
 
+    private final ChatPresenceService chatPresenceService;
+
+    private final ChatRoomTaskExecutor chatRoomTaskExecutor;
+
+    private final JwtTokenProvider jwtTokenProvider;
+
     @Override
     public Message<?> preSend(Message<?> message, MessageChannel channel) {
-        StompHeaderAccessor accessor = StompHeaderAccessor.wrap(message);
+        // CONNECT 때 설정한 유저가 세션에 저장되도록 원본 헤더를 그대로 사용
+        StompHeaderAccessor accessor = MessageHeaderAccessor.getAccessor(message, StompHeaderAccessor.class);
+        if (accessor == null) {
+            accessor = StompHeaderAccessor.wrap(message);
+        }
         log.info("command = {}", accessor.getCommand());
         log.info("destination = {}", accessor.getDestination());
         log.info("message = {}", accessor.getMessage());
@@ -32,6 +61,10 @@ public class ChannelInBoundInterceptor implements ChannelInterceptor {
     }
 
     private void handleMessage(StompCommand command, StompHeaderAccessor accessor) {
+        //연결 시 (엑세스 토큰 인증)
+        if (command == StompCommand.CONNECT) {
+            handleConnect(accessor);
+        }
         //구독 시 (채팅방 입장)
         if(command == StompCommand.SUBSCRIBE) {
             handleSubscribe(accessor);
@@ -42,26 +75,72 @@ public class ChannelInBoundInterceptor implements ChannelInterceptor {
         }
     }
 
+    /**
+     * 엑세스 토큰으로 세션 유저 설정 -> 토큰이 없거나 잘못되면 ERROR 프레임
+     */
+    private void handleConnect(StompHeaderAccessor accessor) {
+        try {
+            Long userId = jwtTokenProvider.getUserIdFromHeader(accessor.getFirstNativeHeader(AUTHORIZATION_HEADER));
+            accessor.setUser(new StompPrincipal(userId));
+        } catch (BridgeException e) {
+            throw new MessageDeliveryException("STOMP 연결 인증 실패 -> " + e.getMessage());
+        }
+    }
+
     private void handleSubscribe(StompHeaderAccessor accessor) {
+        // 알림 구독 -> 앱 접속 처리만 (채팅방 입장 처리 없음)
+        Matcher alarm = accessor.getDestination() == null ? null : ALARM_DESTINATION.matcher(accessor.getDestination());
+        if (alarm != null && alarm.matches()) {
+            // 다른 유저의 알림은 구독 불가
+            Long userId = Long.parseLong(alarm.group(1));
+            if (!userId.equals(getPrincipalUserId(accessor))) {
+                throw new MessageDeliveryException("다른 유저의 알림 구독 불가 destination = " + accessor.getDestination());
+            }
+            chatPresenceService.enterAlarm(accessor.getSessionId(), accessor.getSubscriptionId(), userId);
+            return;
+        }
+
         //채팅방 가져오기
         log.info("ID = {}", accessor.getId());
         log.info("Message = {}", accessor.getMessage());
 
-        // 채팅방 ID 와 유저 ID 분리
+        // 채팅방 ID 는 메세지에서, 유저는 CONNECT 때 인증한 세션 유저로
         String chatRoomId = getChatRoomId(accessor.getMessage());
-        String userId = getUserId(accessor.getMessage());
+        Long principalUserId = getPrincipalUserId(accessor);
 
-        //입장 처리 -> 현재 접속 인원 +1
-        boolean connectStat = chatService.changeConnectStat(chatRoomId);
-        log.info("현 채팅방 인원 Connect State = {}", connectStat);
-
-        //안읽은 메세지 존재시 읽음 처리
-        chatService.readNotReadMessage(chatRoomId, userId);
-
-        // 현재 접속중인 사람 있는지 체크 -> 있다면 메세지 상태 업데이트 해줘야 함
-        if (connectStat == false) {
-            log.info("두명다 접속중");
-            chatService.updateChatHistory(chatRoomId);
+        // 참여하지 않은 채팅방은 구독 불가 -> 입장, 읽음 처리, 재전송 모두 하지 않음
+        if (!chatService.isParticipant(chatRoomId, principalUserId)) {
+            throw new MessageDeliveryException("참여하지 않은 채팅방 구독 불가 chatRoomId = " + chatRoomId);
+        }
+        String userId = String.valueOf(principalUserId);
+
+        // 재입장 순번은 작업 실행 전에 확인 -> 잘못된 값이면 입장하지 않고 ERROR 프레임
+        Long lastSeq = getLastSeq(accessor);
+
+        //입장 처리 -> 접속 정보 등록 (메모리 작업이므로 바로 처리)
+        chatPresenceService.enter(accessor.getSessionId(), accessor.getSubscriptionId(), chatRoomId, principalUserId);
+
+        // DB 작업은 채팅방 작업 실행기에서 처리 -> inbound 채널 스레드를 막지 않음
+        String sessionId = accessor.getSessionId();
+        String subscriptionId = accessor.getSubscriptionId();
+        String destination = accessor.getDestination();
+        try {
+            chatRoomTaskExecutor.execute(chatRoomId, () -> {
+                //안읽은 메세지 존재시 읽음 처리
+                chatService.readNotReadMessage(chatRoomId, userId);
+
+                // 재입장 -> lastSeq 헤더가 있으면 그 이후 메세지만 다시 보내줌
+                if (lastSeq != null) {
+                    chatService.replayMessages(sessionId, subscriptionId, destination, chatRoomId, userId, lastSeq);
+                }
+
+                // 읽음 위치 전달 -> 상대방 화면 갱신, 모든 노드의 최근 메세지 캐시 갱신
+                chatService.sendReadReceipt(chatRoomId, userId);
+            });
+        } catch (RejectedExecutionException e) {
+            // 처리할 수 없으면 입장 취소 -> 클라이언트는 ERROR 프레임을 받고 다시 구독
+            chatPresenceService.leave(sessionId, subscriptionId);
+            throw new MessageDeliveryException("채팅방 입장 처리 지연 -> 잠시 후 다시 시도");
         }
     }
 
@@ -69,18 +148,36 @@ public class ChannelInBoundInterceptor implements ChannelInterceptor {
         log.info("ID = {}", accessor.getId());
         log.info("Message = {}", accessor.getMessage());
 
-        // 퇴장 처리 -> 현재 접속 인원 -1
-        boolean connectStat = chatService.changeConnectStat(accessor.getMessage());
-
-        log.info("현 채팅방 인원 connect State = {}", connectStat);
+        // 퇴장 처리 -> 접속 정보 삭제 (연결 종료 시에는 ChatPresenceService 에서 정리)
+        chatPresenceService.leave(accessor.getSessionId(), accessor.getSubscriptionId());
         log.info("구독 취소 됌");
     }
 
-    private String getChatRoomId(String message) {
-        return message.substring(0, 36);
+    private Long getPrincipalUserId(StompHeaderAccessor accessor) {
+        Principal user = accessor.getUser();
+        return user instanceof StompPrincipal ? ((StompPrincipal) user).getUserId() : null;
     }
 
-    private String getUserId(String message) {
-        return message.substring(37);
+    private Long getLastSeq(StompHeaderAccessor accessor) {
+        String lastSeq = accessor.getFirstNativeHeader(LAST_SEQ_HEADER);
+        if (lastSeq == null) {
+            return null;
+        }
+        try {
+            long seq = Long.parseLong(lastSeq.trim());
+            if (seq < 0) {
+                throw new NumberFormatException();
+            }
+            return seq;
+        } catch (NumberFormatException e) {
+            throw new MessageDeliveryException("잘못된 lastSeq 헤더 = " + lastSeq);
+        }
+    }
+
+    private String getChatRoomId(String message) {
+        if (message == null || message.length() < 36) {
+            throw new MessageDeliveryException("잘못된 채팅방 구독 메세지 = " + message);
+        }
+        return message.substring(0, 36);
     }
 }
@@ -2,6 +2,7 @@ package com.Bridge.bridge.security;
 
 import com.Bridge.bridge.domain.User;
 import com.Bridge.bridge.exception.notfound.NotFoundUserException;
+import com.Bridge.bridge.exception.unauthorized.InvalidBearerException;
 import com.Bridge.bridge.exception.unauthorized.InvalidTokenException;
 import com.Bridge.bridge.exception.unauthorized.TokenExpiredException;
 import com.Bridge.bridge.repository.UserRepository;
@@ -128,6 +129,20 @@ public class JwtTokenProvider {
         return findUser.getId();
     }
 
+    // 헤더 값(Bearer 엑세스 토큰)에서 유저 ID 추출 -> STOMP CONNECT 인증
+    public Long getUserIdFromHeader(String authorization) {
+        String token = Optional.ofNullable(authorization)
+                .filter(accessToken -> accessToken.startsWith(TOKEN_PREFIX))
+                .map(accessToken -> accessToken.replace(TOKEN_PREFIX, ""))
+                .orElseThrow(() -> new InvalidBearerException());
+        try {
+            return Long.parseLong(getPayload(token));
+        } catch (NumberFormatException e) {
+            // 리프레쉬 토큰 등 유저 ID 가 없는 토큰
+            throw new InvalidTokenException();
+        }
+    }
+
     public Long getUserIdFromRequest(HttpServletRequest request) {
         String token = request.getHeader(ACCESS_TOKEN_HEADER).replace(TOKEN_PREFIX, "");
         return Long.parseLong(getPayload(token));
@@ -0,0 +1,23 @@
+package com.Bridge.bridge.security;
+
+import lombok.Getter;
+
+import java.security.Principal;
+
+/**
+ * STOMP 세션 유저 -> CONNECT 때 엑세스 토큰으로 인증한 유저 ID
+ */
+@Getter
+public class StompPrincipal implements Principal {
+
+    private final Long userId;
+
+    public StompPrincipal(Long userId) {
+        this.userId = userId;
+    }
+
+    @Override
+    public String getName() {
+        return String.valueOf(userId);
+    }
+}
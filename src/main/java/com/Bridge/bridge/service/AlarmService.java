@@ -1,31 +1,23 @@
 package com.Bridge.bridge.service;
 
 import com.Bridge.bridge.domain.Alarm;
-import com.Bridge.bridge.domain.Chat;
 import com.Bridge.bridge.domain.Project;
 import com.Bridge.bridge.domain.User;
-import com.Bridge.bridge.dto.request.ChatMessageRequest;
+import com.Bridge.bridge.dto.request.ChatAlarmRequest;
 import com.Bridge.bridge.dto.request.NotificationRequest;
 import com.Bridge.bridge.dto.response.AlarmResponse;
 import com.Bridge.bridge.dto.response.AllAlarmResponse;
-import com.Bridge.bridge.exception.BridgeException;
 import com.Bridge.bridge.exception.badrequest.AlarmDeleteException;
 import com.Bridge.bridge.exception.notfound.NotFoundAlarmException;
-import com.Bridge.bridge.exception.notfound.NotFoundChatException;
 import com.Bridge.bridge.exception.notfound.NotFoundProjectException;
 import com.Bridge.bridge.exception.notfound.NotFoundUserException;
 import com.Bridge.bridge.repository.AlarmRepository;
-import com.Bridge.bridge.repository.ChatRepository;
 import com.Bridge.bridge.repository.ProjectRepository;
 import com.Bridge.bridge.repository.UserRepository;
 import com.Bridge.bridge.security.JwtTokenProvider;
-import com.google.firebase.messaging.FirebaseMessaging;
-import com.google.firebase.messaging.FirebaseMessagingException;
-import com.google.firebase.messaging.Message;
-import com.google.firebase.messaging.Notification;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.http.HttpStatus;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -39,12 +31,13 @@ import java.util.stream.Collectors;
 @Slf4j
 public class AlarmService {
 
-    private final FirebaseMessaging firebaseMessaging;
+    private final NotificationDispatcher notificationDispatcher;
     private final UserRepository userRepository;
-    private final ChatRepository chatRepository;
     private final ProjectRepository projectRepository;
     private final AlarmRepository alarmRepository;
     private final JwtTokenProvider jwtTokenProvider;
+    private final ChatPresenceService chatPresenceService;
+    private final ApplicationEventPublisher eventPublisher;
 
     /*
        Func : 알림 받을 디바이스 토큰 업데이트
@@ -59,37 +52,12 @@ public class AlarmService {
     }
 
     /*
-       Func : FCM 서버로 알림 보내기 -> 실질적으로 알림보내는 함수
+       Func : 알림 보내기 -> 접속 중이면 STOMP, 아니면 FCM (NotificationDispatcher)
+              FCM 은 FcmBatchSender 에서 묶어서 발송, 재시도 -> 발송 결과를 기다리지 않음
        Parameter: NotificationRequestDto -> 알림 수신자, 알림 제목, 알림 내용
     */
-    public void sendNotification(NotificationRequest notificationRequest) throws FirebaseMessagingException {
-        // 알림 받을 유저 찾기
-        User user = userRepository.findById(notificationRequest.getUserId())
-                .orElseThrow(() -> new NotFoundUserException());
-
-        // 알람 생성 시간 생성하기
-        LocalDateTime localDateTime = LocalDateTime.now();
-
-        // 알림 생성하기
-        Notification notification = Notification.builder()
-                .setTitle(notificationRequest.getTitle())
-                .setBody(notificationRequest.getBody())
-                .build();
-
-        // 알림 메세지 생성하기
-        Message message = Message.builder()
-                .setToken(user.getDeviceToken())
-                .setNotification(notification)
-                .putData("time", localDateTime.toString())
-                .build();
-        try {
-            firebaseMessaging.send(message);
-        }
-        catch (FirebaseMessagingException e){
-            throw new BridgeException(HttpStatus.NOT_ACCEPTABLE, "알림 보내기가 실패하였습니다.", 500);
-        }
-
-
+    public void sendNotification(NotificationRequest notificationRequest) {
+        notificationDispatcher.dispatch(notificationRequest);
     }
 
     /*
@@ -97,7 +65,7 @@ public class AlarmService {
        Parameter: userId -> 알림 받을 유저ID
     */
     @Transactional
-    public void getApplyResultAlarm(Long userId) throws FirebaseMessagingException {
+    public void getApplyResultAlarm(Long userId) {
 
         User rcvUser = userRepository.findById(userId)
                 .orElseThrow(()->new NotFoundUserException());
@@ -115,56 +83,45 @@ public class AlarmService {
 
         rcvUser.getRcvAlarms().add(alarm);
 
-        // 알림보내기
+        // 알림보내기 -> 커밋 후 NotificationDispatcher 에서 발송 (롤백되면 발송하지 않음)
         NotificationRequest notificationRequest = NotificationRequest.builder()
                 .userId(userId)
                 .title("지원 결과 도착")
                 .body("내가 지원한 프로젝트의 결과가 나왔어요. 관리 페이지에서 확인해보세요.")
+                .type("Apply")
                 .build();
 
-        sendNotification(notificationRequest);
+        eventPublisher.publishEvent(notificationRequest);
     }
 
     /*
-       Func : 채팅 받을 시 알림 생성
-       Parameter: ChatMessageRequest -> 채팅방ID, 발신자, 채팅 내용, 메세지 타입
+       Func : 채팅 받을 시 알림 생성 -> ChatAlarmDispatcher 에서 비동기로 호출
+       Parameter: ChatAlarmRequest -> 채팅방ID, 발신자, 수신자, 채팅 내용
     */
-    public void getChatAlarm(ChatMessageRequest chatMessageRequest) throws FirebaseMessagingException {
-        Chat chat = chatRepository.findByChatRoomId(chatMessageRequest.getChatRoomId())
-                .orElseThrow(() -> new NotFoundChatException());
-
+    public void getChatAlarm(ChatAlarmRequest chatAlarmRequest) {
+        // 그 사이 받는 사람이 채팅방에 접속했으면 알림 보내지 않음
+        if (chatPresenceService.isConnected(chatAlarmRequest.getChatRoomId(), chatAlarmRequest.getReceiverId())) {
+            return;
+        }
 
-        User sender = userRepository.findById(chatMessageRequest.getSenderId())
+        User sender = userRepository.findById(chatAlarmRequest.getSenderId())
                 .orElseThrow(() -> new NotFoundUserException());
 
-        log.info("Chat ID = {}", chat.getId());
-
-
-        if(sender.equals(chat.getMakeUser())){ // 메세지를 보낸 사람이 채팅방을 만든 사람이라면
-            log.info("Sender User(Maker) Name = {}", sender.getName());
-
-            // 알림보내기
-            NotificationRequest notificationRequest = NotificationRequest.builder()
-                    .userId(chat.getReceiveUser().getId())
-                    .title(sender.getName())
-                    .body(chatMessageRequest.getMessage())
-                    .build();
-
-            sendNotification(notificationRequest);
-            return;
+        // 여러 메세지를 묶은 경우 마지막 메세지와 나머지 개수 표시
+        String body = chatAlarmRequest.getMessage();
+        if (chatAlarmRequest.getCount() > 1) {
+            body = body + " 외 " + (chatAlarmRequest.getCount() - 1) + "개의 메세지";
         }
-        // 메세지를 보낸 사람이 채팅방에 초대된 사람이라면
-        log.info("Sender User(Receiver) Name = {}", sender.getName());
 
         // 알림보내기
         NotificationRequest notificationRequest = NotificationRequest.builder()
-                .userId(chat.getMakeUser().getId())
+                .userId(chatAlarmRequest.getReceiverId())
                 .title(sender.getName())
-                .body(chatMessageRequest.getMessage())
+                .body(body)
+                .type("Chat")
                 .build();
 
         sendNotification(notificationRequest);
-        return;
     }
 
     /*
@@ -172,7 +129,7 @@ public class AlarmService {
        Parameter: projectId
     */
     @Transactional
-    public void getApplyAlarm(Long projectId) throws FirebaseMessagingException {
+    public void getApplyAlarm(Long projectId) {
 
         Project project = projectRepository.findById(projectId)
                 .orElseThrow(() -> new NotFoundProjectException());
@@ -193,14 +150,15 @@ public class AlarmService {
         List<Alarm> alarms = getAlarmUser.getRcvAlarms();
         alarms.add(alarm);
 
-        // 알림보내기
+        // 알림보내기 -> 커밋 후 NotificationDispatcher 에서 발송 (롤백되면 발송하지 않음)
         NotificationRequest notificationRequest = NotificationRequest.builder()
                 .userId(getAlarmUser.getId())
                 .title("지원자 등장?")
                 .body("내 프로젝트에 누군가 지원했어요 지원자 프로필을 확인하고 채팅을 시작해보세요!")
+                .type("Applier")
                 .build();
 
-        sendNotification(notificationRequest);
+        eventPublisher.publishEvent(notificationRequest);
     }
 
     /*
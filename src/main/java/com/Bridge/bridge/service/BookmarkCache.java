@@ -0,0 +1,208 @@
+package com.Bridge.bridge.service;
+
+import com.Bridge.bridge.config.kafka.ChatNode;
+import com.Bridge.bridge.dto.request.BookmarkEvictEvent;
+import com.Bridge.bridge.repository.BookmarkRepository;
+import com.Bridge.bridge.util.Constant;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 유저별 스크랩한 프로젝트 ID 캐시 -> 프로젝트 목록의 스크랩 여부를 프로젝트마다 조회하지 않음
+ * - 처음 조회할 때 한 번의 쿼리로 스크랩한 프로젝트 ID 를 모두 읽어 정렬된 long[] 로 보관 (이진 탐색)
+ * - 스크랩 설정/해제 시 해당 유저 캐시 삭제 (트랜잭션 커밋 후 한 번 더 삭제)
+ * - 커밋 후 Kafka 로 다른 노드에도 삭제 전달 -> 다른 노드에서 스크랩한 결과가 바로 보이도록
+ * - 삭제 이벤트 유실에 대비해 ttl-ms 가 지나면 다시 읽음
+ * 유저 수가 max-users 를 넘으면 가장 오래 사용하지 않은 유저부터 삭제
+ */
+@Slf4j
+@Component
+public class BookmarkCache {
+
+    private final BookmarkRepository bookmarkRepository;
+
+    private final KafkaTemplate<String, BookmarkEvictEvent> bookmarkEvictKafkaTemplate;
+
+    private final ChatNode chatNode;
+
+    // 다른 노드로 삭제 전달 여부 -> Kafka 를 사용하는 경우만
+    private final boolean replicate;
+
+    private final int maxUsers;
+
+    private final long ttlMs;
+
+    private final LinkedHashMap<Long, BookmarkSet> users = new LinkedHashMap<>(16, 0.75f, true);
+
+    // 캐시 삭제 횟수 -> DB 에서 읽는 사이에 삭제된 경우 읽은 값을 저장하지 않음
+    private long invalidations;
+
+    private final Counter hitCounter;
+
+    private final Counter missCounter;
+
+    public BookmarkCache(BookmarkRepository bookmarkRepository, MeterRegistry meterRegistry,
+                         KafkaTemplate<String, BookmarkEvictEvent> bookmarkEvictKafkaTemplate, ChatNode chatNode,
+                         @Value("#{'${chat.transport:kafka}' == 'kafka'}") boolean replicate,
+                         @Value("${project.bookmark-cache.max-users:10000}") int maxUsers,
+                         @Value("${project.bookmark-cache.ttl-ms:60000}") long ttlMs) {
+        this.bookmarkRepository = bookmarkRepository;
+        this.bookmarkEvictKafkaTemplate = bookmarkEvictKafkaTemplate;
+        this.chatNode = chatNode;
+        this.replicate = replicate;
+        this.maxUsers = maxUsers;
+        this.ttlMs = ttlMs;
+
+        this.hitCounter = Counter.builder("project.bookmark.cache.requests")
+                .tag("result", "hit")
+                .register(meterRegistry);
+        this.missCounter = Counter.builder("project.bookmark.cache.requests")
+                .tag("result", "miss")
+                .register(meterRegistry);
+        Gauge.builder("project.bookmark.cache.users", this, BookmarkCache::getUserCount)
+                .register(meterRegistry);
+    }
+
+    public synchronized int getUserCount() {
+        return users.size();
+    }
+
+    /**
+     * 유저가 스크랩한 프로젝트 목록 -> 로그인하지 않은 유저는 빈 목록
+     */
+    public BookmarkSet get(Long userId) {
+        if (userId == null) {
+            return BookmarkSet.EMPTY;
+        }
+
+        long version;
+        synchronized (this) {
+            BookmarkSet cached = users.get(userId);
+            if (cached != null && System.currentTimeMillis() - cached.loadedAt < ttlMs) {
+                hitCounter.increment();
+                return cached;
+            }
+            version = invalidations;
+        }
+        missCounter.increment();
+
+        BookmarkSet loaded = BookmarkSet.of(bookmarkRepository.findProjectIdsByUserId(userId));
+
+        synchronized (this) {
+            if (version == invalidations) {
+                users.put(userId, loaded);
+                evictIfNeeded();
+            }
+        }
+        return loaded;
+    }
+
+    /**
+     * 스크랩 변경 -> 트랜잭션 중이면 커밋 후에도 삭제 (커밋 전에 다른 요청이 이전 값을 다시 읽은 경우)
+     * 다른 노드에는 커밋 후 전달 -> 커밋 전에 삭제하면 이전 값을 다시 읽을 수 있음
+     */
+    public void evict(Long userId) {
+        remove(userId);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    remove(userId);
+                    publish(userId);
+                }
+            });
+        }
+        else {
+            publish(userId);
+        }
+    }
+
+    /**
+     * 다른 노드에서 스크랩 변경 -> 해당 유저 캐시 삭제
+     */
+    @KafkaListener(topics = Constant.BOOKMARK_EVICT_TOPIC, containerFactory = "bookmarkEvictListenerContainerFactory",
+            autoStartup = "#{'${chat.transport:kafka}' == 'kafka'}")
+    public void receive(BookmarkEvictEvent event) {
+        if (chatNode.getId().equals(event.getNodeId())) {
+            return;
+        }
+        remove(event.getUserId());
+    }
+
+    private void publish(Long userId) {
+        if (!replicate) {
+            return;
+        }
+        try {
+            bookmarkEvictKafkaTemplate.send(Constant.BOOKMARK_EVICT_TOPIC, String.valueOf(userId), BookmarkEvictEvent.builder()
+                    .nodeId(chatNode.getId())
+                    .userId(userId)
+                    .build());
+        }
+        catch (RuntimeException e) {
+            // 전달 실패 -> 다른 노드는 ttl-ms 뒤에 다시 읽음
+            log.warn("스크랩 캐시 삭제 전달 실패 userId = {}", userId, e);
+        }
+    }
+
+    private synchronized void remove(Long userId) {
+        invalidations++;
+        users.remove(userId);
+    }
+
+    private void evictIfNeeded() {
+        Iterator<Map.Entry<Long, BookmarkSet>> iterator = users.entrySet().iterator();
+        while (users.size() > maxUsers && iterator.hasNext()) {
+            iterator.next();
+            iterator.remove();
+        }
+    }
+
+    /**
+     * 스크랩한 프로젝트 ID (정렬된 배열)
+     */
+    public static final class BookmarkSet {
+
+        public static final BookmarkSet EMPTY = new BookmarkSet(new long[0], 0);
+
+        private final long[] projectIds;
+
+        private final long loadedAt;
+
+        private BookmarkSet(long[] projectIds, long loadedAt) {
+            this.projectIds = projectIds;
+            this.loadedAt = loadedAt;
+        }
+
+        static BookmarkSet of(List<Long> projectIds) {
+            long[] ids = projectIds.stream()
+                    .mapToLong(Long::longValue)
+                    .sorted()
+                    .toArray();
+            return new BookmarkSet(ids, System.currentTimeMillis());
+        }
+
+        public boolean contains(Long projectId) {
+            return projectId != null && Arrays.binarySearch(projectIds, projectId) >= 0;
+        }
+
+        public int size() {
+            return projectIds.length;
+        }
+    }
+}
@@ -0,0 +1,181 @@
+package com.Bridge.bridge.service;
+
+import com.Bridge.bridge.dto.request.ChatAlarmRequest;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import javax.annotation.PreDestroy;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 채팅 푸시 알림 비동기 발송
+ * - 메세지 저장 트랜잭션이 커밋된 뒤 큐에 넣고 전용 스레드에서 알림 생성 -> 보내는 사람은 알림 발송을 기다리지 않음
+ * - 받는 사람 + 채팅방별로 coalesce-window 동안 들어온 알림은 하나로 묶어서 발송 (마지막 메세지 + 개수)
+ *   다른 채팅방 알림은 따로 발송 -> 보낸 사람(알림 제목)과 메세지가 섞이지 않도록
+ *   앱에 접속 중인 유저는 STOMP 로 받으므로 묶지 않고 바로 발송
+ * - 대기 중인 알림이 queue-capacity 를 넘으면 버림 (알림은 최선 노력)
+ * - FCM 발송과 재시도는 FcmBatchSender 에서 처리
+ */
+@Slf4j
+@Component
+public class ChatAlarmDispatcher {
+
+    private final AlarmService alarmService;
+
+    private final ChatPresenceService chatPresenceService;
+
+    private final int queueCapacity;
+
+    private final long coalesceWindowMs;
+
+    // 받는 사람 + 채팅방별 묶는 중인 알림
+    private final ConcurrentMap<String, ChatAlarmRequest> coalescing = new ConcurrentHashMap<>();
+
+    private final ScheduledThreadPoolExecutor executor;
+
+    // 대기 중이거나 발송 중인 알림 수
+    private final AtomicInteger pending = new AtomicInteger();
+
+    private final Timer successTimer;
+
+    private final Timer failureTimer;
+
+    private final Counter rejectedCounter;
+
+    private final Counter coalescedCounter;
+
+    public ChatAlarmDispatcher(AlarmService alarmService, ChatPresenceService chatPresenceService, MeterRegistry meterRegistry,
+                               @Value("${chat.push.pool-size:4}") int poolSize,
+                               @Value("${chat.push.queue-capacity:10000}") int queueCapacity,
+                               @Value("${chat.push.coalesce-window-ms:3000}") long coalesceWindowMs) {
+        this.alarmService = alarmService;
+        this.chatPresenceService = chatPresenceService;
+        this.queueCapacity = queueCapacity;
+        this.coalesceWindowMs = coalesceWindowMs;
+
+        AtomicInteger threadCount = new AtomicInteger();
+        this.executor = new ScheduledThreadPoolExecutor(poolSize, runnable -> {
+            Thread thread = new Thread(runnable, "chat-push-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.executor.setRemoveOnCancelPolicy(true);
+
+        // 큐에 넣은 시점부터 알림 전달(또는 포기)까지
+        this.successTimer = Timer.builder("chat.push.latency")
+                .tag("result", "success")
+                .register(meterRegistry);
+        this.failureTimer = Timer.builder("chat.push.latency")
+                .tag("result", "failure")
+                .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("chat.push.rejected")
+                .register(meterRegistry);
+        this.coalescedCounter = Counter.builder("chat.push.coalesced")
+                .description("앞선 알림에 묶여서 따로 발송하지 않은 알림 수")
+                .register(meterRegistry);
+        Gauge.builder("chat.push.pending", pending, AtomicInteger::get)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 채팅 알림 요청 -> 트랜잭션이 있으면 커밋 후, 없으면 바로 큐에 추가
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onChatAlarm(ChatAlarmRequest request) {
+        dispatch(request);
+    }
+
+    /**
+     * 받는 사람에게 같은 채팅방의 묶는 중인 알림이 있으면 마지막 메세지로 바꾸고 개수만 증가
+     * 없으면 새로 만들고 coalesce-window 뒤에 발송 예약
+     */
+    public void dispatch(ChatAlarmRequest request) {
+        String key = coalescingKey(request);
+        boolean[] created = new boolean[1];
+        coalescing.compute(key, (k, previous) -> {
+            if (previous == null) {
+                created[0] = true;
+                return request;
+            }
+            request.setCount(previous.getCount() + request.getCount());
+            return request;
+        });
+
+        if (!created[0]) {
+            coalescedCounter.increment();
+            return;
+        }
+
+        if (pending.incrementAndGet() > queueCapacity) {
+            pending.decrementAndGet();
+            coalescing.remove(key);
+            rejectedCounter.increment();
+            log.warn("채팅 알림 대기열 가득 참 -> 알림 생략 chatRoomId = {}, receiverId = {}",
+                    request.getChatRoomId(), request.getReceiverId());
+            return;
+        }
+
+        // 앱에 접속 중인 유저는 STOMP 로 바로 받으므로 묶지 않음
+        long delay = chatPresenceService.isOnline(request.getReceiverId()) ? 0 : coalesceWindowMs;
+        long queued = System.nanoTime();
+        try {
+            executor.schedule(() -> flush(key, queued), delay, TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            // 종료 중
+            pending.decrementAndGet();
+            coalescing.remove(key);
+            rejectedCounter.increment();
+        }
+    }
+
+    public int getPending() {
+        return pending.get();
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        executor.shutdown();
+        if (!executor.awaitTermination(5, TimeUnit.SECONDS)) {
+            log.warn("채팅 알림 {} 개 보내지 못하고 종료", pending.get());
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * 묶인 알림 발송 -> 이후 들어오는 알림은 새로 묶음
+     */
+    private void flush(String key, long queued) {
+        ChatAlarmRequest request = coalescing.remove(key);
+        if (request == null) {
+            complete(failureTimer, queued);
+            return;
+        }
+        try {
+            alarmService.getChatAlarm(request);
+            complete(successTimer, queued);
+        } catch (RuntimeException e) {
+            log.error("채팅 알림 실패 receiverId = {}", request.getReceiverId(), e);
+            complete(failureTimer, queued);
+        }
+    }
+
+    private static String coalescingKey(ChatAlarmRequest request) {
+        return request.getReceiverId() + ":" + request.getChatRoomId();
+    }
+
+    private void complete(Timer timer, long queued) {
+        pending.decrementAndGet();
+        timer.record(System.nanoTime() - queued, TimeUnit.NANOSECONDS);
+    }
+}
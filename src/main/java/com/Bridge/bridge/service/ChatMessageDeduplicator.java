@@ -0,0 +1,70 @@
+package com.Bridge.bridge.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 채팅 메세지 중복 수신 방지
+ * 클라이언트가 생성한 메세지 ID 를 채팅방별로 최근 per-room 개까지 기억 -> 재전송된 메세지는 저장, 전송, 알람 모두 생략
+ * 채팅방 수도 max-rooms 개까지만 유지 (가장 오래 사용하지 않은 채팅방부터 삭제)
+ * 캐시에서 밀려난 메세지는 DB 의 (chat_id, message_uu_id) 유니크 인덱스로 중복 저장 방지
+ */
+@Component
+public class ChatMessageDeduplicator {
+
+    private final int perRoom;
+
+    private final Map<String, Map<String, Boolean>> rooms;
+
+    public ChatMessageDeduplicator(@Value("${chat.dedup.per-room:256}") int perRoom,
+                                   @Value("${chat.dedup.max-rooms:10000}") int maxRooms) {
+        this.perRoom = perRoom;
+        this.rooms = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Map<String, Boolean>> eldest) {
+                return size() > maxRooms;
+            }
+        };
+    }
+
+    /**
+     * 처음 받은 메세지면 기억하고 true, 이미 받은 메세지면 false
+     * 메세지 ID 가 없으면 확인하지 않음
+     */
+    public boolean claim(String chatRoomId, String messageId) {
+        if (chatRoomId == null || messageId == null) {
+            return true;
+        }
+        Map<String, Boolean> recent = getRoom(chatRoomId);
+        synchronized (recent) {
+            return recent.putIfAbsent(messageId, Boolean.TRUE) == null;
+        }
+    }
+
+    /**
+     * 처리에 실패한 메세지 -> 재전송 시 다시 처리할 수 있도록 삭제
+     */
+    public void release(String chatRoomId, String messageId) {
+        if (chatRoomId == null || messageId == null) {
+            return;
+        }
+        Map<String, Boolean> recent = getRoom(chatRoomId);
+        synchronized (recent) {
+            recent.remove(messageId);
+        }
+    }
+
+    private Map<String, Boolean> getRoom(String chatRoomId) {
+        synchronized (rooms) {
+            return rooms.computeIfAbsent(chatRoomId, id -> new LinkedHashMap<>(16, 0.75f, false) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, Boolean> eldest) {
+                    return size() > perRoom;
+                }
+            });
+        }
+    }
+}
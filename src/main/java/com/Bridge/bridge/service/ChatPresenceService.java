@@ -0,0 +1,277 @@
+package com.Bridge.bridge.service;
+
+import com.Bridge.bridge.config.kafka.ChatNode;
+import com.Bridge.bridge.dto.request.ChatPresenceEvent;
+import com.Bridge.bridge.util.Constant;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 채팅방 접속 정보 관리
+ * 이 노드의 접속 정보는 ChatSubscriptionRegistry, 다른 노드의 접속 정보는 Kafka 로 복제받아 메모리에 보관
+ * -> 채팅방 입장/퇴장, 메세지 읽음 여부, 푸시 알림 여부 판단 시 DB 를 사용하지 않음
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ChatPresenceService {
+
+    private final ChatSubscriptionRegistry chatSubscriptionRegistry;
+
+    private final KafkaTemplate<String, ChatPresenceEvent> presenceKafkaTemplate;
+
+    private final ChatNode chatNode;
+
+    // 다른 노드로 접속 정보 복제 여부 -> 단일 서버 운영 시 false
+    // chat.transport=local (단일 서버) 이면 복제하지 않음
+    @Value("#{'${chat.transport:kafka}' == 'kafka' && ${chat.presence.replicate:true}}")
+    private boolean replicate;
+
+    // 전체 접속 정보 전송 주기 -> 3 주기 동안 소식이 없는 노드의 접속 정보는 삭제
+    @Value("${chat.presence.snapshot-interval-ms:10000}")
+    private long snapshotIntervalMs;
+
+    // 노드 ID -> 해당 노드의 접속 정보
+    private final Map<String, RemoteNode> remoteNodes = new ConcurrentHashMap<>();
+
+    /**
+     * 채팅방 입장
+     */
+    public void enter(String sessionId, String subscriptionId, String chatRoomId, Long userId) {
+        boolean alreadyConnected = chatSubscriptionRegistry.isSubscribed(chatRoomId, userId);
+        chatSubscriptionRegistry.subscribe(sessionId, subscriptionId, chatRoomId, userId);
+
+        if (!alreadyConnected) {
+            publish(ChatPresenceEvent.EventType.ENTER, chatRoomId, userId);
+        }
+    }
+
+    /**
+     * 채팅방 퇴장
+     */
+    public void leave(String sessionId, String subscriptionId) {
+        ChatSubscriptionRegistry.Subscription subscription = chatSubscriptionRegistry.unsubscribe(sessionId, subscriptionId);
+        if (subscription != null) {
+            publishLeave(subscription);
+        }
+    }
+
+    /**
+     * 연결 종료 (DISCONNECT, 하트비트/세션 타임아웃 포함) -> 해당 세션의 접속 정보 모두 삭제
+     */
+    @EventListener
+    public void handleDisconnect(SessionDisconnectEvent event) {
+        chatSubscriptionRegistry.removeSession(event.getSessionId())
+                .forEach(this::publishLeave);
+    }
+
+    /**
+     * 알림 구독 (/sub/user/{userId}/alarms) -> 유저별 가상 채팅방으로 관리
+     */
+    public void enterAlarm(String sessionId, String subscriptionId, Long userId) {
+        enter(sessionId, subscriptionId, alarmRoomId(userId), userId);
+    }
+
+    /**
+     * 알림을 구독 중인지 여부 (모든 노드 기준) -> 앱에 접속해 있는지 여부
+     */
+    public boolean isOnline(Long userId) {
+        return isConnected(alarmRoomId(userId), userId);
+    }
+
+    /**
+     * 이 노드에서 알림을 구독 중인지 여부
+     */
+    public boolean isOnlineLocally(Long userId) {
+        return chatSubscriptionRegistry.isSubscribed(alarmRoomId(userId), userId);
+    }
+
+    /**
+     * 다른 노드에서 알림을 구독 중인지 여부
+     */
+    public boolean isOnlineRemotely(Long userId) {
+        String alarmRoomId = alarmRoomId(userId);
+        return remoteNodes.values().stream()
+                .anyMatch(node -> node.contains(alarmRoomId, userId));
+    }
+
+    /**
+     * 알림을 구독 중인 다른 노드 ID (여러 노드면 ID 순으로 첫번째) -> 없으면 null
+     */
+    public String getRemoteAlarmNodeId(Long userId) {
+        String alarmRoomId = alarmRoomId(userId);
+        return remoteNodes.entrySet().stream()
+                .filter(entry -> entry.getValue().contains(alarmRoomId, userId))
+                .map(Map.Entry::getKey)
+                .sorted()
+                .findFirst()
+                .orElse(null);
+    }
+
+    /**
+     * 유저가 채팅방에 접속해 있는지 여부 (모든 노드 기준)
+     */
+    public boolean isConnected(String chatRoomId, Long userId) {
+        if (chatSubscriptionRegistry.isSubscribed(chatRoomId, userId)) {
+            return true;
+        }
+        return remoteNodes.values().stream()
+                .anyMatch(node -> node.contains(chatRoomId, userId));
+    }
+
+    /**
+     * 채팅방에 접속해 있는 유저 목록 (모든 노드 기준)
+     */
+    public Set<Long> getConnectedUsers(String chatRoomId) {
+        Set<Long> users = new HashSet<>(chatSubscriptionRegistry.getUsers(chatRoomId));
+        remoteNodes.values().forEach(node -> users.addAll(node.getUsers(chatRoomId)));
+        return users;
+    }
+
+    /**
+     * 다른 노드의 접속 정보 수신
+     */
+    @KafkaListener(topics = Constant.PRESENCE_TOPIC, containerFactory = "presenceListenerContainerFactory",
+            autoStartup = "#{'${chat.transport:kafka}' == 'kafka' && ${chat.presence.replicate:true}}")
+    public void receive(ChatPresenceEvent event) {
+        if (chatNode.getId().equals(event.getNodeId())) {
+            return;
+        }
+
+        RemoteNode node = remoteNodes.computeIfAbsent(event.getNodeId(), id -> new RemoteNode());
+        switch (event.getType()) {
+            case ENTER:
+                node.add(event.getChatRoomId(), event.getUserId());
+                break;
+            case LEAVE:
+                node.remove(event.getChatRoomId(), event.getUserId());
+                break;
+            case SNAPSHOT:
+                node.replace(event.getRooms());
+                break;
+        }
+    }
+
+    /**
+     * 이 노드의 전체 접속 정보 주기적 전송 + 소식이 끊긴 노드 정리
+     */
+    @Scheduled(fixedDelayString = "${chat.presence.snapshot-interval-ms:10000}")
+    public void publishSnapshot() {
+        if (!replicate) {
+            return;
+        }
+
+        send(ChatPresenceEvent.builder()
+                .nodeId(chatNode.getId())
+                .type(ChatPresenceEvent.EventType.SNAPSHOT)
+                .rooms(chatSubscriptionRegistry.snapshot())
+                .build());
+
+        long expiredBefore = System.nanoTime() - TimeUnit.MILLISECONDS.toNanos(snapshotIntervalMs * 3);
+        remoteNodes.entrySet().removeIf(entry -> {
+            boolean expired = entry.getValue().getLastSeen() < expiredBefore;
+            if (expired) {
+                log.info("접속 정보 만료 노드 = {}", entry.getKey());
+            }
+            return expired;
+        });
+    }
+
+    // 채팅방 ID 는 UUID -> 겹치지 않음
+    private static String alarmRoomId(Long userId) {
+        return "alarm:" + userId;
+    }
+
+    private void publishLeave(ChatSubscriptionRegistry.Subscription subscription) {
+        // 같은 유저의 다른 세션이 아직 접속 중이면 퇴장 아님
+        if (!chatSubscriptionRegistry.isSubscribed(subscription.getChatRoomId(), subscription.getUserId())) {
+            publish(ChatPresenceEvent.EventType.LEAVE, subscription.getChatRoomId(), subscription.getUserId());
+        }
+    }
+
+    private void publish(ChatPresenceEvent.EventType type, String chatRoomId, Long userId) {
+        if (!replicate) {
+            return;
+        }
+
+        send(ChatPresenceEvent.builder()
+                .nodeId(chatNode.getId())
+                .type(type)
+                .chatRoomId(chatRoomId)
+                .userId(userId)
+                .build());
+    }
+
+    private void send(ChatPresenceEvent event) {
+        try {
+            presenceKafkaTemplate.send(Constant.PRESENCE_TOPIC, chatNode.getId(), event);
+        }
+        catch (RuntimeException e) {
+            // 복제 실패 -> 다음 SNAPSHOT 때 보정됨
+            log.warn("접속 정보 전송 실패 type = {}", event.getType(), e);
+        }
+    }
+
+    /**
+     * 다른 노드의 접속 정보
+     */
+    private static class RemoteNode {
+
+        // 채팅방 ID -> 접속 유저 ID
+        private final Map<String, Set<Long>> rooms = new ConcurrentHashMap<>();
+
+        private volatile long lastSeen = System.nanoTime();
+
+        void add(String chatRoomId, Long userId) {
+            rooms.computeIfAbsent(chatRoomId, id -> ConcurrentHashMap.newKeySet()).add(userId);
+            lastSeen = System.nanoTime();
+        }
+
+        void remove(String chatRoomId, Long userId) {
+            rooms.computeIfPresent(chatRoomId, (id, users) -> {
+                users.remove(userId);
+                return users.isEmpty() ? null : users;
+            });
+            lastSeen = System.nanoTime();
+        }
+
+        void replace(Map<String, Set<Long>> snapshot) {
+            rooms.clear();
+            if (snapshot != null) {
+                snapshot.forEach((chatRoomId, users) -> {
+                    Set<Long> copy = ConcurrentHashMap.newKeySet();
+                    copy.addAll(users);
+                    rooms.put(chatRoomId, copy);
+                });
+            }
+            lastSeen = System.nanoTime();
+        }
+
+        boolean contains(String chatRoomId, Long userId) {
+            Set<Long> users = rooms.get(chatRoomId);
+            return users != null && users.contains(userId);
+        }
+
+        Set<Long> getUsers(String chatRoomId) {
+            return rooms.getOrDefault(chatRoomId, Collections.emptySet());
+        }
+
+        long getLastSeen() {
+            return lastSeen;
+        }
+    }
+}
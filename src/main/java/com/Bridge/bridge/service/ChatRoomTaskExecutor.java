@@ -0,0 +1,180 @@
+package com.Bridge.bridge.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 채팅방 입장/퇴장 후처리 전용 실행기 -> STOMP inbound 채널 스레드를 DB 작업으로 막지 않기 위함
+ * - 같은 채팅방 작업은 요청 순서대로 하나씩 실행, 다른 채팅방 작업은 병렬 실행
+ * - 대기 중인 작업이 queue-capacity 를 넘으면 거절 (RejectedExecutionException)
+ */
+@Slf4j
+@Component
+public class ChatRoomTaskExecutor {
+
+    private final ThreadPoolExecutor executor;
+
+    private final int queueCapacity;
+
+    // 채팅방별 대기 작업 -> 실행 중인 작업이 있는 채팅방만 존재
+    private final ConcurrentMap<String, Queue<Runnable>> rooms = new ConcurrentHashMap<>();
+
+    private final AtomicInteger pending = new AtomicInteger();
+
+    private final Timer waitTimer;
+
+    private final Timer executionTimer;
+
+    private final Counter rejectedCounter;
+
+    public ChatRoomTaskExecutor(MeterRegistry meterRegistry,
+                                @Value("${chat.room-task.pool-size:4}") int poolSize,
+                                @Value("${chat.room-task.queue-capacity:10000}") int queueCapacity) {
+        this.queueCapacity = queueCapacity;
+
+        AtomicInteger threadCount = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(), runnable -> {
+            Thread thread = new Thread(runnable, "chat-room-task-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        this.waitTimer = Timer.builder("chat.room.task.wait")
+                .description("작업 등록 후 실행되기까지 걸린 시간")
+                .register(meterRegistry);
+        this.executionTimer = Timer.builder("chat.room.task.execution")
+                .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("chat.room.task.rejected")
+                .register(meterRegistry);
+        Gauge.builder("chat.room.task.pending", pending, AtomicInteger::get)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 채팅방 작업 등록
+     *
+     * @throws RejectedExecutionException 대기 중인 작업이 너무 많은 경우
+     */
+    public void execute(String chatRoomId, Runnable task) {
+        if (pending.incrementAndGet() > queueCapacity) {
+            pending.decrementAndGet();
+            rejectedCounter.increment();
+            throw new RejectedExecutionException("채팅방 작업 대기열 가득 참");
+        }
+
+        Runnable timed = timed(task);
+        boolean first = false;
+        Queue<Runnable> queue;
+        while (true) {
+            queue = rooms.computeIfAbsent(chatRoomId, id -> new ArrayDeque<>());
+            synchronized (queue) {
+                // drain 에서 막 제거된 큐면 다시 가져옴
+                if (rooms.get(chatRoomId) != queue) {
+                    continue;
+                }
+                first = queue.isEmpty();
+                queue.add(timed);
+            }
+            break;
+        }
+
+        if (first) {
+            Queue<Runnable> roomQueue = queue;
+            executor.execute(() -> drain(chatRoomId, roomQueue));
+        }
+    }
+
+    public int getPending() {
+        return pending.get();
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        executor.shutdown();
+        if (!executor.awaitTermination(5, TimeUnit.SECONDS)) {
+            log.warn("채팅방 작업 {} 개 처리하지 못하고 종료", pending.get());
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * 채팅방 대기 작업을 순서대로 실행 -> 큐가 비면 채팅방 제거
+     * 맨 앞 작업은 실행이 끝난 뒤 제거 -> 실행 중에 들어온 작업은 새 스레드를 시작하지 않음
+     * Error 로 스레드가 종료되어도 맨 앞 작업은 제거하고 남은 작업은 새 스레드에서 이어서 실행 -> 채팅방이 멈추지 않도록
+     */
+    private void drain(String chatRoomId, Queue<Runnable> queue) {
+        while (true) {
+            Runnable task;
+            synchronized (queue) {
+                task = queue.peek();
+            }
+
+            boolean completed = false;
+            boolean hasNext;
+            try {
+                task.run();
+                completed = true;
+            } catch (RuntimeException e) {
+                completed = true;
+                log.error("채팅방 작업 실패 chatRoomId = {}", chatRoomId, e);
+            } finally {
+                pending.decrementAndGet();
+                hasNext = removeHead(chatRoomId, queue);
+                if (!completed) {
+                    log.error("채팅방 작업 중 Error 발생 chatRoomId = {}", chatRoomId);
+                    if (hasNext) {
+                        executor.execute(() -> drain(chatRoomId, queue));
+                    }
+                }
+            }
+
+            if (!hasNext) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * 실행이 끝난 맨 앞 작업 제거 -> 남은 작업이 없으면 채팅방 제거 후 false
+     */
+    private boolean removeHead(String chatRoomId, Queue<Runnable> queue) {
+        synchronized (queue) {
+            queue.poll();
+            if (queue.isEmpty()) {
+                rooms.remove(chatRoomId, queue);
+                return false;
+            }
+            return true;
+        }
+    }
+
+    private Runnable timed(Runnable task) {
+        long registered = System.nanoTime();
+        return () -> {
+            long started = System.nanoTime();
+            waitTimer.record(started - registered, TimeUnit.NANOSECONDS);
+            try {
+                task.run();
+            } finally {
+                executionTimer.record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+            }
+        };
+    }
+}
@@ -0,0 +1,77 @@
+package com.Bridge.bridge.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+/**
+ * 채팅방 순번 채우기 (last_seq 컬럼 추가 전에 순번이 저장된 채팅방)
+ * 저장된 메세지 순번이 last_seq 보다 큰 채팅방만 last_seq 를 마지막 순번으로 올림 -> 순번 블록이 저장된 순번과 겹치지 않도록
+ * -> 이미 채워진 채팅방은 건드리지 않으므로 시작할 때마다 실행해도 됨, 다 채운 뒤에는 chat.seq.backfill=false
+ * 웹 서버가 요청을 받기 전에 실행 -> 순번 블록을 받기 전에 끝남
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "chat.seq.backfill", havingValue = "true", matchIfMissing = true)
+public class ChatSeqBackfill implements SmartInitializingSingleton {
+
+    // 저장된 순번이 last_seq 보다 큰 채팅방 (chat_id 순)
+    private static final String SELECT_SQL = "SELECT c.chat_id FROM chat AS c " +
+            "WHERE c.chat_id > ? " +
+            "AND EXISTS (SELECT 1 FROM message AS m WHERE m.chat_id = c.chat_id AND m.seq > c.last_seq) " +
+            "ORDER BY c.chat_id LIMIT ?";
+
+    private static final String UPDATE_SQL = "UPDATE chat AS c SET " +
+            "c.last_seq = GREATEST(c.last_seq, (SELECT COALESCE(MAX(m.seq), 0) FROM message AS m WHERE m.chat_id = c.chat_id)) " +
+            "WHERE c.chat_id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final int batchSize;
+
+    public ChatSeqBackfill(JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate,
+                           @Value("${chat.seq.backfill-batch-size:500}") int batchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.batchSize = batchSize;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        try {
+            int filled = backfill();
+            if (filled > 0) {
+                log.info("채팅방 순번 채우기 완료 ({}건)", filled);
+            }
+        } catch (RuntimeException e) {
+            // 다음 시작 때 다시 시도
+            log.error("채팅방 순번 채우기 실패", e);
+        }
+    }
+
+    /**
+     * batch-size 개씩 채팅방 순번 채우기 -> 채운 채팅방 수
+     */
+    public int backfill() {
+        int filled = 0;
+        long lastChatId = 0;
+        while (true) {
+            List<Long> chatIds = jdbcTemplate.queryForList(SELECT_SQL, Long.class, lastChatId, batchSize);
+            if (chatIds.isEmpty()) {
+                return filled;
+            }
+            transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(UPDATE_SQL, chatIds, chatIds.size(),
+                    (ps, chatId) -> ps.setLong(1, chatId)));
+            filled += chatIds.size();
+            lastChatId = chatIds.get(chatIds.size() - 1);
+        }
+    }
+}
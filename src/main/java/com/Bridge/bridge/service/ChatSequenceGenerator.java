@@ -0,0 +1,82 @@
+package com.Bridge.bridge.service;
+
+import com.Bridge.bridge.domain.Chat;
+import com.Bridge.bridge.repository.ChatRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 채팅방별 메세지 순번 발급
+ * 채팅방마다 chat.last_seq 에서 block-size 개씩 미리 받아두고 메모리에서 발급 -> 메세지마다 DB 를 거치지 않음
+ * 블록은 별도 트랜잭션으로 받고 바로 커밋 -> 메세지 저장 트랜잭션이나 저장 스레드와 채팅방 row 락을 두고 경쟁하지 않음
+ * 여러 노드가 같은 채팅방 블록을 받아도 범위가 겹치지 않음 (다 쓰지 못한 순번은 빈 순번으로 남고, 동기화에서 SYNC_GAP_TIMEOUT 후 건너뜀)
+ * 클라이언트는 순번으로 같은 초에 보낸 메세지를 정렬하고 빠진 메세지를 확인
+ */
+@Component
+public class ChatSequenceGenerator {
+
+    private final ChatRepository chatRepository;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final int blockSize;
+
+    // 채팅방 ID -> 이 노드가 받아둔 순번 블록
+    private final Map<Long, SeqBlock> blocks = new ConcurrentHashMap<>();
+
+    public ChatSequenceGenerator(ChatRepository chatRepository, PlatformTransactionManager transactionManager,
+                                 @Value("${chat.seq.block-size:50}") int blockSize) {
+        this.chatRepository = chatRepository;
+        this.blockSize = blockSize;
+
+        // 호출한 쪽 트랜잭션과 상관없이 블록 발급은 바로 커밋
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * 다음 순번 발급 (1부터 시작)
+     */
+    public long next(Chat chat) {
+        SeqBlock block = blocks.computeIfAbsent(chat.getId(), chatId -> new SeqBlock());
+        synchronized (block) {
+            if (block.next > block.end) {
+                long end = lease(chat.getId());
+                block.next = end - blockSize + 1;
+                block.end = end;
+            }
+            return block.next++;
+        }
+    }
+
+    /**
+     * 삭제된 채팅방 블록 정리
+     */
+    public void evict(Long chatId) {
+        blocks.remove(chatId);
+    }
+
+    /**
+     * chat.last_seq 를 block-size 만큼 늘리고 늘린 값(블록 마지막 순번) 반환
+     */
+    private long lease(Long chatId) {
+        Long end = transactionTemplate.execute(status -> {
+            chatRepository.leaseSeqBlock(chatId, blockSize);
+            return chatRepository.findLastSeq(chatId);
+        });
+        return end;
+    }
+
+    private static class SeqBlock {
+
+        private long next = 1;
+
+        private long end = 0;
+    }
+}
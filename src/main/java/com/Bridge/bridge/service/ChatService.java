@@ -4,24 +4,41 @@ import com.Bridge.bridge.domain.Chat;
 import com.Bridge.bridge.domain.File;
 import com.Bridge.bridge.domain.Message;
 import com.Bridge.bridge.domain.User;
+import com.Bridge.bridge.dto.request.ChatAlarmRequest;
 import com.Bridge.bridge.dto.request.ChatMessageRequest;
 import com.Bridge.bridge.dto.request.ChatRoomRequest;
+import com.Bridge.bridge.dto.response.ChatHistoryPageResponse;
 import com.Bridge.bridge.dto.response.ChatHistoryResponse;
 import com.Bridge.bridge.dto.response.ChatListResponse;
 import com.Bridge.bridge.dto.response.ChatMessageResponse;
 import com.Bridge.bridge.dto.response.ChatRoomResponse;
+import com.Bridge.bridge.dto.response.ChatRoomSyncResponse;
+import com.Bridge.bridge.dto.response.ChatSyncResponse;
+import com.Bridge.bridge.exception.badrequest.InvalidCursorException;
 import com.Bridge.bridge.exception.notfound.NotFoundChatException;
 import com.Bridge.bridge.repository.ChatRepository;
+import com.Bridge.bridge.repository.MessageRepository;
+import com.Bridge.bridge.util.ChatCursor;
+import com.Bridge.bridge.util.ChatSyncCursor;
 import com.Bridge.bridge.util.Constant;
-import com.google.firebase.messaging.FirebaseMessagingException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Clock;
+import java.time.Duration;
 import java.time.LocalDateTime;
-import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 @Service
@@ -30,13 +47,43 @@ import java.util.stream.Collectors;
 @Slf4j
 public class ChatService {
 
+    private static final int DEFAULT_HISTORY_SIZE = 30;     // 채팅 기록 기본 페이지 크기
+
+    private static final int MAX_HISTORY_SIZE = 100;        // 채팅 기록 최대 페이지 크기
+
+    private static final int DEFAULT_CHAT_LIST_SIZE = 20;   // 채팅방 목록 기본 페이지 크기
+
+    private static final int MAX_CHAT_LIST_SIZE = 100;      // 채팅방 목록 최대 페이지 크기
+
+    private static final int MAX_SYNC_ROOMS = 100;          // 재접속 동기화 대상 채팅방 수 (최근 대화 순) -> 나머지는 입장 시 기록 조회
+
+    private static final int MAX_SYNC_MESSAGES_PER_ROOM = 50;   // 재접속 동기화 한 번에 채팅방당 최대 메세지 수 -> 커서 없는 채팅방은 최근 메세지만
+
+    private static final Duration SYNC_GAP_TIMEOUT = Duration.ofSeconds(30);   // 이 시간이 지나도 비어있는 순번은 저장 실패로 보고 건너뜀
+
     private final ChatRepository chatRepository;
 
+    private final MessageRepository messageRepository;
+
     private final MessageSender messageSender;
 
+    private final MessageBatchWriter messageBatchWriter;
+
+    private final ChatMessageDeduplicator chatMessageDeduplicator;
+
+    private final ChatSequenceGenerator chatSequenceGenerator;
+
+    private final ChatPresenceService chatPresenceService;
+
     private final UserService userService;
 
-    private final AlarmService alarmService;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private final MessageReceiver messageReceiver;
+
+    private final RecentMessageCache recentMessageCache;
+
+    private final Clock clock;
 
 
     /**
@@ -84,34 +131,231 @@ public class ChatService {
 
     /**
      * 채팅방 목록 조회
-     * 내 기준 만든 채팅방? 아니면 내가 참여한 채팅방? 아니면 둘다? (아마도 둘 다 일듯하다)
+     * 내가 만든 채팅방 + 내가 참여한 채팅방을 최근 대화 순으로 조회
+     * 마지막 메세지, 안 읽은 메세지 수는 채팅방 요약 정보 사용 -> 메세지 목록을 불러오지 않음
      */
-    public List<ChatListResponse> findAllChat(Long userId) {
+    public List<ChatListResponse> findAllChat(Long userId, Integer page, Integer size) {
         User findUser = userService.find(userId);
 
-        List<ChatListResponse> chatList = findUser.getMadeChat().stream()
-                .map(c -> new ChatListResponse(c, true))
-                .collect(Collectors.toList());
-
-        chatList.addAll(findUser.getJoinChat().stream()
-                .map(c -> new ChatListResponse(c, false))
-                .collect(Collectors.toList()));
+        int pageNumber = (page == null || page < 0) ? 0 : page;
+        Pageable pageable = PageRequest.of(pageNumber, getChatListSize(size));
 
-        return chatList;
+        return chatRepository.findAllByUserId(findUser.getId(), pageable).stream()
+                .map(c -> new ChatListResponse(c, findUser.getId()))
+                .collect(Collectors.toList());
     }
 
+    public List<ChatListResponse> findAllChat(Long userId) {
+        return findAllChat(userId, 0, DEFAULT_CHAT_LIST_SIZE);
+    }
 
     /**
      * 채팅방 조회
+     * 기존 클라이언트 호환용 -> 최근 메세지 MAX_HISTORY_SIZE 개를 오래된 순으로 반환 (이전 메세지는 커서 기반 페이징으로)
      */
     public ChatHistoryResponse getChatHistory(String chatRoomId) {
+        return new ChatHistoryResponse(getChatHistory(chatRoomId, null, MAX_HISTORY_SIZE).getChatHistory());
+    }
 
-        Chat findChat = chatRepository.findByChatRoomId(chatRoomId)
+    /**
+     * 채팅방 조회 (커서 기반 페이징)
+     * before 커서가 없으면 가장 최신 메세지 size 개, 있으면 해당 메세지 이전의 size 개를 오래된 순으로 반환
+     */
+    public ChatHistoryPageResponse getChatHistory(String chatRoomId, String before, Integer size) {
+
+        // 첫 페이지는 최근 메세지 캐시에서
+        if (before == null || before.isBlank()) {
+            ChatHistoryPageResponse cached = recentMessageCache.getFirstPage(chatRoomId, getHistorySize(size));
+            if (cached != null) {
+                return cached;
+            }
+        }
+
+        Chat findChat = chatRepository.findWithUserByChatRoomId(chatRoomId)
+                .orElseThrow(() -> new NotFoundChatException());
+
+        int pageSize = getHistorySize(size);
+
+        // 다음 페이지 존재 여부 확인을 위해 1개 더 조회
+        Pageable pageable = PageRequest.of(0, pageSize + 1);
+
+        List<Message> messages;
+        if (before == null || before.isBlank()) {
+            // 캐시에 없던 채팅방 -> 캐시 크기만큼 읽어서 캐시도 채움
+            int loadSize = Math.max(pageSize, recentMessageCache.getMessagesPerRoom()) + 1;
+            messages = messageRepository.findAllByChatOrderBySendDateTimeDescIdDesc(findChat, PageRequest.of(0, loadSize));
+            recentMessageCache.load(findChat, messages, messages.size() < loadSize);
+
+            if (messages.size() > pageSize + 1) {
+                messages = messages.subList(0, pageSize + 1);
+            }
+        }
+        else {
+            ChatCursor cursor = toTimeCursor(findChat, ChatCursor.decode(before));
+            messages = messageRepository.findAllBefore(findChat, cursor.getSendDateTime(), cursor.getMessageId(), pageable);
+        }
+
+        boolean hasNext = messages.size() > pageSize;
+        if (hasNext) {
+            messages = messages.subList(0, pageSize);
+        }
+
+        String nextCursor = hasNext ? ChatCursor.encode(messages.get(messages.size() - 1)) : null;
+
+        List<ChatMessageResponse> messageList = messages.stream()
+                .map(m -> new ChatMessageResponse(m, findChat.isRead(m)))
+                .collect(Collectors.toList());
+
+        // 화면 표시용으로 오래된 순 정렬
+        Collections.reverse(messageList);
+
+        return new ChatHistoryPageResponse(messageList, nextCursor, hasNext);
+    }
+
+    /**
+     * 재접속 동기화 -> 최근 대화한 채팅방 MAX_SYNC_ROOMS 개에서 커서 이후 메세지와 채팅방별 읽음 상태를 한 번에 반환
+     * 채팅방별 순번으로 이어서 조회 -> 메세지 ID 는 여러 노드의 저장 스레드가 커밋하는 순서와 다를 수 있음
+     * 순번이 비어있으면 앞 메세지가 아직 저장 중일 수 있으므로 거기서 멈춤 (SYNC_GAP_TIMEOUT 이 지난 빈 순번은 건너뜀)
+     * 커서에 없는 채팅방(첫 동기화, 새 채팅방)은 내 읽음 위치 이후부터, 그래도 많으면 최근 MAX_SYNC_MESSAGES_PER_ROOM 개만
+     * 메세지는 최대 size 개 (채팅방당 MAX_SYNC_MESSAGES_PER_ROOM 개), 남은 메세지가 있으면 hasNext -> 응답의 cursor 로 다시 요청
+     * 읽음 상태는 채팅방당 1건이라 모든 채팅방 포함
+     */
+    public ChatSyncResponse syncChat(Long userId, String since, Integer size) {
+        User findUser = userService.find(userId);
+
+        Map<Long, Long> seqByChatId = ChatSyncCursor.decode(since);
+        List<Chat> chats = chatRepository.findAllByUserId(findUser.getId(), PageRequest.of(0, MAX_SYNC_ROOMS));
+        if (chats.isEmpty()) {
+            return new ChatSyncResponse(Collections.emptyList(), ChatSyncCursor.encode(seqByChatId), false);
+        }
+
+        int pageSize = getHistorySize(size);
+        LocalDateTime gapTimeout = LocalDateTime.now(clock).minus(SYNC_GAP_TIMEOUT);
+        Map<Long, Long> nextSeqByChatId = new LinkedHashMap<>();
+        Map<Long, List<ChatMessageResponse>> messagesByChat = new HashMap<>();
+        boolean hasNext = false;
+        int remaining = pageSize;
+
+        for (Chat chat : chats) {
+            Long cursorSeq = seqByChatId.get(chat.getId());
+            long lastSeq = cursorSeq == null ? 0L : cursorSeq;
+            nextSeqByChatId.put(chat.getId(), lastSeq);
+
+            // 새 메세지가 없는 채팅방은 조회하지 않음 (순번 컬럼 추가 전 채팅방은 last_seq 가 0)
+            boolean changed = chat.getLastMessageTime() != null && (chat.getLastSeq() == 0 || chat.getLastSeq() > lastSeq);
+            if (!changed) {
+                continue;
+            }
+            if (remaining == 0) {
+                hasNext = true;
+                continue;
+            }
+
+            // 커서에 없는 채팅방 -> 전체 기록 대신 읽음 위치 이후, 최근 메세지만
+            if (cursorSeq == null) {
+                lastSeq = getSyncStartSeq(chat, findUser.getId());
+                nextSeqByChatId.put(chat.getId(), lastSeq);
+            }
+
+            int roomLimit = Math.min(remaining, MAX_SYNC_MESSAGES_PER_ROOM);
+            List<Message> messages = messageRepository.findAllByChatAndSeqGreaterThanOrderBySeqAsc(
+                    chat, lastSeq, PageRequest.of(0, roomLimit + 1));
+            List<ChatMessageResponse> roomMessages = new ArrayList<>();
+            for (Message message : messages) {
+                if (message.getSeq() != lastSeq + 1
+                        && message.getSendDateTime() != null && message.getSendDateTime().isAfter(gapTimeout)) {
+                    break;
+                }
+                if (roomMessages.size() == roomLimit) {
+                    hasNext = true;
+                    break;
+                }
+                roomMessages.add(new ChatMessageResponse(message, chat.isRead(message)));
+                lastSeq = message.getSeq();
+                remaining--;
+            }
+            nextSeqByChatId.put(chat.getId(), lastSeq);
+            if (!roomMessages.isEmpty()) {
+                messagesByChat.put(chat.getId(), roomMessages);
+            }
+        }
+
+        List<ChatRoomSyncResponse> rooms = chats.stream()
+                .map(c -> new ChatRoomSyncResponse(
+                        c.getChatRoomId(),
+                        messagesByChat.getOrDefault(c.getId(), Collections.emptyList()),
+                        c.getLastReadSeq(c.getPeerId(findUser.getId())),
+                        c.getNotReadCnt(findUser.getId())))
+                .collect(Collectors.toList());
+
+        return new ChatSyncResponse(rooms, ChatSyncCursor.encode(nextSeqByChatId), hasNext);
+    }
+
+    /**
+     * 커서 없는 채팅방의 동기화 시작 순번 -> 내 읽음 위치, 이후 메세지가 MAX_SYNC_MESSAGES_PER_ROOM 개를 넘으면 최근 메세지만
+     * 이전 메세지는 채팅방 기록 조회로
+     */
+    private long getSyncStartSeq(Chat chat, Long userId) {
+        Long lastReadSeq = chat.getLastReadSeq(userId);
+        long latestSeq = messageRepository.findFirstByChatOrderBySeqDesc(chat)
+                .map(Message::getSeq)
+                .orElse(0L);
+        long readSeq = lastReadSeq == null ? 0L : lastReadSeq;
+        return Math.max(readSeq, latestSeq - MAX_SYNC_MESSAGES_PER_ROOM);
+    }
+
+    /**
+     * 채팅방 재입장 시 빠진 메세지 재전송 (STOMP SUBSCRIBE lastSeq 헤더)
+     * lastSeq 이후 메세지를 최대 MAX_HISTORY_SIZE 개까지 해당 구독에만 보내고, 상대방 읽음 이벤트를 이어서 보냄
+     * 더 많이 빠진 경우 클라이언트는 순번 범위 조회로 나머지 요청
+     */
+    public void replayMessages(String sessionId, String subscriptionId, String destination,
+                               String chatRoomId, String userId, long lastSeq) {
+        Chat findChat = chatRepository.findWithUserByChatRoomId(chatRoomId)
+                .orElseThrow(() -> new NotFoundChatException());
+
+        List<Message> messages = messageRepository.findAllByChatAndSeqGreaterThanOrderBySeqAsc(
+                findChat, lastSeq, PageRequest.of(0, MAX_HISTORY_SIZE));
+
+        for (Message message : messages) {
+            ChatMessageRequest messageRequest = ChatMessageRequest.builder()
+                    .messageId(message.getMessageUuId())
+                    .chatRoomId(chatRoomId)
+                    .seq(message.getSeq())
+                    .type(ChatMessageRequest.MessageType.valueOf(message.getType()))
+                    .senderId(message.getWriterId())
+                    .message(message.getContent())
+                    .readStat(findChat.isRead(message))
+                    .sendTime(message.getSendDateTime())
+                    .build();
+            messageReceiver.sendToSubscription(sessionId, subscriptionId, destination, messageRequest);
+        }
+
+        Long peerId = findChat.getPeerId(Long.parseLong(userId));
+        if (peerId != null) {
+            ChatMessageRequest readReceipt = createReadReceipt(chatRoomId, String.valueOf(peerId));
+            if (readReceipt != null) {
+                messageReceiver.sendToSubscription(sessionId, subscriptionId, destination, readReceipt);
+            }
+        }
+    }
+
+    /**
+     * 채팅방 순번 범위 조회 -> 클라이언트가 빠진 메세지만 요청
+     * fromSeq ~ toSeq (포함) 중 최대 MAX_HISTORY_SIZE 개를 순번 순으로 반환, 나머지는 마지막 순번 이후로 다시 요청
+     */
+    public ChatHistoryResponse getChatHistory(String chatRoomId, long fromSeq, long toSeq) {
+        Chat findChat = chatRepository.findWithUserByChatRoomId(chatRoomId)
                 .orElseThrow(() -> new NotFoundChatException());
 
-        //해당 채팅방에 존재하는 메세지 불러와야 함
-        List<ChatMessageResponse> messageList = findChat.getMessages().stream()
-                .map(ChatMessageResponse::new)
+        if (fromSeq > toSeq) {
+            return new ChatHistoryResponse(Collections.emptyList());
+        }
+
+        List<ChatMessageResponse> messageList = messageRepository
+                .findAllByChatAndSeqBetweenOrderBySeqAsc(findChat, fromSeq, toSeq, PageRequest.of(0, MAX_HISTORY_SIZE))
+                .stream()
+                .map(m -> new ChatMessageResponse(m, findChat.isRead(m)))
                 .collect(Collectors.toList());
 
         return new ChatHistoryResponse(messageList);
@@ -119,20 +363,43 @@ public class ChatService {
 
     /**
      * 채팅방 메세지 저장
+     * 메세지는 MessageBatchWriter 에 넘겨 묶어서 저장 -> 발송 경로에서는 INSERT 를 기다리지 않음
+     * 상대방 접속 여부는 ChatPresenceService 에서 확인
+     * 이미 받은 메세지(재전송)면 아무것도 하지 않고 null 반환
      */
-    @Transactional
-    public ChatMessageRequest saveMessage(ChatMessageRequest message) throws FirebaseMessagingException {
-        Chat findChat = chatRepository.findByChatRoomId(message.getChatRoomId())
-                .orElseThrow(() -> new NotFoundChatException());
+    public ChatMessageRequest saveMessage(ChatMessageRequest message) {
+        if (!chatMessageDeduplicator.claim(message.getChatRoomId(), message.getMessageId())) {
+            log.info("중복 메세지 무시 chatRoomId = {}, messageId = {}", message.getChatRoomId(), message.getMessageId());
+            return null;
+        }
 
-        //현 채팅방 인원 정보 불러오기
-        boolean connectStat = findChat.isConnectStat();
+        Chat findChat;
+        try {
+            findChat = chatRepository.findWithUserByChatRoomId(message.getChatRoomId())
+                    .orElseThrow(() -> new NotFoundChatException());
+        } catch (RuntimeException e) {
+            chatMessageDeduplicator.release(message.getChatRoomId(), message.getMessageId());
+            throw e;
+        }
+
+        //상대방이 채팅방에 접속해 있는지 확인
+        Long receiverId = findChat.getPeerId(message.getSenderId());
+        boolean receiverConnected = chatPresenceService.isConnected(message.getChatRoomId(), receiverId);
 
         // 메세지 타입에 따른 메세지 변경 및 시간 입력
-        ChatMessageRequest messageRequest = changeMessage(message, connectStat);
+        ChatMessageRequest messageRequest = changeMessage(message, receiverConnected);
+
+        // 채팅방 내 순번 발급 -> 같은 초에 보낸 메세지 정렬, 빠진 메세지 확인용
+        try {
+            messageRequest.setSeq(chatSequenceGenerator.next(findChat));
+        } catch (RuntimeException e) {
+            chatMessageDeduplicator.release(message.getChatRoomId(), message.getMessageId());
+            throw e;
+        }
 
         Message newMessage = Message.builder()
                 .messageUuId(messageRequest.getMessageId())
+                .seq(messageRequest.getSeq())
                 .content(messageRequest.getMessage())
                 .writerId(messageRequest.getSenderId())
                 .sendDateTime(messageRequest.getSendTime())
@@ -141,62 +408,63 @@ public class ChatService {
                 .chat(findChat)
                 .build();
 
-        findChat.getMessages().add(newMessage);
+        messageBatchWriter.add(newMessage);
 
-        // 나만 접속해 있는 경우 알람 발송
-        if (connectStat == true) {
-             alarmService.getChatAlarm(messageRequest);
+        // 상대방이 접속해 있지 않은 경우 알람 발송 -> ChatAlarmDispatcher 에서 비동기로 발송
+        if (!receiverConnected && receiverId != null) {
+            eventPublisher.publishEvent(ChatAlarmRequest.builder()
+                    .chatRoomId(messageRequest.getChatRoomId())
+                    .senderId(messageRequest.getSenderId())
+                    .receiverId(receiverId)
+                    .message(messageRequest.getMessage())
+                    .build());
         }
 
         return messageRequest;
     }
 
     /**
-     * 채팅방 나가기
+     * 채팅방 참여 여부 -> 참여자만 채팅방 구독 가능
      */
-    @Transactional
-    public boolean deleteChat(String chatRoomId) {
-        Chat findChat = chatRepository.findByChatRoomId(chatRoomId)
-                .orElseThrow(() -> new NotFoundChatException());
-
-        chatRepository.delete(findChat);
-        return true;
+    public boolean isParticipant(String chatRoomId, Long userId) {
+        return userId != null && chatRepository.existsParticipant(chatRoomId, userId);
     }
 
     /**
-     * 채팅방 접속 상태
-     * 1명만 접속해 있는 경우 -> connectStat : True
-     * 2명 다 접속해 있는 경우 -> connectStat : False
+     * 채팅방 나가기
      */
     @Transactional
-    public boolean changeConnectStat(String chatRoomId) {
+    public boolean deleteChat(String chatRoomId) {
         Chat findChat = chatRepository.findByChatRoomId(chatRoomId)
                 .orElseThrow(() -> new NotFoundChatException());
 
-        return findChat.changeConnectStat();
+        chatRepository.delete(findChat);
+        recentMessageCache.evict(chatRoomId);
+        chatSequenceGenerator.evict(findChat.getId());
+        return true;
     }
 
     /**
      * 안읽은 메세지 읽음 처리
+     * 메세지마다 읽음 여부를 바꾸지 않고 채팅방의 내 읽음 위치만 갱신
      */
     @Transactional
     public void readNotReadMessage(String chatRoomId,String userId) {
-        Chat findChat = chatRepository.findByChatRoomId(chatRoomId)
-                .orElseThrow(() -> new NotFoundChatException());
+        // 아직 저장되지 않은 메세지까지 읽음 처리되도록 먼저 저장
+        messageBatchWriter.flush();
 
         User findSender = userService.find(Long.parseLong(userId));
 
-        //자기 채팅이 아니면 읽음 처리하면 안됌
-        findChat.getMessages().stream()
-                .filter(m -> m.getWriterId() != findSender.getId())
-                .filter(m -> m.isReadStat() == false)
-                .forEach(m -> m.changeReadStat());
+        int updated = chatRepository.markAsRead(chatRoomId, findSender.getId());
+        if (updated == 0) {
+            throw new NotFoundChatException();
+        }
     }
 
     /**
      * 메세지 변경 함수
      */
-    private ChatMessageRequest changeMessage(ChatMessageRequest message, boolean connectStat) {
+    private ChatMessageRequest changeMessage(ChatMessageRequest message, boolean receiverConnected) {
         switch (message.getType()) {
             case TALK:
                 break;
@@ -207,11 +475,11 @@ public class ChatService {
                 message.setMessage("소중한 지원 감사드립니다!\n아쉽지만 다음 기회에..");
                 break;
         }
-        LocalDateTime sendTime = LocalDateTime.now(ZoneId.of("Asia/Seoul")).withNano(0);
+        LocalDateTime sendTime = LocalDateTime.now(clock).withNano(0);
         message.setSendTime(sendTime);
 
         // 현 인원에 따른 메세지 읽음 여부 변경
-        ChatMessageRequest changedMessage = changeReadStat(message, connectStat);
+        ChatMessageRequest changedMessage = changeReadStat(message, receiverConnected);
 
         log.info("message type = {}", changedMessage.getType());
         log.info("changed message = {}", changedMessage.getMessage());
@@ -220,16 +488,57 @@ public class ChatService {
     }
 
     /**
-     * 메세지 읽음 여부 변경
+     * 메세지 읽음 여부 변경 -> 상대방이 채팅방에 접속해 있으면 바로 읽음 처리
      */
-    private ChatMessageRequest changeReadStat(ChatMessageRequest message, boolean connectStat) {
-        if (connectStat == false) {
-            message.setReadStat(true);
-            return message;
-        }
+    private ChatMessageRequest changeReadStat(ChatMessageRequest message, boolean receiverConnected) {
+        message.setReadStat(receiverConnected);
         return message;
     }
 
+    /**
+     * 순번 커서 -> (sendDateTime, message_id) 커서로 변환
+     * 아직 저장되지 않은 메세지면 저장 대기 중인 메세지의 보낸 시간으로 변환 -> 조회 경로에서는 저장하지 않음
+     * 저장 대기 중인 메세지는 저장된 메세지보다 큰 ID 를 받으므로 같은 시간에 저장된 메세지는 모두 이전 메세지로 포함
+     */
+    private ChatCursor toTimeCursor(Chat chat, ChatCursor cursor) {
+        if (!cursor.isSeq()) {
+            return cursor;
+        }
+
+        Optional<Message> stored = messageRepository.findByChatAndSeq(chat, cursor.getSeq());
+        if (stored.isPresent()) {
+            return ChatCursor.decode(ChatCursor.encode(stored.get()));
+        }
+
+        Message unsaved = messageBatchWriter.findUnsaved(chat.getId(), cursor.getSeq())
+                // 두 조회 사이에 저장이 끝난 경우
+                .or(() -> messageRepository.findByChatAndSeq(chat, cursor.getSeq()))
+                .orElseThrow(() -> new InvalidCursorException());
+
+        Long messageId = unsaved.getId() != null ? unsaved.getId() : Long.MAX_VALUE;
+        return ChatCursor.decode(ChatCursor.encode(unsaved.getSendDateTime(), messageId));
+    }
+
+    /**
+     * 채팅방 목록 페이지 크기 보정
+     */
+    private int getChatListSize(Integer size) {
+        if (size == null || size <= 0) {
+            return DEFAULT_CHAT_LIST_SIZE;
+        }
+        return Math.min(size, MAX_CHAT_LIST_SIZE);
+    }
+
+    /**
+     * 채팅 기록 페이지 크기 보정
+     */
+    private int getHistorySize(Integer size) {
+        if (size == null || size <= 0) {
+            return DEFAULT_HISTORY_SIZE;
+        }
+        return Math.min(size, MAX_HISTORY_SIZE);
+    }
+
     /**
      * 클라이언트로 메세지 전송 함수
      */
@@ -239,18 +548,41 @@ public class ChatService {
     }
 
     /**
-     * 채팅 메세지 업데이트 안읽음 -> 읽음
+     * 읽음 이벤트 전송 -> 채팅 기록 전체 대신 읽은 위치만 전달
      */
-    public void updateChatHistory(String chatRoomId) {
-        ChatHistoryResponse chatHistory = getChatHistory(chatRoomId);
+    public void sendReadReceipt(String chatRoomId, String userId) {
+        ChatMessageRequest readReceipt = createReadReceipt(chatRoomId, userId);
 
-        if (!chatHistory.getChatHistory().isEmpty()) {
-            ChatMessageRequest messageRequest = ChatMessageRequest.builder()
-                    .chatRoomId(chatRoomId)
-                    .chatHistory(chatHistory)
-                    .build();
+        if (readReceipt != null) {
+            sendMesssage(readReceipt);
+        }
+    }
+
+    /**
+     * 읽음 이벤트 생성 (채팅방 ID, 읽은 사람 ID, 마지막으로 읽은 메세지)
+     * 읽은 메세지가 없으면 null
+     */
+    public ChatMessageRequest createReadReceipt(String chatRoomId, String userId) {
+        Long readerId = Long.parseLong(userId);
 
-            sendMesssage(messageRequest);
+        Chat findChat = chatRepository.findWithUserByChatRoomId(chatRoomId)
+                .orElseThrow(() -> new NotFoundChatException());
+
+        Long lastReadSeq = findChat.getLastReadSeq(readerId);
+        if (lastReadSeq == null) {
+            return null;
         }
+
+        // 읽음 위치의 메세지가 빈 순번이면 순번만 전달
+        Optional<Message> lastRead = messageRepository.findByChatAndSeq(findChat, lastReadSeq);
+        return ChatMessageRequest.builder()
+                .chatRoomId(chatRoomId)
+                .type(ChatMessageRequest.MessageType.READ)
+                .senderId(readerId)
+                .messageId(lastRead.map(Message::getMessageUuId).orElse(null))
+                .seq(lastReadSeq)
+                .sendTime(lastRead.map(Message::getSendDateTime).orElse(null))
+                .readStat(true)
+                .build();
     }
 }
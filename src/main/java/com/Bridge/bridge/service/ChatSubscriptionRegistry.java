@@ -0,0 +1,129 @@
+package com.Bridge.bridge.service;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 현재 서버(노드)에 STOMP 로 접속한 채팅방 구독 정보 -> (채팅방 ID, 유저 ID, 세션 ID)
+ * Kafka 로 받은 메세지 중 이 노드에 구독자가 있는 채팅방만 클라이언트로 전달하고,
+ * 채팅방 접속 여부(ChatPresenceService)를 판단하기 위해 사용
+ */
+@Slf4j
+@Component
+public class ChatSubscriptionRegistry {
+
+    // 세션 ID -> (구독 ID -> 구독 정보)
+    private final Map<String, Map<String, Subscription>> sessionSubscriptions = new ConcurrentHashMap<>();
+
+    // 채팅방 ID -> (유저 ID -> 이 노드의 구독 수)
+    private final Map<String, Map<Long, Integer>> roomSubscriptions = new ConcurrentHashMap<>();
+
+    /**
+     * 채팅방 구독 등록
+     */
+    public void subscribe(String sessionId, String subscriptionId, String chatRoomId, Long userId) {
+        Subscription oldSubscription = sessionSubscriptions.computeIfAbsent(sessionId, s -> new ConcurrentHashMap<>())
+                .put(subscriptionId, new Subscription(chatRoomId, userId));
+
+        // 같은 구독 ID 로 재구독한 경우 이전 구독 정리
+        if (oldSubscription != null) {
+            decrease(oldSubscription);
+        }
+        roomSubscriptions.compute(chatRoomId, (id, users) -> {
+            Map<Long, Integer> counts = users == null ? new ConcurrentHashMap<>() : users;
+            counts.merge(userId, 1, Integer::sum);
+            return counts;
+        });
+    }
+
+    /**
+     * 채팅방 구독 해제 -> 해제된 구독 정보 반환 (없으면 null)
+     */
+    public Subscription unsubscribe(String sessionId, String subscriptionId) {
+        Map<String, Subscription> subscriptions = sessionSubscriptions.get(sessionId);
+        if (subscriptions == null) {
+            return null;
+        }
+
+        Subscription subscription = subscriptions.remove(subscriptionId);
+        if (subscription != null) {
+            decrease(subscription);
+        }
+        return subscription;
+    }
+
+    /**
+     * 세션 종료 -> 해당 세션의 모든 구독 해제 후 구독 정보 목록 반환
+     */
+    public Collection<Subscription> removeSession(String sessionId) {
+        Map<String, Subscription> subscriptions = sessionSubscriptions.remove(sessionId);
+        if (subscriptions == null) {
+            return Collections.emptyList();
+        }
+
+        subscriptions.values().forEach(this::decrease);
+        log.info("세션 종료 sessionId = {}, 해제된 구독 수 = {}", sessionId, subscriptions.size());
+        return subscriptions.values();
+    }
+
+    /**
+     * 이 노드에 해당 채팅방 구독자가 있는지 여부
+     */
+    public boolean hasLocalSubscribers(String chatRoomId) {
+        return chatRoomId != null && roomSubscriptions.containsKey(chatRoomId);
+    }
+
+    /**
+     * 이 노드에서 해당 유저가 채팅방을 구독 중인지 여부
+     */
+    public boolean isSubscribed(String chatRoomId, Long userId) {
+        Map<Long, Integer> users = roomSubscriptions.get(chatRoomId);
+        return users != null && userId != null && users.containsKey(userId);
+    }
+
+    /**
+     * 이 노드에서 채팅방을 구독 중인 유저 목록
+     */
+    public Set<Long> getUsers(String chatRoomId) {
+        Map<Long, Integer> users = roomSubscriptions.get(chatRoomId);
+        return users == null ? Collections.emptySet() : new HashSet<>(users.keySet());
+    }
+
+    /**
+     * 이 노드의 채팅방별 구독 유저 전체 -> 다른 노드로 복제할 때 사용
+     */
+    public Map<String, Set<Long>> snapshot() {
+        Map<String, Set<Long>> snapshot = new HashMap<>();
+        roomSubscriptions.forEach((chatRoomId, users) -> snapshot.put(chatRoomId, new HashSet<>(users.keySet())));
+        return snapshot;
+    }
+
+    private void decrease(Subscription subscription) {
+        roomSubscriptions.computeIfPresent(subscription.getChatRoomId(), (id, users) -> {
+            users.computeIfPresent(subscription.getUserId(), (userId, count) -> count > 1 ? count - 1 : null);
+            return users.isEmpty() ? null : users;
+        });
+    }
+
+    @Getter
+    public static class Subscription {
+
+        private final String chatRoomId;
+
+        private final Long userId;
+
+        public Subscription(String chatRoomId, Long userId) {
+            this.chatRoomId = chatRoomId;
+            this.userId = userId;
+        }
+    }
+}
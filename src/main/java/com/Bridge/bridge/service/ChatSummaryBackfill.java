@@ -0,0 +1,89 @@
+package com.Bridge.bridge.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+/**
+ * 채팅방 요약 정보 채우기 (요약 컬럼 추가 전에 만들어진 채팅방)
+ * 메세지는 있는데 마지막 메세지 시간이 비어있는 채팅방만 message 테이블에서 계산해서 채움
+ * -> 이미 채워진 채팅방은 건드리지 않으므로 시작할 때마다 실행해도 됨, 다 채운 뒤에는 chat.summary.backfill=false
+ * 웹 서버가 요청을 받기 전에 실행 -> 새 메세지가 먼저 저장되어 이전 안 읽은 메세지 수가 빠지는 일이 없도록
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "chat.summary.backfill", havingValue = "true", matchIfMissing = true)
+public class ChatSummaryBackfill implements SmartInitializingSingleton {
+
+    // 요약 정보가 비어있는 채팅방 (chat_id 순)
+    private static final String SELECT_SQL = "SELECT c.chat_id FROM chat AS c " +
+            "WHERE c.chat_id > ? AND c.last_message_time IS NULL " +
+            "AND EXISTS (SELECT 1 FROM message AS m WHERE m.chat_id = c.chat_id) " +
+            "ORDER BY c.chat_id LIMIT ?";
+
+    // 마지막 메세지 + 참여자별 안 읽은 메세지 수 (상대방이 보냈고, 읽음 표시가 없고, 읽음 위치 이후인 메세지)
+    private static final String UPDATE_SQL = "UPDATE chat AS c SET " +
+            "c.last_message = (SELECT m.content FROM message AS m WHERE m.chat_id = c.chat_id " +
+            "ORDER BY m.send_date_time DESC, m.message_id DESC LIMIT 1), " +
+            "c.last_message_type = (SELECT m.type FROM message AS m WHERE m.chat_id = c.chat_id " +
+            "ORDER BY m.send_date_time DESC, m.message_id DESC LIMIT 1), " +
+            "c.last_message_time = (SELECT MAX(m.send_date_time) FROM message AS m WHERE m.chat_id = c.chat_id), " +
+            "c.make_user_not_read_cnt = (SELECT COUNT(*) FROM message AS m WHERE m.chat_id = c.chat_id " +
+            "AND m.read_stat = FALSE AND m.writer_id <> c.make_user_id " +
+            "AND (c.make_user_last_read_seq IS NULL OR m.seq > c.make_user_last_read_seq)), " +
+            "c.receive_user_not_read_cnt = (SELECT COUNT(*) FROM message AS m WHERE m.chat_id = c.chat_id " +
+            "AND m.read_stat = FALSE AND m.writer_id <> c.receive_user_id " +
+            "AND (c.receive_user_last_read_seq IS NULL OR m.seq > c.receive_user_last_read_seq)) " +
+            "WHERE c.chat_id = ? AND c.last_message_time IS NULL";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final int batchSize;
+
+    public ChatSummaryBackfill(JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate,
+                               @Value("${chat.summary.backfill-batch-size:500}") int batchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.batchSize = batchSize;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        try {
+            int filled = backfill();
+            if (filled > 0) {
+                log.info("채팅방 요약 정보 채우기 완료 ({}건)", filled);
+            }
+        } catch (RuntimeException e) {
+            // 요약 정보가 없어도 채팅은 동작 -> 다음 시작 때 다시 시도
+            log.error("채팅방 요약 정보 채우기 실패", e);
+        }
+    }
+
+    /**
+     * batch-size 개씩 채팅방 요약 정보 채우기 -> 채운 채팅방 수
+     */
+    public int backfill() {
+        int filled = 0;
+        long lastChatId = 0;
+        while (true) {
+            List<Long> chatIds = jdbcTemplate.queryForList(SELECT_SQL, Long.class, lastChatId, batchSize);
+            if (chatIds.isEmpty()) {
+                return filled;
+            }
+            // 채우는 중 새 메세지가 저장되면 last_message_time 이 채워져서 해당 채팅방은 건너뜀
+            transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(UPDATE_SQL, chatIds, chatIds.size(),
+                    (ps, chatId) -> ps.setLong(1, chatId)));
+            filled += chatIds.size();
+            lastChatId = chatIds.get(chatIds.size() - 1);
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package com.Bridge.bridge.service;
+
+import com.Bridge.bridge.dto.request.ChatMessageRequest;
+
+/**
+ * 채팅 메세지 전달 경로
+ * chat.transport 설정으로 선택
+ * - kafka (기본) : 브로커를 거쳐 모든 노드로 전달 -> 다중 서버 운영
+ * - local : 프로세스 내부 링 버퍼로 전달 -> 단일 서버 운영, 부하 테스트, 로컬 개발 (브로커 불필요)
+ * 받은 메세지는 MessageReceiver 로 넘겨 구독자에게 전달
+ */
+public interface ChatTransport {
+
+    void send(String topic, ChatMessageRequest message);
+}
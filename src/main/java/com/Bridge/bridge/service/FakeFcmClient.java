@@ -0,0 +1,63 @@
+package com.Bridge.bridge.service;
+
+import com.Bridge.bridge.dto.request.NotificationRequest;
+import com.google.firebase.messaging.MessagingErrorCode;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 외부 호출 없는 FCM 발송 (부하 테스트용)
+ * - 요청마다 latency-ms 만큼 대기
+ * - failure-rate 확률로 일시적인 오류(UNAVAILABLE) 반환 -> 재시도 경로 확인
+ * - "invalid" 로 시작하는 토큰은 만료된 토큰(UNREGISTERED)으로 처리
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "fcm.client", havingValue = "fake")
+public class FakeFcmClient implements FcmClient {
+
+    private static final String INVALID_TOKEN_PREFIX = "invalid";
+
+    private final long latencyMs;
+
+    private final double failureRate;
+
+    public FakeFcmClient(@Value("${fcm.fake.latency-ms:50}") long latencyMs,
+                         @Value("${fcm.fake.failure-rate:0.0}") double failureRate) {
+        this.latencyMs = latencyMs;
+        this.failureRate = failureRate;
+    }
+
+    @Override
+    public List<MessagingErrorCode> sendAll(List<NotificationRequest> requests) {
+        if (latencyMs > 0) {
+            try {
+                Thread.sleep(latencyMs);
+            }
+            catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        List<MessagingErrorCode> results = new ArrayList<>(requests.size());
+        for (NotificationRequest request : requests) {
+            if (request.getDeviceToken() == null || request.getDeviceToken().startsWith(INVALID_TOKEN_PREFIX)) {
+                results.add(MessagingErrorCode.UNREGISTERED);
+            }
+            else if (ThreadLocalRandom.current().nextDouble() < failureRate) {
+                results.add(MessagingErrorCode.UNAVAILABLE);
+            }
+            else {
+                results.add(null);
+            }
+        }
+        log.debug("FCM 발송 흉내 size = {}", requests.size());
+        return results;
+    }
+}
@@ -0,0 +1,280 @@
+package com.Bridge.bridge.service;
+
+import com.Bridge.bridge.dto.request.NotificationRequest;
+import com.Bridge.bridge.repository.UserRepository;
+import com.google.firebase.messaging.MessagingErrorCode;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * FCM 푸시 batch 발송
+ * 알림은 큐에 쌓아두고 전용 스레드가 최대 500개씩 묶어서 한 번에 발송 -> 알림마다 FCM 을 호출하지 않음
+ * - 일시적인 오류 (UNAVAILABLE, INTERNAL, QUOTA_EXCEEDED) 는 backoff 간격을 두 배씩 늘리며 max-attempts 번까지 재시도
+ * - 만료된 토큰 (UNREGISTERED, SENDER_ID_MISMATCH) 은 유저의 디바이스 토큰을 지움 -> 이후 발송 생략
+ * - 큐가 가득 차면 버림 (알림은 최선 노력)
+ */
+@Slf4j
+@Component
+public class FcmBatchSender {
+
+    private static final Set<MessagingErrorCode> TRANSIENT_ERRORS = EnumSet.of(
+            MessagingErrorCode.UNAVAILABLE,
+            MessagingErrorCode.INTERNAL,
+            MessagingErrorCode.QUOTA_EXCEEDED);
+
+    private static final Set<MessagingErrorCode> INVALID_TOKEN_ERRORS = EnumSet.of(
+            MessagingErrorCode.UNREGISTERED,
+            MessagingErrorCode.SENDER_ID_MISMATCH);
+
+    private final FcmClient fcmClient;
+
+    private final UserRepository userRepository;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final int batchSize;
+
+    private final long flushIntervalMs;
+
+    private final int maxAttempts;
+
+    private final long backoffMs;
+
+    private final BlockingQueue<Delivery> queue;
+
+    // 재시도 대기 -> 시간이 되면 다시 큐에 넣음
+    private final ScheduledExecutorService retryScheduler;
+
+    // 큐에 있거나 발송 중이거나 재시도 대기 중인 알림 수
+    private final AtomicInteger pending = new AtomicInteger();
+
+    private final Counter successCounter;
+
+    private final Counter failureCounter;
+
+    private final Counter retryCounter;
+
+    private final Counter droppedCounter;
+
+    private final Timer batchTimer;
+
+    private final DistributionSummary batchSizeSummary;
+
+    private Thread senderThread;
+
+    private volatile boolean running;
+
+    public FcmBatchSender(FcmClient fcmClient, UserRepository userRepository, TransactionTemplate transactionTemplate,
+                          MeterRegistry meterRegistry,
+                          @Value("${fcm.batch-size:500}") int batchSize,
+                          @Value("${fcm.flush-interval-ms:50}") long flushIntervalMs,
+                          @Value("${fcm.queue-capacity:10000}") int queueCapacity,
+                          @Value("${fcm.max-attempts:3}") int maxAttempts,
+                          @Value("${fcm.backoff-ms:500}") long backoffMs) {
+        this.fcmClient = fcmClient;
+        this.userRepository = userRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.batchSize = Math.min(batchSize, FcmClient.MAX_BATCH_SIZE);
+        this.flushIntervalMs = flushIntervalMs;
+        this.maxAttempts = maxAttempts;
+        this.backoffMs = backoffMs;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+
+        this.retryScheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "fcm-retry");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        this.successCounter = Counter.builder("fcm.messages")
+                .tag("result", "success")
+                .register(meterRegistry);
+        this.failureCounter = Counter.builder("fcm.messages")
+                .tag("result", "failure")
+                .register(meterRegistry);
+        this.retryCounter = Counter.builder("fcm.messages")
+                .tag("result", "retry")
+                .register(meterRegistry);
+        this.droppedCounter = Counter.builder("fcm.messages")
+                .tag("result", "dropped")
+                .register(meterRegistry);
+        this.batchTimer = Timer.builder("fcm.batch.latency")
+                .register(meterRegistry);
+        this.batchSizeSummary = DistributionSummary.builder("fcm.batch.size")
+                .register(meterRegistry);
+        Gauge.builder("fcm.queue.size", queue, BlockingQueue::size)
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        running = true;
+
+        senderThread = new Thread(this::sendLoop, "fcm-batch-sender");
+        senderThread.setDaemon(true);
+        senderThread.start();
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        retryScheduler.shutdownNow();
+        running = false;
+        senderThread.interrupt();
+        senderThread.join(TimeUnit.SECONDS.toMillis(5));
+    }
+
+    /**
+     * 발송할 알림 추가 -> deviceToken 이 채워진 요청만 받음
+     * 큐가 가득 찬 경우 버림
+     */
+    public void enqueue(NotificationRequest notificationRequest) {
+        pending.incrementAndGet();
+        offer(new Delivery(notificationRequest, 1));
+    }
+
+    public int getPending() {
+        return pending.get();
+    }
+
+    private void offer(Delivery delivery) {
+        if (!queue.offer(delivery)) {
+            pending.decrementAndGet();
+            droppedCounter.increment();
+            log.warn("FCM 발송 큐 가득 참 -> 알림 생략 userId = {}", delivery.request.getUserId());
+        }
+    }
+
+    private void sendLoop() {
+        List<Delivery> batch = new ArrayList<>(batchSize);
+
+        while (running) {
+            try {
+                Delivery first = queue.poll(flushIntervalMs, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+
+                send(batch);
+                batch.clear();
+            }
+            catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+            catch (RuntimeException e) {
+                log.error("FCM 발송 스레드 오류", e);
+                pending.addAndGet(-batch.size());
+                batch.clear();
+            }
+        }
+    }
+
+    private void send(List<Delivery> batch) {
+        List<NotificationRequest> requests = new ArrayList<>(batch.size());
+        batch.forEach(delivery -> requests.add(delivery.request));
+
+        long start = System.nanoTime();
+        List<MessagingErrorCode> results;
+        try {
+            results = fcmClient.sendAll(requests);
+        }
+        catch (RuntimeException e) {
+            log.error("FCM 발송 실패 size = {}", batch.size(), e);
+            results = new ArrayList<>();
+            for (int i = 0; i < batch.size(); i++) {
+                results.add(MessagingErrorCode.INTERNAL);
+            }
+        }
+        batchTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        batchSizeSummary.record(batch.size());
+
+        List<String> invalidTokens = new ArrayList<>();
+        for (int i = 0; i < batch.size(); i++) {
+            Delivery delivery = batch.get(i);
+            MessagingErrorCode errorCode = results.get(i);
+
+            if (errorCode == null) {
+                successCounter.increment();
+                pending.decrementAndGet();
+            }
+            else if (TRANSIENT_ERRORS.contains(errorCode) && delivery.attempt < maxAttempts) {
+                retry(delivery);
+            }
+            else {
+                if (INVALID_TOKEN_ERRORS.contains(errorCode)) {
+                    invalidTokens.add(delivery.request.getDeviceToken());
+                }
+                log.warn("FCM 발송 실패 userId = {}, attempt = {}, error = {}",
+                        delivery.request.getUserId(), delivery.attempt, errorCode);
+                failureCounter.increment();
+                pending.decrementAndGet();
+            }
+        }
+
+        if (!invalidTokens.isEmpty()) {
+            clearDeviceTokens(invalidTokens);
+        }
+    }
+
+    private void retry(Delivery delivery) {
+        retryCounter.increment();
+        long delay = backoffMs << (delivery.attempt - 1);
+        try {
+            retryScheduler.schedule(() -> offer(new Delivery(delivery.request, delivery.attempt + 1)),
+                    delay, TimeUnit.MILLISECONDS);
+        }
+        catch (RejectedExecutionException e) {
+            // 종료 중
+            failureCounter.increment();
+            pending.decrementAndGet();
+        }
+    }
+
+    // 만료된 토큰 정리 -> 실패해도 다음 발송 때 다시 시도되므로 로그만 남김
+    private void clearDeviceTokens(List<String> deviceTokens) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> userRepository.clearDeviceTokens(deviceTokens));
+            log.info("만료된 디바이스 토큰 {}개 삭제", deviceTokens.size());
+        }
+        catch (DataAccessException | TransactionException e) {
+            log.error("만료된 디바이스 토큰 삭제 실패", e);
+        }
+    }
+
+    private static class Delivery {
+
+        private final NotificationRequest request;
+
+        private final int attempt;
+
+        private Delivery(NotificationRequest request, int attempt) {
+            this.request = request;
+            this.attempt = attempt;
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package com.Bridge.bridge.service;
+
+import com.Bridge.bridge.dto.request.NotificationRequest;
+import com.google.firebase.messaging.MessagingErrorCode;
+
+import java.util.List;
+
+/**
+ * FCM 발송 경로
+ * fcm.client 설정으로 선택
+ * - firebase (기본) : Firebase Admin SDK 로 실제 발송
+ * - fake : 외부 호출 없이 지연 시간과 실패만 흉내 -> 부하 테스트, 로컬 개발 (FCM 키 불필요)
+ */
+public interface FcmClient {
+
+    // 한 번에 보낼 수 있는 최대 메세지 수 (FCM batch 제한)
+    int MAX_BATCH_SIZE = 500;
+
+    /**
+     * 요청 순서대로 결과 반환 -> 성공은 null, 실패는 오류 코드
+     */
+    List<MessagingErrorCode> sendAll(List<NotificationRequest> requests);
+}
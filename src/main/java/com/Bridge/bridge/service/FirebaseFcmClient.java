@@ -0,0 +1,80 @@
+package com.Bridge.bridge.service;
+
+import com.Bridge.bridge.dto.request.NotificationRequest;
+import com.google.firebase.messaging.BatchResponse;
+import com.google.firebase.messaging.FirebaseMessaging;
+import com.google.firebase.messaging.FirebaseMessagingException;
+import com.google.firebase.messaging.Message;
+import com.google.firebase.messaging.MessagingErrorCode;
+import com.google.firebase.messaging.Notification;
+import com.google.firebase.messaging.SendResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Firebase Admin SDK 로 FCM 발송
+ * 받는 사람마다 알림 내용이 달라서 sendMulticast 대신 sendEach 로 한 번에 최대 500개 발송
+ * (sendAll 이 쓰던 batch 엔드포인트는 종료됨 -> sendEach 는 메세지마다 HTTP v1 API 로 동시에 발송)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "fcm.client", havingValue = "firebase", matchIfMissing = true)
+public class FirebaseFcmClient implements FcmClient {
+
+    private final FirebaseMessaging firebaseMessaging;
+
+    @Override
+    public List<MessagingErrorCode> sendAll(List<NotificationRequest> requests) {
+        List<Message> messages = requests.stream()
+                .map(this::toMessage)
+                .collect(Collectors.toList());
+
+        BatchResponse batchResponse;
+        try {
+            batchResponse = firebaseMessaging.sendEach(messages);
+        }
+        catch (FirebaseMessagingException e) {
+            // 요청 전체 실패 -> 모든 메세지를 같은 오류로 처리
+            log.warn("FCM 발송 실패 size = {}, error = {}", messages.size(), e.getMessagingErrorCode());
+            return new ArrayList<>(Collections.nCopies(messages.size(), errorCode(e)));
+        }
+
+        List<MessagingErrorCode> results = new ArrayList<>(messages.size());
+        for (SendResponse response : batchResponse.getResponses()) {
+            results.add(response.isSuccessful() ? null : errorCode(response.getException()));
+        }
+        return results;
+    }
+
+    private Message toMessage(NotificationRequest notificationRequest) {
+        // 알림 생성하기
+        Notification notification = Notification.builder()
+                .setTitle(notificationRequest.getTitle())
+                .setBody(notificationRequest.getBody())
+                .build();
+
+        // 알림 메세지 생성하기
+        return Message.builder()
+                .setToken(notificationRequest.getDeviceToken())
+                .setNotification(notification)
+                .putData("time", LocalDateTime.now().toString())
+                .build();
+    }
+
+    // 오류 코드가 없는 경우 (네트워크 오류 등) -> 일시적인 오류로 보고 재시도
+    private MessagingErrorCode errorCode(FirebaseMessagingException e) {
+        if (e == null || e.getMessagingErrorCode() == null) {
+            return MessagingErrorCode.INTERNAL;
+        }
+        return e.getMessagingErrorCode();
+    }
+}
@@ -0,0 +1,113 @@
+package com.Bridge.bridge.service;
+
+import com.Bridge.bridge.dto.request.ChatMessageRequest;
+import com.Bridge.bridge.util.MpscRingBuffer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 프로세스 내부 채팅 메세지 전달 (브로커 없이 동작)
+ * 보내는 스레드들은 링 버퍼에 넣기만 하고, 전용 스레드 하나가 순서대로 꺼내 MessageReceiver 로 전달
+ * -> 보낸 순서 그대로 전달, 다른 노드로는 전달되지 않으므로 단일 서버에서만 사용
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "chat.transport", havingValue = "local")
+public class InProcessChatTransport implements ChatTransport {
+
+    private static final int SPIN_TRIES = 100;
+
+    private final MessageReceiver messageReceiver;
+
+    @Value("${chat.transport.local.capacity:65536}")
+    private int capacity;
+
+    private MpscRingBuffer<ChatMessageRequest> ringBuffer;
+
+    private Thread dispatcherThread;
+
+    // 전달 스레드가 잠들어 있는지 -> 보내는 쪽에서 깨움
+    private volatile boolean sleeping;
+
+    private volatile boolean running;
+
+    @PostConstruct
+    public void start() {
+        ringBuffer = new MpscRingBuffer<>(capacity);
+        running = true;
+
+        dispatcherThread = new Thread(this::dispatchLoop, "chat-local-transport");
+        dispatcherThread.setDaemon(true);
+        dispatcherThread.start();
+        log.info("프로세스 내부 채팅 전달 사용 (capacity = {})", ringBuffer.capacity());
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        LockSupport.unpark(dispatcherThread);
+        dispatcherThread.join(TimeUnit.SECONDS.toMillis(5));
+    }
+
+    /**
+     * 링 버퍼가 가득 찬 경우 자리가 날 때까지 대기 -> 메세지를 버리지 않음
+     */
+    @Override
+    public void send(String topic, ChatMessageRequest message) {
+        int tries = 0;
+        while (!ringBuffer.offer(message)) {
+            if (tries++ == 0) {
+                log.warn("채팅 전달 버퍼 가득 참 -> 대기");
+            }
+            LockSupport.parkNanos(TimeUnit.MICROSECONDS.toNanos(50));
+        }
+
+        if (sleeping) {
+            LockSupport.unpark(dispatcherThread);
+        }
+    }
+
+    private void dispatchLoop() {
+        int idle = 0;
+
+        // 종료 시에도 남은 메세지는 모두 전달
+        while (running || !ringBuffer.isEmpty()) {
+            ChatMessageRequest message = ringBuffer.poll();
+            if (message != null) {
+                idle = 0;
+                dispatch(message);
+                continue;
+            }
+
+            if (idle++ < SPIN_TRIES) {
+                Thread.onSpinWait();
+                continue;
+            }
+
+            // 잠들기 전에 한 번 더 확인 -> 그 사이 들어온 메세지를 놓치지 않음
+            sleeping = true;
+            if (ringBuffer.isEmpty() && running) {
+                LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(100));
+            }
+            sleeping = false;
+        }
+    }
+
+    private void dispatch(ChatMessageRequest message) {
+        try {
+            messageReceiver.receiveMessage(message);
+        }
+        catch (RuntimeException e) {
+            log.error("채팅 메세지 전달 실패 chatRoomId = {}", message.getChatRoomId(), e);
+        }
+    }
+}
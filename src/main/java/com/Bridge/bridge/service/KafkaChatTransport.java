@@ -0,0 +1,36 @@
+package com.Bridge.bridge.service;
+
+import com.Bridge.bridge.dto.request.ChatMessageRequest;
+import com.Bridge.bridge.util.Constant;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Kafka 를 통한 채팅 메세지 전달
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "chat.transport", havingValue = "kafka", matchIfMissing = true)
+public class KafkaChatTransport implements ChatTransport {
+
+    private final KafkaTemplate<String, ChatMessageRequest> kafkaTemplate;
+
+    private final MessageReceiver messageReceiver;
+
+    @Override
+    public void send(String topic, ChatMessageRequest message) {
+
+        // Kafka Template 을 사용하여 메세지를 지정된 토픽으로 전송
+        // 채팅방 ID 를 키로 사용 -> 같은 채팅방 메세지는 항상 같은 파티션으로 전송되어 순서 보장
+        kafkaTemplate.send(topic, message.getChatRoomId(), message);
+    }
+
+    // 컨슈머 그룹은 ConsumerConfig 에서 노드별로 지정 -> 모든 노드가 모든 메세지를 수신
+    @KafkaListener(topics = Constant.KAFKA_TOPIC, containerFactory = "kafkaListenerContainerFactory")
+    public void receive(ChatMessageRequest message) {
+        messageReceiver.receiveMessage(message);
+    }
+}
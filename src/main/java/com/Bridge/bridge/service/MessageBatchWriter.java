@@ -0,0 +1,330 @@
+package com.Bridge.bridge.service;
+
+import com.Bridge.bridge.domain.Message;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 채팅 메세지 지연 저장 (write-behind)
+ * 메세지는 큐에 쌓아두고 전용 스레드가 batch-size 개가 모이거나 flush-interval 이 지나면 JDBC batch insert 로 저장
+ * -> 메세지 발송 경로에서 INSERT 를 기다리지 않음
+ * 같은 트랜잭션에서 채팅방 요약 정보(마지막 메세지, 안 읽은 메세지 수)도 채팅방별로 한 번씩만 갱신
+ * 저장은 항상 별도 트랜잭션(REQUIRES_NEW) -> 호출한 쪽 트랜잭션이 롤백되거나 읽기 전용이어도 메세지가 유실되지 않음
+ */
+@Slf4j
+@Component
+public class MessageBatchWriter {
+
+    private static final String INSERT_SQL = "INSERT INTO message " +
+            "(message_uu_id, seq, content, writer_id, send_date_time, read_stat, type, chat_id) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String EXISTS_SQL = "SELECT COUNT(*) FROM message WHERE chat_id = ? AND message_uu_id = ?";
+
+    // 마지막 메세지 갱신 -> 더 최근 메세지가 이미 반영된 경우는 무시
+    private static final String UPDATE_LAST_MESSAGE_SQL = "UPDATE chat " +
+            "SET last_message = ?, last_message_type = ?, last_message_time = ? " +
+            "WHERE chat_id = ? AND (last_message_time IS NULL OR last_message_time <= ?)";
+
+    // 안 읽은 메세지 수 다시 계산 -> 상대방이 보냈고, 읽음 표시가 없고, 읽음 위치(순번) 이후인 메세지
+    // 더하지 않고 다시 세므로 읽음 처리 이후에 저장된 이전 순번 메세지가 안 읽은 메세지로 잡히지 않음
+    private static final String UPDATE_NOT_READ_CNT_SQL = "UPDATE chat AS c SET " +
+            "c.make_user_not_read_cnt = (SELECT COUNT(*) FROM message AS m WHERE m.chat_id = c.chat_id " +
+            "AND m.read_stat = FALSE AND m.writer_id <> c.make_user_id " +
+            "AND (c.make_user_last_read_seq IS NULL OR m.seq > c.make_user_last_read_seq)), " +
+            "c.receive_user_not_read_cnt = (SELECT COUNT(*) FROM message AS m WHERE m.chat_id = c.chat_id " +
+            "AND m.read_stat = FALSE AND m.writer_id <> c.receive_user_id " +
+            "AND (c.receive_user_last_read_seq IS NULL OR m.seq > c.receive_user_last_read_seq)) " +
+            "WHERE c.chat_id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final TransactionTemplate transactionTemplate;
+
+    public MessageBatchWriter(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = jdbcTemplate;
+
+        // 호출한 쪽 트랜잭션에 참여하지 않고 항상 새 트랜잭션으로 저장
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    @Value("${chat.persist.batch-size:200}")
+    private int batchSize;
+
+    @Value("${chat.persist.flush-interval-ms:100}")
+    private long flushIntervalMs;
+
+    @Value("${chat.persist.queue-capacity:10000}")
+    private int queueCapacity;
+
+    private BlockingQueue<Message> queue;
+
+    // 큐에 있거나 저장 중인 메세지 수
+    private final AtomicInteger pending = new AtomicInteger();
+
+    // 아직 저장되지 않은 메세지 (채팅방 ID:순번 -> 메세지) -> 조회 경로에서 저장 없이 찾기 위함
+    private final Map<String, Message> unsaved = new ConcurrentHashMap<>();
+
+    private Thread writerThread;
+
+    private volatile boolean running;
+
+    @PostConstruct
+    public void start() {
+        queue = new ArrayBlockingQueue<>(queueCapacity);
+        running = true;
+
+        writerThread = new Thread(this::writeLoop, "chat-message-writer");
+        writerThread.setDaemon(true);
+        writerThread.start();
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        writerThread.interrupt();
+        writerThread.join(TimeUnit.SECONDS.toMillis(5));
+
+        // 종료 전 남은 메세지 저장
+        flush();
+    }
+
+    /**
+     * 저장할 메세지 추가
+     * 트랜잭션 안에서 호출하면 커밋 후에 큐에 넣음 -> 롤백된 메세지는 저장하지 않고, 호출한 쪽 락을 잡은 채로 저장하지 않음
+     */
+    public void add(Message message) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    enqueue(message);
+                }
+            });
+            return;
+        }
+        enqueue(message);
+    }
+
+    /**
+     * 큐에 메세지 추가
+     * 큐가 가득 찬 경우 호출한 스레드에서 바로 저장 (별도 트랜잭션)
+     */
+    private void enqueue(Message message) {
+        pending.incrementAndGet();
+        unsaved.put(unsavedKey(message.getChat().getId(), message.getSeq()), message);
+        if (!queue.offer(message)) {
+            log.warn("메세지 저장 큐 가득 참 -> 직접 저장");
+            write(List.of(message));
+        }
+    }
+
+    /**
+     * 큐에 남아있는 메세지 즉시 저장 -> 저장 스레드가 처리 중인 메세지까지 저장될 때까지 대기
+     * 호출한 쪽 트랜잭션과 분리된 새 트랜잭션으로 저장되므로 락을 잡기 전에 호출해야 함
+     */
+    public void flush() {
+        List<Message> batch = new ArrayList<>();
+        while (queue.drainTo(batch, batchSize) > 0) {
+            write(batch);
+            batch.clear();
+        }
+
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (pending.get() > 0 && System.nanoTime() < deadline) {
+            try {
+                Thread.sleep(10);
+            }
+            catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    /**
+     * 저장 대기 중인 메세지 조회 -> 저장하지 않고 찾기만 함 (읽기 전용 트랜잭션에서도 호출 가능)
+     */
+    public Optional<Message> findUnsaved(Long chatId, long seq) {
+        return Optional.ofNullable(unsaved.get(unsavedKey(chatId, seq)));
+    }
+
+    private static String unsavedKey(Long chatId, Long seq) {
+        return chatId + ":" + seq;
+    }
+
+    private void writeLoop() {
+        List<Message> batch = new ArrayList<>(batchSize);
+
+        while (running) {
+            try {
+                Message first = queue.poll(flushIntervalMs, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+
+                // batch-size 개가 모이거나 flush-interval 이 지날 때까지 모으기
+                long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(flushIntervalMs);
+                while (batch.size() < batchSize) {
+                    queue.drainTo(batch, batchSize - batch.size());
+                    long remaining = deadline - System.nanoTime();
+                    if (batch.size() >= batchSize || remaining <= 0) {
+                        break;
+                    }
+                    Message next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+
+                write(batch);
+                batch.clear();
+            }
+            catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+            catch (RuntimeException e) {
+                log.error("메세지 저장 스레드 오류", e);
+                batch.clear();
+            }
+        }
+
+        // 종료 중 모으던 메세지 저장
+        if (!batch.isEmpty()) {
+            write(batch);
+        }
+    }
+
+    private void write(List<Message> batch) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                jdbcTemplate.batchUpdate(INSERT_SQL, batch, batch.size(), this::setValues);
+                updateChatSummary(batch);
+            });
+            log.debug("메세지 {}건 저장 완료", batch.size());
+        }
+        catch (DataAccessException | TransactionException e) {
+            // 일부 메세지 때문에 batch 전체가 실패한 경우 -> 한 건씩 저장해서 실패한 메세지만 제외
+            log.error("메세지 batch 저장 실패 -> 개별 저장 시도 ({}건)", batch.size(), e);
+            batch.forEach(this::writeOne);
+        }
+        finally {
+            batch.forEach(message -> unsaved.remove(unsavedKey(message.getChat().getId(), message.getSeq())));
+            pending.addAndGet(-batch.size());
+        }
+    }
+
+    private void writeOne(Message message) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                jdbcTemplate.update(INSERT_SQL, ps -> setValues(ps, message));
+                updateChatSummary(List.of(message));
+            });
+        }
+        catch (DuplicateKeyException e) {
+            // 이미 저장된 메세지 재전송 -> (chat_id, message_uu_id) 유니크 인덱스
+            // 그 외 (chat_id, seq) 충돌은 저장하지 못한 메세지 -> 오류
+            if (isStored(message)) {
+                log.info("이미 저장된 메세지 messageId = {}", message.getMessageUuId());
+            }
+            else {
+                log.error("메세지 순번 충돌로 저장 실패 messageId = {}, seq = {}", message.getMessageUuId(), message.getSeq(), e);
+            }
+        }
+        catch (DataAccessException | TransactionException e) {
+            log.error("메세지 저장 실패 messageId = {}", message.getMessageUuId(), e);
+        }
+    }
+
+    private boolean isStored(Message message) {
+        try {
+            Integer count = jdbcTemplate.queryForObject(EXISTS_SQL, Integer.class,
+                    message.getChat().getId(), message.getMessageUuId());
+            return count != null && count > 0;
+        }
+        catch (DataAccessException e) {
+            log.warn("메세지 저장 여부 확인 실패 messageId = {}", message.getMessageUuId(), e);
+            return false;
+        }
+    }
+
+    /**
+     * 채팅방 요약 정보 갱신
+     * 채팅방별 마지막 메세지 1건, 안 읽은 메세지가 추가된 채팅방의 안 읽은 메세지 수를 모아서 UPDATE
+     */
+    private void updateChatSummary(List<Message> batch) {
+        Map<Long, Message> lastMessages = new LinkedHashMap<>();
+        Set<Long> notReadChatIds = new LinkedHashSet<>();
+
+        for (Message message : batch) {
+            Long chatId = message.getChat().getId();
+            lastMessages.put(chatId, message);
+
+            if (!message.isReadStat()) {
+                notReadChatIds.add(chatId);
+            }
+        }
+
+        jdbcTemplate.batchUpdate(UPDATE_LAST_MESSAGE_SQL, lastMessages.values(), lastMessages.size(), (ps, message) -> {
+            Timestamp sendTime = toTimestamp(message.getSendDateTime());
+            ps.setString(1, message.getContent());
+            ps.setString(2, message.getType());
+            ps.setTimestamp(3, sendTime);
+            ps.setObject(4, message.getChat().getId());
+            ps.setTimestamp(5, sendTime);
+        });
+
+        if (!notReadChatIds.isEmpty()) {
+            jdbcTemplate.batchUpdate(UPDATE_NOT_READ_CNT_SQL, notReadChatIds, notReadChatIds.size(),
+                    (ps, chatId) -> ps.setLong(1, chatId));
+        }
+    }
+
+    private void setValues(PreparedStatement ps, Message message) throws SQLException {
+        ps.setString(1, message.getMessageUuId());
+        ps.setObject(2, message.getSeq());
+        ps.setString(3, message.getContent());
+        ps.setObject(4, message.getWriterId());
+        ps.setTimestamp(5, toTimestamp(message.getSendDateTime()));
+        ps.setBoolean(6, message.isReadStat());
+        ps.setString(7, message.getType());
+        ps.setObject(8, message.getChat().getId());
+    }
+
+    private Timestamp toTimestamp(LocalDateTime dateTime) {
+        return dateTime == null ? null : Timestamp.valueOf(dateTime);
+    }
+}
@@ -1,26 +1,91 @@
 package com.Bridge.bridge.service;
 
+import com.Bridge.bridge.config.SlowConsumerSessionDecorator;
 import com.Bridge.bridge.dto.request.ChatMessageRequest;
-import com.Bridge.bridge.util.Constant;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Service;
 
+import java.util.HashMap;
+import java.util.Map;
+
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class MessageReceiver {
 
     private final SimpMessagingTemplate template;
 
-    @KafkaListener(topics = Constant.KAFKA_TOPIC, groupId = Constant.GROUP_ID,
-    containerFactory = "kafkaListenerContainerFactory")
+    private final ChatSubscriptionRegistry chatSubscriptionRegistry;
+
+    private final RecentMessageCache recentMessageCache;
+
+    // SimpMessagingTemplate, clientOutboundChannel 은 WebSocketConfig 에서 만들어짐
+    // WebSocketConfig -> ChannelInBoundInterceptor -> ChatService -> ChatTransport -> MessageReceiver 순환 참조를 끊기 위해 지연 주입
+    private final MessageChannel clientOutboundChannel;
+
+    public MessageReceiver(@Lazy SimpMessagingTemplate template, ChatSubscriptionRegistry chatSubscriptionRegistry,
+                           RecentMessageCache recentMessageCache,
+                           @Lazy @Qualifier("clientOutboundChannel") MessageChannel clientOutboundChannel) {
+        this.template = template;
+        this.chatSubscriptionRegistry = chatSubscriptionRegistry;
+        this.recentMessageCache = recentMessageCache;
+        this.clientOutboundChannel = clientOutboundChannel;
+    }
+
+    /**
+     * ChatTransport 로 받은 메세지를 이 노드의 구독자에게 전달
+     */
     public void receiveMessage(ChatMessageRequest message) {
 
+        // 최근 메세지 캐시 갱신 -> 구독자 여부와 관계없이 모든 노드에서
+        if (message.getType() == ChatMessageRequest.MessageType.READ) {
+            recentMessageCache.markRead(message.getChatRoomId(), message.getSenderId(), message.getSeq());
+        }
+        else {
+            recentMessageCache.append(message);
+        }
+
+        // 이 노드에 구독자가 없는 채팅방이면 전달하지 않음
+        if (!chatSubscriptionRegistry.hasLocalSubscribers(message.getChatRoomId())) {
+            return;
+        }
+
         // 메세지객체 내부의 채팅방 ID 참조 -> 구독자에게 메세지 발송
-        template.convertAndSend("/sub/chat/room/" + message.getChatRoomId(), message);
+        // 메세지 종류, 보낸 사람은 STOMP 헤더로도 전달 -> 느린 세션 버퍼에서 본문을 읽지 않고 구분
+        template.convertAndSend("/sub/chat/room/" + message.getChatRoomId(), message, createHeaders(message));
         log.info("클라이언트로 메세지 전송 완료");
     }
+
+    private static Map<String, Object> createHeaders(ChatMessageRequest message) {
+        Map<String, Object> headers = new HashMap<>();
+        if (message.getType() != null) {
+            headers.put(SlowConsumerSessionDecorator.TYPE_HEADER, message.getType().name());
+        }
+        if (message.getSenderId() != null) {
+            headers.put(SlowConsumerSessionDecorator.SENDER_HEADER, String.valueOf(message.getSenderId()));
+        }
+        return headers;
+    }
+
+    /**
+     * 특정 세션의 구독 하나에만 메세지 전달 -> 같은 채팅방의 다른 구독자는 받지 않음
+     */
+    public void sendToSubscription(String sessionId, String subscriptionId, String destination, Object payload) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        accessor.setSessionId(sessionId);
+        accessor.setSubscriptionId(subscriptionId);
+        accessor.setDestination(destination);
+        accessor.setLeaveMutable(true);
+
+        Message<?> message = template.getMessageConverter().toMessage(payload, accessor.getMessageHeaders());
+        if (message != null) {
+            clientOutboundChannel.send(message);
+        }
+    }
 }
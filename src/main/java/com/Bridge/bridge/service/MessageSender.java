@@ -2,18 +2,16 @@ package com.Bridge.bridge.service;
 
 import com.Bridge.bridge.dto.request.ChatMessageRequest;
 import lombok.RequiredArgsConstructor;
-import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.stereotype.Service;
 
 @Service
 @RequiredArgsConstructor
 public class MessageSender {
 
-    private final KafkaTemplate<String, ChatMessageRequest> kafkaTemplate;
+    // chat.transport 설정에 따라 Kafka 또는 프로세스 내부 전달
+    private final ChatTransport chatTransport;
 
     public void send(String topic, ChatMessageRequest message) {
-
-        // Kafka Template 을 사용하여 메세지를 지정된 토픽으로 전송
-        kafkaTemplate.send(topic, message);
+        chatTransport.send(topic, message);
     }
 }
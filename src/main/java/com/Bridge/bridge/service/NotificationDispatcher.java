@@ -0,0 +1,168 @@
+package com.Bridge.bridge.service;
+
+import com.Bridge.bridge.config.kafka.ChatNode;
+import com.Bridge.bridge.domain.User;
+import com.Bridge.bridge.dto.request.AlarmEvent;
+import com.Bridge.bridge.dto.request.NotificationRequest;
+import com.Bridge.bridge.exception.notfound.NotFoundUserException;
+import com.Bridge.bridge.repository.UserRepository;
+import com.Bridge.bridge.util.Constant;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+
+/**
+ * 알림 발송
+ * - 앱에 접속 중인 유저(/sub/user/{userId}/alarms 구독) -> STOMP 로 바로 전달
+ *   다른 노드에 접속한 경우 Kafka 로 넘겨서 해당 노드가 전달
+ *   그 사이 유저가 나갔으면 알림을 맡은 노드(fallbackNodeId)가 FCM 으로 대신 발송
+ * - 접속 중이 아니면 FCM 푸시 -> FcmBatchSender 큐에 넣고 바로 반환
+ */
+@Slf4j
+@Component
+public class NotificationDispatcher {
+
+    private static final String ALARM_DESTINATION = "/sub/user/%d/alarms";
+
+    private final SimpMessagingTemplate template;
+
+    private final ChatPresenceService chatPresenceService;
+
+    private final KafkaTemplate<String, AlarmEvent> alarmKafkaTemplate;
+
+    private final ChatNode chatNode;
+
+    private final FcmBatchSender fcmBatchSender;
+
+    private final UserRepository userRepository;
+
+    // 다른 노드로 알림 전달 여부 -> ChatPresenceService 의 접속 정보 복제와 같은 조건
+    @Value("#{'${chat.transport:kafka}' == 'kafka' && ${chat.presence.replicate:true}}")
+    private boolean replicate;
+
+    // 순환 참조 방지 -> SimpMessagingTemplate 은 사용할 때 생성
+    public NotificationDispatcher(@Lazy SimpMessagingTemplate template, ChatPresenceService chatPresenceService,
+                                  KafkaTemplate<String, AlarmEvent> alarmKafkaTemplate, ChatNode chatNode,
+                                  FcmBatchSender fcmBatchSender, UserRepository userRepository) {
+        this.template = template;
+        this.chatPresenceService = chatPresenceService;
+        this.alarmKafkaTemplate = alarmKafkaTemplate;
+        this.chatNode = chatNode;
+        this.fcmBatchSender = fcmBatchSender;
+        this.userRepository = userRepository;
+    }
+
+    public static String getAlarmDestination(Long userId) {
+        return String.format(ALARM_DESTINATION, userId);
+    }
+
+    /**
+     * 알림 발송 -> 접속 중이면 STOMP, 아니면 FCM
+     */
+    public void dispatch(NotificationRequest notificationRequest) {
+        if (sendToSocket(notificationRequest)) {
+            return;
+        }
+        sendToFcm(notificationRequest);
+    }
+
+    /**
+     * 트랜잭션 안에서 발행한 알림 -> 커밋 후 발송, 트랜잭션이 없으면 바로 발송
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onNotification(NotificationRequest notificationRequest) {
+        dispatch(notificationRequest);
+    }
+
+    /**
+     * 다른 노드에서 넘어온 알림 -> 이 노드에 구독 중인 유저면 전달
+     * 이 노드가 알림을 맡았는데 유저가 어느 노드에도 없으면 FCM 으로 (여러 노드가 중복 발송하지 않도록 맡은 노드만)
+     */
+    @KafkaListener(topics = Constant.ALARM_TOPIC, containerFactory = "alarmListenerContainerFactory",
+            autoStartup = "#{'${chat.transport:kafka}' == 'kafka' && ${chat.presence.replicate:true}}")
+    public void receive(AlarmEvent event) {
+        if (chatNode.getId().equals(event.getNodeId())) {
+            return;
+        }
+        if (chatPresenceService.isOnlineLocally(event.getUserId())) {
+            template.convertAndSend(getAlarmDestination(event.getUserId()), event);
+            return;
+        }
+        if (!chatNode.getId().equals(event.getFallbackNodeId()) || chatPresenceService.isOnlineRemotely(event.getUserId())) {
+            return;
+        }
+
+        NotificationRequest notificationRequest = NotificationRequest.builder()
+                .userId(event.getUserId())
+                .title(event.getTitle())
+                .body(event.getBody())
+                .type(event.getType())
+                .build();
+        try {
+            sendToFcm(notificationRequest);
+        } catch (RuntimeException e) {
+            log.warn("알림 FCM 대체 발송 실패 userId = {}", event.getUserId(), e);
+        }
+    }
+
+    /**
+     * 접속 중인 유저에게 STOMP 로 전달 -> 접속 중이 아니면 false
+     */
+    private boolean sendToSocket(NotificationRequest notificationRequest) {
+        Long userId = notificationRequest.getUserId();
+        boolean local = chatPresenceService.isOnlineLocally(userId);
+        String remoteNodeId = replicate ? chatPresenceService.getRemoteAlarmNodeId(userId) : null;
+        boolean remote = remoteNodeId != null;
+        if (!local && !remote) {
+            return false;
+        }
+
+        AlarmEvent event = AlarmEvent.builder()
+                .nodeId(chatNode.getId())
+                .userId(userId)
+                .type(notificationRequest.getType())
+                .title(notificationRequest.getTitle())
+                .body(notificationRequest.getBody())
+                .sendTime(LocalDateTime.now())
+                // 이 노드에서 이미 전달했으면 대체 발송 없음
+                .fallbackNodeId(local ? null : remoteNodeId)
+                .build();
+
+        if (local) {
+            template.convertAndSend(getAlarmDestination(userId), event);
+        }
+        if (remote) {
+            try {
+                alarmKafkaTemplate.send(Constant.ALARM_TOPIC, String.valueOf(userId), event);
+            }
+            catch (RuntimeException e) {
+                // 다른 노드로 전달 실패 -> 이 노드에서도 전달하지 못했으면 FCM 으로
+                log.warn("알림 전달 실패 userId = {}", userId, e);
+                return local;
+            }
+        }
+        return true;
+    }
+
+    private void sendToFcm(NotificationRequest notificationRequest) {
+        // 알림 받을 유저 찾기
+        User user = userRepository.findById(notificationRequest.getUserId())
+                .orElseThrow(() -> new NotFoundUserException());
+
+        // 디바이스 토큰이 없는 유저는 푸시 알림을 받을 수 없음
+        if (user.getDeviceToken() == null) {
+            log.info("디바이스 토큰 없음 -> 알림 생략 userId = {}", user.getId());
+            return;
+        }
+
+        notificationRequest.setDeviceToken(user.getDeviceToken());
+        fcmBatchSender.enqueue(notificationRequest);
+    }
+}
@@ -0,0 +1,40 @@
+package com.Bridge.bridge.service;
+
+import com.Bridge.bridge.domain.Project;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.stereotype.Component;
+
+import javax.persistence.PostPersist;
+import javax.persistence.PostRemove;
+import javax.persistence.PostUpdate;
+
+/**
+ * 모집글 저장/수정/삭제 시 검색 색인, 추천 검색어 갱신
+ * 생성, 수정, 마감(마감일 변경), 삭제 모두 엔티티 변경으로 들어오므로 한 곳에서 처리
+ */
+@Component
+public class ProjectIndexListener {
+
+    private final ProjectSearchIndex projectSearchIndex;
+
+    private final SearchSuggester searchSuggester;
+
+    // 순환 참조 방지 -> 엔티티 리스너는 EntityManagerFactory 생성 중에 만들어짐
+    public ProjectIndexListener(@Lazy ProjectSearchIndex projectSearchIndex, @Lazy SearchSuggester searchSuggester) {
+        this.projectSearchIndex = projectSearchIndex;
+        this.searchSuggester = searchSuggester;
+    }
+
+    @PostPersist
+    @PostUpdate
+    public void onSave(Project project) {
+        projectSearchIndex.index(project);
+        searchSuggester.onProjectSaved(project.getId(), project.getTitle(), project.getDueDate());
+    }
+
+    @PostRemove
+    public void onRemove(Project project) {
+        projectSearchIndex.remove(project.getId());
+        searchSuggester.onProjectRemoved(project.getId());
+    }
+}
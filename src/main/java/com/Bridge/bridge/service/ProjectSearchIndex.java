@@ -0,0 +1,632 @@
+package com.Bridge.bridge.service;
+
+import com.Bridge.bridge.domain.Project;
+import com.Bridge.bridge.repository.ProjectRepository;
+import com.Bridge.bridge.repository.ProjectRepository.OpenProject;
+import com.Bridge.bridge.util.SearchTokenizer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.function.LongFunction;
+
+/**
+ * 모집글 검색 역색인 (제목 + 개요)
+ * - SearchTokenizer 로 자른 토큰별로 모집글 번호와 등장 횟수를 int[] 로 보관
+ * - 검색어의 모든 토큰이 들어있는 모집글을 BM25 점수 순으로 반환 (제목 토큰은 TITLE_WEIGHT 배)
+ *   영문, 숫자 단어와 한글 한 글자는 그 토큰으로 시작하는 토큰을 합쳐서 찾음 (최대 MAX_PREFIX_TERMS 개)
+ * - 모집글 생성/수정/삭제/마감 시 ProjectIndexListener 에서 바로 반영, 마감이 지난 모집글은 검색 시 제외
+ * - 제목은 ProjectTitleIndex 에 자모/초성으로도 색인 -> 초성, 오타 허용 제목 검색 (searchTitle)
+ * - 다른 노드에서 변경된 모집글은 ProjectSearchReloader 가 주기적으로 DB 에서 다시 읽어 반영
+ * - 첫 페이지의 순위를 스냅샷으로 남겨두고 다음 페이지는 스냅샷의 순위 offset 으로 조회
+ *   -> 그 사이 색인이 바뀌어 점수가 달라져도 중복/누락 없음
+ *   스냅샷이 없으면 (만료, 다른 노드) 현재 순위에서 같은 offset 으로 이어서 조회하고 새 스냅샷을 만듦
+ */
+@Slf4j
+@Component
+public class ProjectSearchIndex {
+
+    private static final double K1 = 1.2;
+
+    private static final double B = 0.75;
+
+    private static final int TITLE_WEIGHT = 2;
+
+    private static final ZoneId ZONE = ZoneId.systemDefault();
+
+    // 제목 검색 결과 최대 개수 -> 짧은 검색어로 전체를 읽지 않도록 제한
+    private static final int MAX_TITLE_HITS = 1000;
+
+    // 접두어 검색 시 합칠 토큰 최대 개수 -> "a" 같은 짧은 검색어로 전체 토큰을 읽지 않도록 제한
+    private static final int MAX_PREFIX_TERMS = 100;
+
+    // 보관할 검색 결과 스냅샷 수 (오래 안 쓴 것부터 삭제)
+    private static final int MAX_SNAPSHOTS = 1000;
+
+    // 스냅샷에 남길 결과 수 -> 넘는 페이지는 현재 순위에서 바로 조회
+    private static final int MAX_SNAPSHOT_HITS = 1000;
+
+    private static final long SNAPSHOT_TTL_MS = TimeUnit.MINUTES.toMillis(10);
+
+    private final ProjectRepository projectRepository;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private IndexData data = new IndexData();
+
+    // 다시 읽는 중 반영된 변경 -> DB 에서 읽은 시점 이후 변경을 새 색인에 다시 적용
+    private List<Consumer<IndexData>> changesDuringRebuild;
+
+    // 스냅샷 ID -> 검색 결과 순위
+    private final Map<Long, Snapshot> snapshots = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Long, Snapshot> eldest) {
+            return size() > MAX_SNAPSHOTS;
+        }
+    };
+
+    private final Timer searchTimer;
+
+    private final Timer titleSearchTimer;
+
+    public ProjectSearchIndex(ProjectRepository projectRepository, MeterRegistry meterRegistry) {
+        this.projectRepository = projectRepository;
+
+        this.searchTimer = Timer.builder("project.search.latency")
+                .tag("mode", "content")
+                .register(meterRegistry);
+        this.titleSearchTimer = Timer.builder("project.search.latency")
+                .tag("mode", "title")
+                .register(meterRegistry);
+        Gauge.builder("project.search.documents", this, ProjectSearchIndex::getDocumentCount)
+                .register(meterRegistry);
+    }
+
+    public int getDocumentCount() {
+        lock.readLock().lock();
+        try {
+            return data.liveCount;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 다시 읽기 시작 -> 이후 반영되는 변경은 새 색인에도 다시 적용 (DB 에서 읽기 전에 호출)
+     */
+    void beginRebuild() {
+        lock.writeLock().lock();
+        try {
+            changesDuringRebuild = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 다시 읽기 실패 -> 기존 색인 유지
+     */
+    void cancelRebuild() {
+        lock.writeLock().lock();
+        try {
+            changesDuringRebuild = null;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * DB 에서 읽은 모집 중인 모집글 전체로 색인 생성
+     */
+    void rebuild(List<OpenProject> projects) {
+        IndexData rebuilt = new IndexData();
+        for (OpenProject project : projects) {
+            rebuilt.add(project.getId(), project.getTitle(), project.getOverview(), project.getDueDate());
+        }
+
+        lock.writeLock().lock();
+        try {
+            changesDuringRebuild.forEach(change -> change.accept(rebuilt));
+            changesDuringRebuild = null;
+            data = rebuilt;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("모집글 검색 색인 생성 완료 ({}건)", rebuilt.liveCount);
+    }
+
+    /**
+     * 모집글 추가/수정 -> 바로 반영, 트랜잭션이 롤백되면 DB 에서 다시 읽어 되돌림
+     */
+    public void index(Project project) {
+        Long projectId = project.getId();
+        String title = project.getTitle();
+        String overview = project.getOverview();
+        LocalDateTime dueDate = project.getDueDate();
+        apply(index -> index.add(projectId, title, overview, dueDate));
+        refreshOnRollback(projectId);
+    }
+
+    /**
+     * 모집글 삭제 -> 바로 반영, 트랜잭션이 롤백되면 DB 에서 다시 읽어 되돌림
+     */
+    public void remove(Long projectId) {
+        apply(index -> index.remove(projectId));
+        refreshOnRollback(projectId);
+    }
+
+    /**
+     * 검색 -> 점수 높은 순 (같으면 모집글 ID 순), snapshotId 스냅샷의 offset 번째부터 limit 개
+     */
+    public SearchPage search(String word, Long snapshotId, int offset, int limit) {
+        long start = System.nanoTime();
+        try {
+            List<String> tokens = SearchTokenizer.tokenize(word);
+            return page("content:" + word, snapshotId, offset, limit, now -> data.search(tokens, now));
+        } finally {
+            searchTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * 제목 검색 (초성, 자모 하나 오타 허용) -> 접두어 일치가 먼저 (같으면 모집글 ID 순), snapshotId 스냅샷의 offset 번째부터 limit 개
+     */
+    public SearchPage searchTitle(String word, Long snapshotId, int offset, int limit) {
+        long start = System.nanoTime();
+        try {
+            return page("title:" + word, snapshotId, offset, limit, now -> data.searchTitle(word, now));
+        } finally {
+            titleSearchTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private SearchPage page(String query, Long snapshotId, int offset, int limit, LongFunction<List<SearchHit>> searcher) {
+        Snapshot snapshot = getSnapshot(snapshotId, query);
+        if (snapshot != null && (!snapshot.truncated || offset + limit <= snapshot.hits.size())) {
+            return new SearchPage(snapshot.id, slice(snapshot.hits, offset, limit));
+        }
+
+        List<SearchHit> hits;
+        lock.readLock().lock();
+        try {
+            hits = searcher.apply(System.currentTimeMillis());
+        } finally {
+            lock.readLock().unlock();
+        }
+        hits.sort(SearchHit.ORDER);
+
+        snapshot = putSnapshot(query, hits);
+        return new SearchPage(snapshot.id, slice(hits, offset, limit));
+    }
+
+    private Snapshot getSnapshot(Long snapshotId, String query) {
+        if (snapshotId == null) {
+            return null;
+        }
+        synchronized (snapshots) {
+            Snapshot snapshot = snapshots.get(snapshotId);
+            // 다른 검색어의 스냅샷 ID 거나 만료된 경우 없는 것으로
+            if (snapshot == null || !snapshot.query.equals(query)
+                    || System.currentTimeMillis() - snapshot.createdAt > SNAPSHOT_TTL_MS) {
+                return null;
+            }
+            return snapshot;
+        }
+    }
+
+    private Snapshot putSnapshot(String query, List<SearchHit> hits) {
+        boolean truncated = hits.size() > MAX_SNAPSHOT_HITS;
+        Snapshot snapshot = new Snapshot(ThreadLocalRandom.current().nextLong(), query,
+                new ArrayList<>(truncated ? hits.subList(0, MAX_SNAPSHOT_HITS) : hits), truncated);
+        synchronized (snapshots) {
+            snapshots.put(snapshot.id, snapshot);
+        }
+        return snapshot;
+    }
+
+    private List<SearchHit> slice(List<SearchHit> hits, int offset, int limit) {
+        int from = Math.min(Math.max(offset, 0), hits.size());
+        return new ArrayList<>(hits.subList(from, Math.min(hits.size(), from + limit)));
+    }
+
+    private void refreshOnRollback(Long projectId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status != STATUS_COMMITTED) {
+                    refresh(projectId);
+                }
+            }
+        });
+    }
+
+    private void refresh(Long projectId) {
+        try {
+            Project project = projectRepository.findById(projectId).orElse(null);
+            if (project == null) {
+                apply(index -> index.remove(projectId));
+                return;
+            }
+            Long id = project.getId();
+            String title = project.getTitle();
+            String overview = project.getOverview();
+            LocalDateTime dueDate = project.getDueDate();
+            apply(index -> index.add(id, title, overview, dueDate));
+        } catch (RuntimeException e) {
+            log.warn("모집글 검색 색인 갱신 실패 projectId = {}", projectId, e);
+        }
+    }
+
+    private void apply(Consumer<IndexData> change) {
+        lock.writeLock().lock();
+        try {
+            change.accept(data);
+            if (changesDuringRebuild != null) {
+                changesDuringRebuild.add(change);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 검색 결과 한 페이지 -> 다음 페이지는 같은 스냅샷 ID 로 조회
+     */
+    @Getter
+    public static class SearchPage {
+
+        private final long snapshotId;
+
+        private final List<SearchHit> hits;
+
+        public SearchPage(long snapshotId, List<SearchHit> hits) {
+            this.snapshotId = snapshotId;
+            this.hits = hits;
+        }
+    }
+
+    /**
+     * 검색 결과 순위 스냅샷
+     */
+    private static class Snapshot {
+
+        private final long id;
+
+        private final String query;
+
+        private final List<SearchHit> hits;
+
+        // 결과가 MAX_SNAPSHOT_HITS 를 넘어 앞부분만 남긴 경우
+        private final boolean truncated;
+
+        private final long createdAt = System.currentTimeMillis();
+
+        private Snapshot(long id, String query, List<SearchHit> hits, boolean truncated) {
+            this.id = id;
+            this.query = query;
+            this.hits = hits;
+            this.truncated = truncated;
+        }
+    }
+
+    /**
+     * 검색 결과 -> 점수와 모집글 ID
+     */
+    @Getter
+    public static class SearchHit {
+
+        static final Comparator<SearchHit> ORDER = Comparator.comparingDouble(SearchHit::getScore).reversed()
+                .thenComparingLong(SearchHit::getProjectId);
+
+        private final long projectId;
+
+        private final double score;
+
+        public SearchHit(long projectId, double score) {
+            this.projectId = projectId;
+            this.score = score;
+        }
+    }
+
+    /**
+     * 색인 데이터 -> 모집글마다 내부 번호(doc)를 붙이고 토큰별 등장 목록은 doc 오름차순 유지
+     * 수정은 기존 doc 을 지우고 새 doc 으로 추가, 지운 doc 이 절반을 넘으면 정리
+     */
+    static class IndexData {
+
+        private final Map<String, Postings> postings = new HashMap<>();
+
+        // 전체 토큰 (정렬) -> 접두어 검색
+        private final TreeSet<String> terms = new TreeSet<>();
+
+        private final Map<Long, Integer> docByProject = new HashMap<>();
+
+        private final ProjectTitleIndex titles = new ProjectTitleIndex();
+
+        private long[] projectIds = new long[64];
+
+        private int[] lengths = new int[64];
+
+        private long[] dueDates = new long[64];
+
+        private boolean[] deleted = new boolean[64];
+
+        // doc 별로 들어있는 토큰의 등장 목록 -> 지울 때 토큰별 살아있는 doc 수(df) 감소
+        private Postings[][] docPostings = new Postings[64][];
+
+        private int docCount;
+
+        private int liveCount;
+
+        private long totalLength;
+
+        void add(Long projectId, String title, String overview, LocalDateTime dueDate) {
+            remove(projectId);
+
+            // 마감된 모집글은 색인에서 제외
+            if (dueDate != null && dueDate.isBefore(LocalDateTime.now())) {
+                return;
+            }
+
+            Map<String, Integer> freqs = new LinkedHashMap<>();
+            SearchTokenizer.tokenize(title).forEach(token -> freqs.merge(token, TITLE_WEIGHT, Integer::sum));
+            SearchTokenizer.tokenize(overview).forEach(token -> freqs.merge(token, 1, Integer::sum));
+
+            int doc = docCount++;
+            ensureCapacity(docCount);
+            projectIds[doc] = projectId;
+            dueDates[doc] = dueDate == null ? Long.MAX_VALUE : dueDate.atZone(ZONE).toInstant().toEpochMilli();
+
+            int length = 0;
+            Postings[] docTerms = new Postings[freqs.size()];
+            int t = 0;
+            for (Map.Entry<String, Integer> entry : freqs.entrySet()) {
+                Postings term = postings.computeIfAbsent(entry.getKey(), token -> {
+                    terms.add(token);
+                    return new Postings();
+                });
+                term.add(doc, entry.getValue());
+                docTerms[t++] = term;
+                length += entry.getValue();
+            }
+            docPostings[doc] = docTerms;
+            lengths[doc] = length;
+            totalLength += length;
+            liveCount++;
+            docByProject.put(projectId, doc);
+            titles.add(projectId, title);
+        }
+
+        void remove(Long projectId) {
+            Integer doc = docByProject.remove(projectId);
+            if (doc == null) {
+                return;
+            }
+            deleted[doc] = true;
+            for (Postings term : docPostings[doc]) {
+                term.live--;
+            }
+            docPostings[doc] = null;
+            totalLength -= lengths[doc];
+            liveCount--;
+            titles.remove(projectId);
+
+            if (docCount - liveCount > Math.max(1024, liveCount)) {
+                compact();
+            }
+        }
+
+        List<SearchHit> search(List<String> tokens, long now) {
+            List<SearchHit> hits = new ArrayList<>();
+            if (tokens.isEmpty() || liveCount == 0) {
+                return hits;
+            }
+
+            // 모든 토큰이 들어있어야 함 -> 없는 토큰이 있으면 결과 없음
+            Postings[] terms = tokens.stream()
+                    .distinct()
+                    .map(this::lookup)
+                    .toArray(Postings[]::new);
+            for (Postings term : terms) {
+                if (term == null) {
+                    return hits;
+                }
+            }
+            // 등장 목록이 가장 짧은 토큰부터 확인
+            Arrays.sort(terms, Comparator.comparingInt(term -> term.size));
+
+            // 지운 doc 은 빼고 계산 -> 수정/삭제가 쌓여도 점수가 달라지지 않음
+            double[] idf = new double[terms.length];
+            for (int t = 0; t < terms.length; t++) {
+                int df = terms[t].live;
+                idf[t] = Math.log(1 + (liveCount - df + 0.5) / (df + 0.5));
+            }
+            double avgLength = (double) totalLength / liveCount;
+
+            Postings first = terms[0];
+            for (int i = 0; i < first.size; i++) {
+                int doc = first.docs[i];
+                if (deleted[doc] || dueDates[doc] < now) {
+                    continue;
+                }
+
+                double norm = K1 * (1 - B + B * lengths[doc] / avgLength);
+                double score = idf[0] * bm25(first.freqs[i], norm);
+                boolean matched = true;
+                for (int t = 1; t < terms.length; t++) {
+                    int index = Arrays.binarySearch(terms[t].docs, 0, terms[t].size, doc);
+                    if (index < 0) {
+                        matched = false;
+                        break;
+                    }
+                    score += idf[t] * bm25(terms[t].freqs[index], norm);
+                }
+                if (matched) {
+                    hits.add(new SearchHit(projectIds[doc], score));
+                }
+            }
+            return hits;
+        }
+
+        /**
+         * 검색어 토큰의 등장 목록 -> 접두어 토큰이면 그 토큰으로 시작하는 토큰들의 등장 목록을 합침 (등장 횟수는 더함)
+         */
+        private Postings lookup(String token) {
+            if (!SearchTokenizer.isPrefixToken(token)) {
+                return postings.get(token);
+            }
+
+            Iterator<String> matched = terms.subSet(token, token + Character.MAX_VALUE).iterator();
+            if (!matched.hasNext()) {
+                return null;
+            }
+            Postings first = postings.get(matched.next());
+            if (!matched.hasNext()) {
+                return first;
+            }
+
+            int[] freqByDoc = new int[docCount];
+            first.addTo(freqByDoc);
+            for (int count = 1; count < MAX_PREFIX_TERMS && matched.hasNext(); count++) {
+                postings.get(matched.next()).addTo(freqByDoc);
+            }
+
+            Postings merged = new Postings();
+            for (int doc = 0; doc < docCount; doc++) {
+                if (freqByDoc[doc] > 0 && !deleted[doc]) {
+                    merged.add(doc, freqByDoc[doc]);
+                }
+            }
+            return merged;
+        }
+
+        List<SearchHit> searchTitle(String word, long now) {
+            List<SearchHit> hits = new ArrayList<>();
+            titles.search(word, MAX_TITLE_HITS).forEach((projectId, score) -> {
+                Integer doc = docByProject.get(projectId);
+                if (doc != null && dueDates[doc] >= now) {
+                    hits.add(new SearchHit(projectId, score));
+                }
+            });
+            return hits;
+        }
+
+        private double bm25(int freq, double norm) {
+            return freq * (K1 + 1) / (freq + norm);
+        }
+
+        private void ensureCapacity(int size) {
+            if (size <= projectIds.length) {
+                return;
+            }
+            int capacity = Math.max(size, projectIds.length * 2);
+            projectIds = Arrays.copyOf(projectIds, capacity);
+            lengths = Arrays.copyOf(lengths, capacity);
+            dueDates = Arrays.copyOf(dueDates, capacity);
+            deleted = Arrays.copyOf(deleted, capacity);
+            docPostings = Arrays.copyOf(docPostings, capacity);
+        }
+
+        // 지운 doc 을 빼고 번호를 다시 붙임 -> 순서는 그대로라 등장 목록은 정렬 유지
+        private void compact() {
+            int[] remap = new int[docCount];
+            int next = 0;
+            for (int doc = 0; doc < docCount; doc++) {
+                if (deleted[doc]) {
+                    remap[doc] = -1;
+                    continue;
+                }
+                remap[doc] = next;
+                projectIds[next] = projectIds[doc];
+                lengths[next] = lengths[doc];
+                dueDates[next] = dueDates[doc];
+                docPostings[next] = docPostings[doc];
+                deleted[next] = false;
+                next++;
+            }
+            Arrays.fill(deleted, next, docCount, false);
+            Arrays.fill(docPostings, next, docCount, null);
+            docCount = next;
+
+            postings.entrySet().removeIf(entry -> {
+                if (entry.getValue().remap(remap) > 0) {
+                    return false;
+                }
+                terms.remove(entry.getKey());
+                return true;
+            });
+            docByProject.replaceAll((projectId, doc) -> remap[doc]);
+        }
+    }
+
+    /**
+     * 토큰 하나의 등장 목록 -> doc 번호와 등장 횟수
+     * 지운 doc 은 정리(compact) 전까지 목록에 남으므로 살아있는 doc 수(live)를 따로 유지
+     */
+    static class Postings {
+
+        private int[] docs = new int[4];
+
+        private int[] freqs = new int[4];
+
+        private int size;
+
+        private int live;
+
+        void add(int doc, int freq) {
+            if (size == docs.length) {
+                docs = Arrays.copyOf(docs, size * 2);
+                freqs = Arrays.copyOf(freqs, size * 2);
+            }
+            docs[size] = doc;
+            freqs[size] = freq;
+            size++;
+            live++;
+        }
+
+        void addTo(int[] freqByDoc) {
+            for (int i = 0; i < size; i++) {
+                freqByDoc[docs[i]] += freqs[i];
+            }
+        }
+
+        int remap(int[] remap) {
+            int next = 0;
+            for (int i = 0; i < size; i++) {
+                int doc = remap[docs[i]];
+                if (doc < 0) {
+                    continue;
+                }
+                docs[next] = doc;
+                freqs[next] = freqs[i];
+                next++;
+            }
+            size = next;
+            live = next;
+            return size;
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.Bridge.bridge.service;
+
+import com.Bridge.bridge.repository.ProjectRepository;
+import com.Bridge.bridge.repository.ProjectRepository.OpenProject;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 검색 색인, 추천 검색어 다시 읽기 -> 모집 중인 모집글을 한 번만 읽어서 둘 다 갱신
+ * 엔티티 대신 검색에 쓰는 컬럼(ID, 제목, 개요, 마감일)만 조회
+ * 시작할 때 + rebuild-interval-ms 마다 실행 -> 다른 노드에서 변경된 모집글 반영
+ */
+@Slf4j
+@Component
+public class ProjectSearchReloader {
+
+    private final ProjectRepository projectRepository;
+
+    private final ProjectSearchIndex projectSearchIndex;
+
+    private final SearchSuggester searchSuggester;
+
+    public ProjectSearchReloader(ProjectRepository projectRepository, ProjectSearchIndex projectSearchIndex,
+                                 SearchSuggester searchSuggester) {
+        this.projectRepository = projectRepository;
+        this.projectSearchIndex = projectSearchIndex;
+        this.searchSuggester = searchSuggester;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(initialDelayString = "${project.search.rebuild-interval-ms:300000}",
+            fixedDelayString = "${project.search.rebuild-interval-ms:300000}")
+    public void reload() {
+        // 읽는 동안 반영된 변경을 잃지 않도록 DB 에서 읽기 전에 시작
+        projectSearchIndex.beginRebuild();
+        searchSuggester.beginReload();
+
+        List<OpenProject> projects;
+        try {
+            projects = projectRepository.findOpenProjects(LocalDateTime.now());
+        } catch (RuntimeException e) {
+            log.error("모집글 검색 데이터 불러오기 실패", e);
+            projectSearchIndex.cancelRebuild();
+            searchSuggester.cancelReload();
+            return;
+        }
+
+        projectSearchIndex.rebuild(projects);
+        searchSuggester.reload(projects);
+    }
+}
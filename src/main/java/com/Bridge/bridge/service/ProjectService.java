@@ -6,6 +6,7 @@ import com.Bridge.bridge.dto.request.ProjectUpdateRequest;
 import com.Bridge.bridge.dto.response.*;
 import com.Bridge.bridge.dto.request.ProjectRequest;
 import com.Bridge.bridge.exception.BridgeException;
+import com.Bridge.bridge.exception.badrequest.InvalidCursorException;
 import com.Bridge.bridge.exception.conflict.ConflictApplyProjectException;
 import com.Bridge.bridge.repository.*;
 import com.Bridge.bridge.dto.response.ProjectResponse;
@@ -24,6 +25,10 @@ import com.Bridge.bridge.repository.ProjectRepository;
 import com.Bridge.bridge.domain.Project;
 import com.Bridge.bridge.repository.UserRepository;
 import com.Bridge.bridge.security.JwtTokenProvider;
+import com.Bridge.bridge.util.ProjectCursor;
+import com.Bridge.bridge.service.BookmarkCache.BookmarkSet;
+import com.Bridge.bridge.service.ProjectSearchIndex.SearchHit;
+import com.Bridge.bridge.service.ProjectSearchIndex.SearchPage;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -33,6 +38,9 @@ import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 
@@ -41,6 +49,10 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class ProjectService {
 
+    private static final int DEFAULT_PAGE_SIZE = 20;        // 모집글 목록 기본 페이지 크기
+
+    private static final int MAX_PAGE_SIZE = 100;           // 모집글 목록 최대 페이지 크기
+
     private final ProjectRepository projectRepository;
     private final UserRepository userRepository;
     private final PartRepository partRepository;
@@ -48,6 +60,9 @@ public class ProjectService {
     private final SearchWordRepository searchWordRepository;
     private final ApplyProjectRepository applyProjectRepository;
     private final JwtTokenProvider jwtTokenProvider;
+    private final BookmarkCache bookmarkCache;
+    private final ProjectSearchIndex projectSearchIndex;
+    private final SearchSuggester searchSuggester;
 
 
     /*
@@ -140,11 +155,11 @@ public class ProjectService {
 
     /*
         Func : 프로젝트 모집글 검색(제목+내용)
-        Parameter : 검색어
-        Return : 프로젝트 모집글 List
+        Parameter : 검색어, mode - 검색 방식 (없으면 제목+내용, TITLE 이면 초성/오타 허용 제목 검색), after - 이전 페이지 커서, size - 페이지 크기
+        Return : 프로젝트 모집글 페이지
     */
     @Transactional
-    public List<ProjectListResponse> findByTitleAndContent(HttpServletRequest request, String theSearchWord){
+    public ProjectListPageResponse findByTitleAndContent(HttpServletRequest request, String theSearchWord, SearchMode mode, String after, Integer size){
 
         Long userId = jwtTokenProvider.getUserIdFromRequest(request);
 
@@ -153,58 +168,49 @@ public class ProjectService {
                 .orElseThrow(() -> new NotFoundUserException());
 
 
-        // 최근 검색어 저장하기
-        SearchWord searchWord = SearchWord.builder()
-                .content(theSearchWord)
-                .history(LocalDateTime.now())
-                .user(user)
-                .build();
-        searchWordRepository.save(searchWord);
-
-        LocalDateTime localDateTime = LocalDateTime.now();
+        // 최근 검색어 저장하기 -> 다음 페이지 조회 시에는 저장하지 않음
+        if(after == null || after.isBlank()){
+            SearchWord searchWord = SearchWord.builder()
+                    .content(theSearchWord)
+                    .history(LocalDateTime.now())
+                    .user(user)
+                    .build();
+            searchWordRepository.save(searchWord);
+            searchSuggester.onSearch(theSearchWord);
+        }
 
-        List<Project> allProject = projectRepository.findAllByDueDateGreaterThanEqualOrderByUploadTime(localDateTime);
+        int pageSize = getPageSize(size);
+
+        // 검색 색인에서 점수 순으로 조회 -> 해당 모집글만 DB 에서 읽음
+        // 다음 페이지는 첫 페이지 검색 결과 스냅샷의 순위로 이어서 조회
+        ProjectCursor cursor = toCursor(after, true);
+        Long snapshotId = cursor == null ? null : cursor.getSnapshotId();
+        int offset = cursor == null ? 0 : cursor.getOffset();
+        SearchPage page = mode == SearchMode.TITLE
+                ? projectSearchIndex.searchTitle(theSearchWord, snapshotId, offset, pageSize + 1)
+                : projectSearchIndex.search(theSearchWord, snapshotId, offset, pageSize + 1);
+        List<SearchHit> hits = page.getHits();
+
+        boolean hasNext = hits.size() > pageSize;
+        if(hasNext){
+            hits = hits.subList(0, pageSize);
+        }
 
-        List<Project> findProject = allProject.stream()
-                .filter((project) ->
+        Map<Long, Project> projectById = projectRepository.findAllWithRecruitByIdIn(hits.stream()
+                        .map(SearchHit::getProjectId)
+                        .collect(Collectors.toList()))
+                .stream()
+                .collect(Collectors.toMap(Project::getId, Function.identity()));
 
-                   project.getOverview().contains(theSearchWord) || project.getTitle().contains(theSearchWord)
-                )
+        // 색인에는 있지만 다른 노드에서 삭제된 모집글은 제외
+        List<Project> findProject = hits.stream()
+                .map(hit -> projectById.get(hit.getProjectId()))
+                .filter(Objects::nonNull)
                 .collect(Collectors.toList());
 
-        List<ProjectListResponse> response = new ArrayList<>();
-
-        for(int i =0; i<findProject.size(); i++){
-            final int[] total = {0};
-
-            findProject.get(i).getRecruit().stream()
-                    .forEach((part -> total[0] += part.getRecruitNum()));
-
-            Bookmark bookmark = bookmarkRepository.findByProjectAndUser(findProject.get(i), user);
-            boolean isScrap = false;
-
-
-            if(bookmark != null){
-                isScrap = true;
-            }
-
-            // 0초일 경우 초 단위가 출력되지 않는 현상을 방지하기 위해
-            String duedate = findProject.get(i).getDueDate().format(DateTimeFormatter.ofPattern("yyyy-MM-dd"))
-                    +"T"
-                    +findProject.get(i).getDueDate().format(DateTimeFormatter.ofPattern("HH:mm:ss"));
-
-
-            ProjectListResponse projectListResponse = ProjectListResponse.builder()
-                    .projectId(findProject.get(i).getId())
-                    .title(findProject.get(i).getTitle())
-                    .dueDate(duedate)
-                    .recruitTotalNum(total[0])
-                    .scrap(isScrap)
-                    .build();
-            response.add(projectListResponse);
-        }
+        String nextCursor = hasNext ? ProjectCursor.encodeRank(page.getSnapshotId(), offset + pageSize) : null;
 
-        return response;
+        return toPageResponse(findProject, nextCursor, hasNext, bookmarkCache.get(user.getId()));
     }
 
      /*
@@ -235,10 +241,10 @@ public class ProjectService {
 
     /*
         Func : 필터링 후 프로젝트 목록 반환 - 지민
-        Parameter : List<String>,
-        Return : projectResponse
+        Parameter : List<String>, after - 이전 페이지 커서, size - 페이지 크기
+        Return : 프로젝트 모집글 페이지
     */
-    public List<ProjectListResponse> filterProjectList(HttpServletRequest request, FilterRequest filterRequest){
+    public ProjectListPageResponse filterProjectList(HttpServletRequest request, FilterRequest filterRequest, String after, Integer size){
 
         Long adminUserId = jwtTokenProvider.getUserIdFromRequest(request);
 
@@ -249,44 +255,13 @@ public class ProjectService {
                 .collect(Collectors.toList());
 
         Field recruitPart = Field.valueOf(filterRequest.getPart());
-        List<Part> parts = partRepository.findAllByRecruitSkillInAndAndRecruitPart(skills, recruitPart);
-
-        LocalDateTime localDateTime = LocalDateTime.now();
-        List<Project> projects = projectRepository.findAllByRecruitInAndDueDateGreaterThanEqual(parts, localDateTime);
-
-
-        List<ProjectListResponse> response = new ArrayList<>();
-
-        for(int i =0; i<projects.size(); i++){
-            final int[] total = {0};
-
-            projects.get(i).getRecruit().stream()
-                    .forEach((part -> total[0] += part.getRecruitNum()));
-
-            Bookmark bookmark = bookmarkRepository.findByProjectAndUser(projects.get(i), user);
-            boolean isScrap = false;
-
-
-            if(bookmark != null){
-                isScrap = true;
-            }
 
-            // 0초일 경우 초 단위가 출력되지 않는 현상을 방지하기 위해
-            String duedate = projects.get(i).getDueDate().format(DateTimeFormatter.ofPattern("yyyy-MM-dd"))
-                    +"T"
-                    +projects.get(i).getDueDate().format(DateTimeFormatter.ofPattern("HH:mm:ss"));
+        int pageSize = getPageSize(size);
 
-            ProjectListResponse projectListResponse = ProjectListResponse.builder()
-                    .projectId(projects.get(i).getId())
-                    .title(projects.get(i).getTitle())
-                    .dueDate(duedate)
-                    .recruitTotalNum(total[0])
-                    .scrap(isScrap)
-                    .build();
-            response.add(projectListResponse);
-        }
+        List<Project> projects = projectRepository.findOpenProjects(LocalDateTime.now(), recruitPart, skills,
+                toCursor(after, false), pageSize + 1);
 
-        return response;
+        return toPageResponse(projects, pageSize, bookmarkCache.get(user.getId()));
     }
 
     /*
@@ -347,138 +322,45 @@ public class ProjectService {
 
     /*
         Func : 모든 모집글 리스트 보여주기 - 지민
-        Return : List<projectListResponseDto>
+        Parameter : userId, after - 이전 페이지 커서, size - 페이지 크기
+        Return : 프로젝트 모집글 페이지
     */
-    public List<ProjectListResponse> allProjects(Long userId){
-
-        LocalDateTime localDateTime = LocalDateTime.now();
-        List<Project> allProjects = projectRepository.findAllByDueDateGreaterThanEqualOrderByUploadTime(localDateTime);
-
-
-        List<ProjectListResponse> response = new ArrayList<>();
-
-        // 작성글이 하나도 없다면
-        if(allProjects.isEmpty()){
-            return response;
-        }
-
-        if(userId == null){ // 로그인 안 된 상태
-            for(int i =0; i<allProjects.size(); i++){
-                final int[] total = {0};
-
-                allProjects.get(i).getRecruit().stream()
-                        .forEach((part -> total[0] += part.getRecruitNum()));
+    public ProjectListPageResponse allProjects(Long userId, String after, Integer size){
 
+        BookmarkSet bookmarks = BookmarkSet.EMPTY;
 
-                // 0초일 경우 초 단위가 출력되지 않는 현상을 방지하기 위해
-                String duedate = allProjects.get(i).getDueDate().format(DateTimeFormatter.ofPattern("yyyy-MM-dd"))
-                        +"T"
-                        +allProjects.get(i).getDueDate().format(DateTimeFormatter.ofPattern("HH:mm:ss"));
-
-                ProjectListResponse projectListResponse = ProjectListResponse.builder()
-                        .projectId(allProjects.get(i).getId())
-                        .title(allProjects.get(i).getTitle())
-                        .dueDate(duedate)
-                        .recruitTotalNum(total[0])
-                        .scrap(false)
-                        .build();
-                response.add(projectListResponse);
-            }
+        if(userId != null){ // 로그인 된 상태
+            User user = userRepository.findById(userId)
+                    .orElseThrow(()->new NotFoundUserException());
 
-            return response;
+            // 스크랩한 프로젝트 한 번에 조회
+            bookmarks = bookmarkCache.get(user.getId());
         }
 
-        // 로그인 된 상태
-        User user = userRepository.findById(userId)
-                .orElseThrow(()->new NotFoundUserException());
-
-        for(int i =0; i<allProjects.size(); i++){
-            final int[] total = {0};
+        int pageSize = getPageSize(size);
 
-            allProjects.get(i).getRecruit().stream()
-                    .forEach((part -> total[0] += part.getRecruitNum()));
-
-            Bookmark bookmark = bookmarkRepository.findByProjectAndUser(allProjects.get(i), user);
-            boolean isScrap = false;
-
-
-            if(bookmark != null){
-                isScrap = true;
-            }
-
-            // 0초일 경우 초 단위가 출력되지 않는 현상을 방지하기 위해
-            String duedate = allProjects.get(i).getDueDate().format(DateTimeFormatter.ofPattern("yyyy-MM-dd"))
-                    +"T"
-                    +allProjects.get(i).getDueDate().format(DateTimeFormatter.ofPattern("HH:mm:ss"));
-
-            ProjectListResponse projectListResponse = ProjectListResponse.builder()
-                    .projectId(allProjects.get(i).getId())
-                    .title(allProjects.get(i).getTitle())
-                    .dueDate(duedate)
-                    .recruitTotalNum(total[0])
-                    .scrap(isScrap)
-                    .build();
-            response.add(projectListResponse);
-        }
-
-        return response;
+        List<Project> allProjects = projectRepository.findOpenProjects(LocalDateTime.now(), null, null,
+                toCursor(after, false), pageSize + 1);
 
+        return toPageResponse(allProjects, pageSize, bookmarks);
     }
 
     /*
         Func : 내 분야 모집글 리스트 보여주기 - 지민
-        Parameter : String - 모집분야
-        Return : List<projectListResponseDto>
+        Parameter : String - 모집분야, after - 이전 페이지 커서, size - 페이지 크기
+        Return : 프로젝트 모집글 페이지
     */
-    public List<ProjectListResponse> findMyPartProjects(HttpServletRequest request, String myPart){
+    public ProjectListPageResponse findMyPartProjects(HttpServletRequest request, String myPart, String after, Integer size){
 
         Long adminUserId = jwtTokenProvider.getUserIdFromRequest(request);
         User user = userRepository.findById(adminUserId).orElseThrow(()-> new NotFoundUserException());
 
-        List<Part> parts = partRepository.findAllByRecruitPart(Field.valueOf(myPart));
-
-        LocalDateTime localDateTime = LocalDateTime.now();
-        List<Project> myPartProjects = projectRepository.findAllByRecruitInAndDueDateGreaterThanEqual(parts, localDateTime);
-
-
-        List<ProjectListResponse> response = new ArrayList<>();
-
-        // 작성글이 하나도 없다면
-        if(myPartProjects.isEmpty()){
-            return response;
-        }
-
-        for(int i =0; i<myPartProjects.size(); i++){
-            final int[] total = {0};
-
-            myPartProjects.get(i).getRecruit().stream()
-                    .forEach((part -> total[0] += part.getRecruitNum()));
-
-            Bookmark bookmark = bookmarkRepository.findByProjectAndUser(myPartProjects.get(i), user);
-            boolean isScrap = false;
-
-
-            if(bookmark != null){
-                isScrap = true;
-            }
-
-            // 0초일 경우 초 단위가 출력되지 않는 현상을 방지하기 위해
-            String duedate = myPartProjects.get(i).getDueDate().format(DateTimeFormatter.ofPattern("yyyy-MM-dd"))
-                    +"T"
-                    +myPartProjects.get(i).getDueDate().format(DateTimeFormatter.ofPattern("HH:mm:ss"));
-
-            ProjectListResponse projectListResponse = ProjectListResponse.builder()
-                    .projectId(myPartProjects.get(i).getId())
-                    .title(myPartProjects.get(i).getTitle())
-                    .dueDate(duedate)
-                    .recruitTotalNum(total[0])
-                    .scrap(isScrap)
-                    .build();
-            response.add(projectListResponse);
-        }
+        int pageSize = getPageSize(size);
 
-        return response;
+        List<Project> myPartProjects = projectRepository.findOpenProjects(LocalDateTime.now(), Field.valueOf(myPart), null,
+                toCursor(after, false), pageSize + 1);
 
+        return toPageResponse(myPartProjects, pageSize, bookmarkCache.get(user.getId()));
     }
 
     /*
@@ -523,6 +405,9 @@ public class ProjectService {
 
         Bookmark bookmark = bookmarkRepository.findByProjectAndUser(project, user);
 
+        // 스크랩 여부가 바뀌므로 캐시 삭제
+        bookmarkCache.evict(userId);
+
         if (bookmark == null){ // 스크랩 되어 있지 않다면
             Bookmark newBookmark = Bookmark.builder()
                     .user(user)
@@ -579,19 +464,16 @@ public class ProjectService {
         if(userId != null){
             User user = userRepository.findById(userId).orElseThrow(()-> new NotFoundUserException());
 
+            // 스크랩한 프로젝트 한 번에 조회
+            BookmarkSet bookmarks = bookmarkCache.get(user.getId());
+
             for (int i=0; i<top20.size(); i++){
                 final int[] total = {0};
 
                 top20.get(i).getRecruit().stream()
                         .forEach((part -> total[0] += part.getRecruitNum()));
 
-                Bookmark bookmark = bookmarkRepository.findByProjectAndUser(top20.get(i), user);
-                boolean isScrap = false;
-
-
-                if(bookmark != null){
-                    isScrap = true;
-                }
+                boolean isScrap = bookmarks.contains(top20.get(i).getId());
 
                 // 0초일 경우 초 단위가 출력되지 않는 현상을 방지하기 위해
                 String duedate = top20.get(i).getDueDate().format(DateTimeFormatter.ofPattern("yyyy-MM-dd"))
@@ -789,6 +671,9 @@ public class ProjectService {
         if(userId != null){
             User user = userRepository.findById(userId).orElseThrow(()-> new NotFoundUserException());
 
+            // 스크랩한 프로젝트 한 번에 조회
+            BookmarkSet bookmarks = bookmarkCache.get(user.getId());
+
             for (int i=0; i<projects.size(); i++){
 
                 final int[] total = {0};
@@ -799,13 +684,7 @@ public class ProjectService {
                 projects.get(i).getRecruit().stream()
                             .forEach((part -> total[0] += part.getRecruitNum()));
 
-                Bookmark bookmark = bookmarkRepository.findByProjectAndUser(projects.get(i), user);
-                boolean isScrap = false;
-
-
-                if(bookmark != null){
-                    isScrap = true;
-                }
+                boolean isScrap = bookmarks.contains(projects.get(i).getId());
 
                 // 0초일 경우 초 단위가 출력되지 않는 현상을 방지하기 위해
                 String duedate = projects.get(i).getDueDate().format(DateTimeFormatter.ofPattern("yyyy-MM-dd"))
@@ -849,4 +728,68 @@ public class ProjectService {
 
         return imminentProjectResponses;
     }
+
+    /*
+        Func : 모집글 목록 페이지 응답 생성
+        Parameter : pageSize + 1 개까지 조회한 모집글, 페이지 크기, 스크랩한 프로젝트
+        Return : ProjectListPageResponse -> 다음 페이지가 있으면 마지막 모집글 커서 포함
+    */
+    private ProjectListPageResponse toPageResponse(List<Project> projects, int pageSize, BookmarkSet bookmarks){
+
+        boolean hasNext = projects.size() > pageSize;
+        if(hasNext){
+            projects = projects.subList(0, pageSize);
+        }
+
+        String nextCursor = hasNext ? ProjectCursor.encode(projects.get(projects.size() - 1)) : null;
+
+        return toPageResponse(projects, nextCursor, hasNext, bookmarks);
+    }
+
+    private ProjectListPageResponse toPageResponse(List<Project> projects, String nextCursor, boolean hasNext, BookmarkSet bookmarks){
+
+        List<ProjectListResponse> response = new ArrayList<>();
+
+        for(int i =0; i<projects.size(); i++){
+            final int[] total = {0};
+
+            projects.get(i).getRecruit().stream()
+                    .forEach((part -> total[0] += part.getRecruitNum()));
+
+            // 0초일 경우 초 단위가 출력되지 않는 현상을 방지하기 위해
+            String duedate = projects.get(i).getDueDate().format(DateTimeFormatter.ofPattern("yyyy-MM-dd"))
+                    +"T"
+                    +projects.get(i).getDueDate().format(DateTimeFormatter.ofPattern("HH:mm:ss"));
+
+            ProjectListResponse projectListResponse = ProjectListResponse.builder()
+                    .projectId(projects.get(i).getId())
+                    .title(projects.get(i).getTitle())
+                    .dueDate(duedate)
+                    .recruitTotalNum(total[0])
+                    .scrap(bookmarks.contains(projects.get(i).getId()))
+                    .build();
+            response.add(projectListResponse);
+        }
+
+        return new ProjectListPageResponse(response, nextCursor, hasNext);
+    }
+
+    // 검색 결과는 점수 커서, 나머지 목록은 작성시간 커서만 허용
+    private ProjectCursor toCursor(String after, boolean rank){
+        if(after == null || after.isBlank()){
+            return null;
+        }
+        ProjectCursor cursor = ProjectCursor.decode(after);
+        if(cursor.isRank() != rank){
+            throw new InvalidCursorException();
+        }
+        return cursor;
+    }
+
+    private int getPageSize(Integer size){
+        if(size == null || size <= 0){
+            return DEFAULT_PAGE_SIZE;
+        }
+        return Math.min(size, MAX_PAGE_SIZE);
+    }
 }
@@ -0,0 +1,167 @@
+package com.Bridge.bridge.service;
+
+import com.Bridge.bridge.util.HangulJamo;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * 모집글 제목 자모/초성 색인
+ * - 제목의 각 단어부터 끝까지를 자모로 분리한 키와 초성 키로 보관 -> "어플 개발" = ㅇㅓㅍㅡㄹㄱㅐㅂㅏㄹ, ㄱㅐㅂㅏㄹ / ㅇㅍㄱㅂ, ㄱㅂ
+ *   정렬된 키에서 검색어로 시작하는 범위만 읽음 (접두어 검색)
+ * - 검색어가 MIN_FUZZY_LENGTH 자모 이상이면 자모 하나를 빼거나/바꾸거나/넣은 검색어로도 접두어 검색 (편집 거리 1)
+ * - 키와 검색어는 MAX_QUERY_LENGTH 자모까지만 사용 -> 검색어 길이와 결과 수(maxHits)로 검색 시간 제한
+ * 동기화는 ProjectSearchIndex 의 lock 에서 처리
+ */
+class ProjectTitleIndex {
+
+    static final double PREFIX_SCORE = 2;
+
+    static final double FUZZY_SCORE = 1;
+
+    static final int MIN_FUZZY_LENGTH = 4;
+
+    static final int MAX_QUERY_LENGTH = 30;
+
+    private static final String ALPHABET = HangulJamo.alphabet();
+
+    private static final String CHOSEONG_ALPHABET = "ㄱㄲㄴㄷㄸㄹㅁㅂㅃㅅㅆㅇㅈㅉㅊㅋㅌㅍㅎ";
+
+    private final NavigableMap<String, Set<Long>> jamoKeys = new TreeMap<>();
+
+    private final NavigableMap<String, Set<Long>> choseongKeys = new TreeMap<>();
+
+    // 삭제할 때 키를 다시 만들기 위한 제목
+    private final Map<Long, String> titles = new HashMap<>();
+
+    void add(Long projectId, String title) {
+        remove(projectId);
+        if (title == null || title.isBlank()) {
+            return;
+        }
+        titles.put(projectId, title);
+        for (String word : suffixes(title)) {
+            put(jamoKeys, HangulJamo.decompose(word), projectId);
+            put(choseongKeys, HangulJamo.choseong(word), projectId);
+        }
+    }
+
+    void remove(Long projectId) {
+        String title = titles.remove(projectId);
+        if (title == null) {
+            return;
+        }
+        for (String word : suffixes(title)) {
+            delete(jamoKeys, HangulJamo.decompose(word), projectId);
+            delete(choseongKeys, HangulJamo.choseong(word), projectId);
+        }
+    }
+
+    /**
+     * 검색 -> 모집글 ID 별 점수 (접두어 일치 PREFIX_SCORE, 오타 허용 일치 FUZZY_SCORE), 최대 maxHits 개
+     * 초성만 입력하면 초성 키에서 검색
+     */
+    Map<Long, Double> search(String word, int maxHits) {
+        Map<Long, Double> hits = new LinkedHashMap<>();
+        if (word == null) {
+            return hits;
+        }
+
+        boolean choseong = HangulJamo.isChoseong(word);
+        NavigableMap<String, Set<Long>> keys = choseong ? choseongKeys : jamoKeys;
+        String query = truncate(choseong ? HangulJamo.choseong(word) : HangulJamo.decompose(word));
+        if (query.isEmpty()) {
+            return hits;
+        }
+
+        collect(keys, query, PREFIX_SCORE, hits, maxHits);
+        if (query.length() < MIN_FUZZY_LENGTH) {
+            return hits;
+        }
+
+        for (String variant : variants(query, choseong ? CHOSEONG_ALPHABET : ALPHABET)) {
+            if (hits.size() >= maxHits) {
+                break;
+            }
+            collect(keys, variant, FUZZY_SCORE, hits, maxHits);
+        }
+        return hits;
+    }
+
+    private void collect(NavigableMap<String, Set<Long>> keys, String prefix, double score,
+                         Map<Long, Double> hits, int maxHits) {
+        for (Set<Long> projectIds : keys.subMap(prefix, true, prefix + Character.MAX_VALUE, false).values()) {
+            for (Long projectId : projectIds) {
+                if (hits.size() >= maxHits) {
+                    return;
+                }
+                hits.putIfAbsent(projectId, score);
+            }
+        }
+    }
+
+    // 편집 거리 1 인 검색어 -> 삭제, 교체, 삽입 (끝에 넣는 경우는 접두어 검색에 포함됨)
+    private Set<String> variants(String query, String alphabet) {
+        Set<String> variants = new HashSet<>();
+        StringBuilder variant = new StringBuilder(query.length() + 1);
+        for (int i = 0; i < query.length(); i++) {
+            variant.setLength(0);
+            variants.add(variant.append(query, 0, i).append(query, i + 1, query.length()).toString());
+
+            for (int a = 0; a < alphabet.length(); a++) {
+                char c = alphabet.charAt(a);
+                if (c != query.charAt(i)) {
+                    variant.setLength(0);
+                    variants.add(variant.append(query, 0, i).append(c).append(query, i + 1, query.length()).toString());
+                }
+                variant.setLength(0);
+                variants.add(variant.append(query, 0, i).append(c).append(query, i, query.length()).toString());
+            }
+        }
+        variants.remove(query);
+        return variants;
+    }
+
+    // 단어마다 그 단어부터 제목 끝까지
+    private List<String> suffixes(String title) {
+        List<String> suffixes = new ArrayList<>();
+        String[] words = title.trim().split("\\s+");
+        for (int i = 0; i < words.length; i++) {
+            suffixes.add(String.join(" ", List.of(words).subList(i, words.length)));
+        }
+        return suffixes;
+    }
+
+    private void put(NavigableMap<String, Set<Long>> keys, String key, Long projectId) {
+        if (key.isEmpty()) {
+            return;
+        }
+        // 편집 거리 1 검색까지 필요한 길이만 보관
+        keys.computeIfAbsent(truncate(key, MAX_QUERY_LENGTH + 1), k -> new HashSet<>(2)).add(projectId);
+    }
+
+    private void delete(NavigableMap<String, Set<Long>> keys, String key, Long projectId) {
+        if (key.isEmpty()) {
+            return;
+        }
+        keys.computeIfPresent(truncate(key, MAX_QUERY_LENGTH + 1), (k, projectIds) -> {
+            projectIds.remove(projectId);
+            return projectIds.isEmpty() ? null : projectIds;
+        });
+    }
+
+    private String truncate(String query) {
+        return truncate(query, MAX_QUERY_LENGTH);
+    }
+
+    private String truncate(String key, int length) {
+        return key.length() > length ? key.substring(0, length) : key;
+    }
+}
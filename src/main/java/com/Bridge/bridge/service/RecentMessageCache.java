@@ -0,0 +1,470 @@
+package com.Bridge.bridge.service;
+
+import com.Bridge.bridge.config.kafka.ChatNode;
+import com.Bridge.bridge.domain.Chat;
+import com.Bridge.bridge.domain.Message;
+import com.Bridge.bridge.dto.request.ChatCacheEvictEvent;
+import com.Bridge.bridge.dto.request.ChatMessageRequest;
+import com.Bridge.bridge.dto.response.ChatHistoryPageResponse;
+import com.Bridge.bridge.dto.response.ChatMessageResponse;
+import com.Bridge.bridge.util.ChatCursor;
+import com.Bridge.bridge.util.Constant;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 최근 메세지 캐시 -> 채팅방 첫 페이지 조회를 DB 없이 처리
+ * 채팅방별로 마지막 messages-per-room 개의 메세지를 보관
+ * - 전달 경로(MessageReceiver)에서 채움 -> 모든 노드가 모든 메세지를 받으므로 노드마다 같은 내용 유지
+ * - 읽음 이벤트(READ)를 받으면 해당 메세지들의 읽음 여부 갱신
+ * - 첫 조회 때 메세지가 부족하면 DB 에서 읽어 채움
+ * 전체 크기가 max-bytes 를 넘으면 가장 오래 사용하지 않은 채팅방부터 삭제
+ * 채팅방별로 따로 잠금 -> 다른 채팅방의 추가/읽음/조회를 기다리지 않음
+ * 채팅방 삭제는 커밋 후 Kafka 로 다른 노드에도 전달 -> 다른 노드에 삭제된 채팅방 메세지가 남지 않도록
+ */
+@Slf4j
+@Component
+public class RecentMessageCache {
+
+    // 메세지 하나당 고정 크기 (객체 헤더, 필드, 문자열 헤더 등 대략적인 값)
+    private static final int MESSAGE_OVERHEAD = 160;
+
+    private final int messagesPerRoom;
+
+    private final long maxBytes;
+
+    private final KafkaTemplate<String, ChatCacheEvictEvent> chatCacheEvictKafkaTemplate;
+
+    private final ChatNode chatNode;
+
+    // 다른 노드로 삭제 전달 여부 -> Kafka 를 사용하는 경우만
+    private final boolean replicate;
+
+    private final ConcurrentHashMap<String, RoomTail> rooms = new ConcurrentHashMap<>();
+
+    private final AtomicLong totalBytes = new AtomicLong();
+
+    // 채팅방 사용 순서 (LRU 삭제 기준)
+    private final AtomicLong accessClock = new AtomicLong();
+
+    // 삭제는 한 스레드만 -> 다른 스레드는 기다리지 않고 넘어감
+    private final ReentrantLock evictionLock = new ReentrantLock();
+
+    private final Counter hitCounter;
+
+    private final Counter missCounter;
+
+    private final Counter evictionCounter;
+
+    public RecentMessageCache(MeterRegistry meterRegistry,
+                              KafkaTemplate<String, ChatCacheEvictEvent> chatCacheEvictKafkaTemplate, ChatNode chatNode,
+                              @Value("#{'${chat.transport:kafka}' == 'kafka'}") boolean replicate,
+                              @Value("${chat.cache.messages-per-room:50}") int messagesPerRoom,
+                              @Value("${chat.cache.max-bytes:33554432}") long maxBytes) {
+        this.chatCacheEvictKafkaTemplate = chatCacheEvictKafkaTemplate;
+        this.chatNode = chatNode;
+        this.replicate = replicate;
+        this.messagesPerRoom = messagesPerRoom;
+        this.maxBytes = maxBytes;
+
+        this.hitCounter = Counter.builder("chat.history.cache.requests")
+                .tag("result", "hit")
+                .register(meterRegistry);
+        this.missCounter = Counter.builder("chat.history.cache.requests")
+                .tag("result", "miss")
+                .register(meterRegistry);
+        this.evictionCounter = Counter.builder("chat.history.cache.evictions")
+                .register(meterRegistry);
+        Gauge.builder("chat.history.cache.bytes", this, RecentMessageCache::getTotalBytes)
+                .register(meterRegistry);
+        Gauge.builder("chat.history.cache.rooms", this, RecentMessageCache::getRoomCount)
+                .register(meterRegistry);
+    }
+
+    public int getMessagesPerRoom() {
+        return messagesPerRoom;
+    }
+
+    public long getTotalBytes() {
+        return totalBytes.get();
+    }
+
+    public int getRoomCount() {
+        return rooms.size();
+    }
+
+    /**
+     * 전달된 메세지 추가 -> 이미 가지고 있는 순번이면 무시
+     */
+    public void append(ChatMessageRequest message) {
+        if (message.getChatRoomId() == null || message.getSeq() == null) {
+            return;
+        }
+        while (true) {
+            RoomTail tail = rooms.computeIfAbsent(message.getChatRoomId(), id -> new RoomTail());
+            synchronized (tail) {
+                // 그 사이 삭제되거나 교체된 채팅방 -> 새로 가져와서 다시 시도
+                if (tail.removed) {
+                    continue;
+                }
+                tail.touch(accessClock.incrementAndGet());
+
+                CachedMessage last = tail.messages.peekLast();
+                if (last != null && last.seq != null && last.seq >= message.getSeq()) {
+                    return;
+                }
+                totalBytes.addAndGet(add(tail, CachedMessage.of(message)));
+            }
+            evictIfNeeded(message.getChatRoomId());
+            return;
+        }
+    }
+
+    /**
+     * 읽음 처리 -> 읽은 사람이 아닌 쪽이 보낸 seq 이하 메세지를 읽음으로
+     * seq 가 없으면 (순번 도입 전 메세지까지 읽음) 순번 없는 메세지만 읽음으로
+     */
+    public void markRead(String chatRoomId, Long readerId, Long seq) {
+        RoomTail tail = rooms.get(chatRoomId);
+        if (tail == null) {
+            return;
+        }
+        synchronized (tail) {
+            for (CachedMessage message : tail.messages) {
+                if (readerId.equals(message.senderId)) {
+                    continue;
+                }
+                if (message.seq == null || (seq != null && message.seq <= seq)) {
+                    message.read = true;
+                }
+            }
+        }
+    }
+
+    /**
+     * 첫 페이지 조회 -> size 개 이상 가지고 있거나 채팅방 전체 메세지를 가지고 있으면 반환, 아니면 null
+     */
+    public ChatHistoryPageResponse getFirstPage(String chatRoomId, int size) {
+        RoomTail tail = rooms.get(chatRoomId);
+        if (tail == null) {
+            missCounter.increment();
+            return null;
+        }
+        synchronized (tail) {
+            if (tail.removed || (tail.messages.size() < size && !tail.complete)) {
+                missCounter.increment();
+                return null;
+            }
+            hitCounter.increment();
+            tail.touch(accessClock.incrementAndGet());
+
+            int skip = Math.max(0, tail.messages.size() - size);
+            List<ChatMessageResponse> page = new ArrayList<>(Math.min(size, tail.messages.size()));
+            CachedMessage oldest = null;
+
+            Iterator<CachedMessage> iterator = tail.messages.iterator();
+            for (int i = 0; iterator.hasNext(); i++) {
+                CachedMessage message = iterator.next();
+                if (i < skip) {
+                    continue;
+                }
+                if (oldest == null) {
+                    oldest = message;
+                }
+                page.add(message.toResponse());
+            }
+
+            boolean hasNext = skip > 0 || !tail.complete;
+            String cursor = hasNext && oldest != null ? oldest.cursor() : null;
+            return new ChatHistoryPageResponse(page, cursor, hasNext && oldest != null);
+        }
+    }
+
+    /**
+     * DB 에서 읽은 최신 메세지로 채우기
+     * 그 사이 전달된 메세지(DB 에 아직 없는 순번)는 뒤에 이어 붙임
+     *
+     * @param newestFirst 최신 순으로 조회한 메세지
+     * @param complete    채팅방의 모든 메세지를 조회했는지 여부
+     */
+    public void load(Chat chat, List<Message> newestFirst, boolean complete) {
+        String chatRoomId = chat.getChatRoomId();
+
+        // 새 채팅방은 교체 전까지 다른 스레드가 볼 수 없으므로 잠금 없이 채움
+        RoomTail tail = new RoomTail();
+        tail.complete = complete;
+        long loadedMaxSeq = 0;
+        for (int i = newestFirst.size() - 1; i >= 0; i--) {
+            Message message = newestFirst.get(i);
+            add(tail, CachedMessage.of(message, chat.isRead(message)));
+            if (message.getSeq() != null) {
+                loadedMaxSeq = Math.max(loadedMaxSeq, message.getSeq());
+            }
+        }
+        long maxSeq = loadedMaxSeq;
+
+        rooms.compute(chatRoomId, (id, previous) -> {
+            if (previous != null) {
+                synchronized (previous) {
+                    previous.removed = true;
+                    totalBytes.addAndGet(-previous.bytes);
+                    for (CachedMessage message : previous.messages) {
+                        if (message.seq != null && message.seq > maxSeq) {
+                            add(tail, message);
+                        }
+                    }
+                }
+            }
+            tail.touch(accessClock.incrementAndGet());
+            totalBytes.addAndGet(tail.bytes);
+            return tail;
+        });
+        evictIfNeeded(chatRoomId);
+    }
+
+    /**
+     * 채팅방 삭제 -> 트랜잭션 중이면 커밋 후에도 삭제 (커밋 전에 다른 요청이 다시 채운 경우)
+     * 다른 노드에는 커밋 후 전달 -> 커밋 전에 삭제하면 다시 채울 수 있음
+     */
+    public void evict(String chatRoomId) {
+        removeRoom(chatRoomId);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    removeRoom(chatRoomId);
+                    publish(chatRoomId);
+                }
+            });
+        }
+        else {
+            publish(chatRoomId);
+        }
+    }
+
+    /**
+     * 다른 노드에서 채팅방 삭제 -> 해당 채팅방 캐시 삭제
+     */
+    @KafkaListener(topics = Constant.CHAT_CACHE_EVICT_TOPIC, containerFactory = "chatCacheEvictListenerContainerFactory",
+            autoStartup = "#{'${chat.transport:kafka}' == 'kafka'}")
+    public void receive(ChatCacheEvictEvent event) {
+        if (chatNode.getId().equals(event.getNodeId())) {
+            return;
+        }
+        removeRoom(event.getChatRoomId());
+    }
+
+    private void publish(String chatRoomId) {
+        if (!replicate) {
+            return;
+        }
+        try {
+            chatCacheEvictKafkaTemplate.send(Constant.CHAT_CACHE_EVICT_TOPIC, chatRoomId, ChatCacheEvictEvent.builder()
+                    .nodeId(chatNode.getId())
+                    .chatRoomId(chatRoomId)
+                    .build());
+        }
+        catch (RuntimeException e) {
+            // 전달 실패 -> 다른 노드는 LRU 로 삭제될 때까지 남음 (삭제된 채팅방은 조회 시 먼저 NotFoundChatException)
+            log.warn("최근 메세지 캐시 삭제 전달 실패 chatRoomId = {}", chatRoomId, e);
+        }
+    }
+
+    private void removeRoom(String chatRoomId) {
+        RoomTail tail = rooms.get(chatRoomId);
+        if (tail != null) {
+            remove(chatRoomId, tail);
+        }
+    }
+
+    /**
+     * 채팅방 삭제 -> 지금 등록된 채팅방이 tail 일 때만
+     * (맵에서 먼저 빼고 잠금 -> load 의 compute 와 잠금 순서가 엇갈리지 않도록)
+     */
+    private boolean remove(String chatRoomId, RoomTail tail) {
+        if (!rooms.remove(chatRoomId, tail)) {
+            return false;
+        }
+        synchronized (tail) {
+            tail.removed = true;
+            totalBytes.addAndGet(-tail.bytes);
+        }
+        return true;
+    }
+
+    /**
+     * 메세지 추가 -> messages-per-room 개를 넘으면 가장 오래된 메세지 삭제
+     * 늘어난 크기 반환
+     */
+    private long add(RoomTail tail, CachedMessage message) {
+        tail.messages.addLast(message);
+        tail.bytes += message.bytes;
+        long added = message.bytes;
+
+        while (tail.messages.size() > messagesPerRoom) {
+            CachedMessage removed = tail.messages.removeFirst();
+            tail.bytes -= removed.bytes;
+            tail.complete = false;
+            added -= removed.bytes;
+        }
+
+        return added;
+    }
+
+    /**
+     * 전체 크기 초과 시 가장 오래 사용하지 않은 채팅방부터 삭제 (방금 사용한 채팅방은 제외)
+     * 이미 다른 스레드가 삭제 중이면 넘어감
+     */
+    private void evictIfNeeded(String current) {
+        if (totalBytes.get() <= maxBytes || !evictionLock.tryLock()) {
+            return;
+        }
+        try {
+            // 정렬 중 사용 순서가 바뀌지 않도록 복사해서 정렬
+            List<EvictionCandidate> candidates = new ArrayList<>(rooms.size());
+            for (Map.Entry<String, RoomTail> entry : rooms.entrySet()) {
+                candidates.add(new EvictionCandidate(entry.getKey(), entry.getValue()));
+            }
+            candidates.sort(Comparator.comparingLong(candidate -> candidate.lastAccess));
+            for (EvictionCandidate eldest : candidates) {
+                if (totalBytes.get() <= maxBytes) {
+                    return;
+                }
+                if (eldest.chatRoomId.equals(current)) {
+                    continue;
+                }
+                if (remove(eldest.chatRoomId, eldest.tail)) {
+                    evictionCounter.increment();
+                }
+            }
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    /**
+     * 채팅방별 메세지 -> 필드는 해당 RoomTail 을 잠근 상태에서만 변경
+     */
+    private static class RoomTail {
+
+        private final ArrayDeque<CachedMessage> messages = new ArrayDeque<>();
+
+        private boolean complete;   // 채팅방의 모든 메세지를 가지고 있는지
+
+        private long bytes;
+
+        private boolean removed;    // 캐시에서 빠졌거나 load 로 교체됨
+
+        private volatile long lastAccess;
+
+        private void touch(long access) {
+            this.lastAccess = access;
+        }
+    }
+
+    private static class EvictionCandidate {
+
+        private final String chatRoomId;
+
+        private final RoomTail tail;
+
+        private final long lastAccess;
+
+        private EvictionCandidate(String chatRoomId, RoomTail tail) {
+            this.chatRoomId = chatRoomId;
+            this.tail = tail;
+            this.lastAccess = tail.lastAccess;
+        }
+    }
+
+    private static class CachedMessage {
+
+        private final Long id;              // DB ID -> DB 에서 읽은 메세지만 존재
+
+        private final String messageId;
+
+        private final Long seq;
+
+        private final String type;
+
+        private final String content;
+
+        private final Long senderId;
+
+        private final LocalDateTime sendTime;
+
+        private boolean read;
+
+        private final int bytes;
+
+        private CachedMessage(Long id, String messageId, Long seq, String type, String content,
+                              Long senderId, LocalDateTime sendTime, boolean read) {
+            this.id = id;
+            this.messageId = messageId;
+            this.seq = seq;
+            this.type = type;
+            this.content = content;
+            this.senderId = senderId;
+            this.sendTime = sendTime;
+            this.read = read;
+            this.bytes = MESSAGE_OVERHEAD + 2 * (length(messageId) + length(type) + length(content));
+        }
+
+        private static CachedMessage of(ChatMessageRequest message) {
+            return new CachedMessage(null, message.getMessageId(), message.getSeq(),
+                    message.getType() == null ? null : message.getType().name(), message.getMessage(),
+                    message.getSenderId(), message.getSendTime(), message.isReadStat());
+        }
+
+        private static CachedMessage of(Message message, boolean read) {
+            return new CachedMessage(message.getId(), message.getMessageUuId(), message.getSeq(), message.getType(),
+                    message.getContent(), message.getWriterId(), message.getSendDateTime(), read);
+        }
+
+        private static int length(String value) {
+            return value == null ? 0 : value.length();
+        }
+
+        /**
+         * 다음 페이지 커서 -> DB ID 를 알면 (sendDateTime, id), 모르면 순번
+         */
+        private String cursor() {
+            if (id != null) {
+                return ChatCursor.encode(sendTime, id);
+            }
+            return ChatCursor.encodeSeq(seq);
+        }
+
+        private ChatMessageResponse toResponse() {
+            ChatMessageResponse response = new ChatMessageResponse();
+            response.setMessageId(messageId);
+            response.setSeq(seq);
+            response.setType(type);
+            response.setContent(content);
+            response.setSenderId(senderId);
+            response.setSendTime(sendTime);
+            response.setReadStat(read);
+            return response;
+        }
+    }
+}
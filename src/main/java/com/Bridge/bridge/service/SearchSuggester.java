@@ -0,0 +1,390 @@
+package com.Bridge.bridge.service;
+
+import com.Bridge.bridge.repository.ProjectRepository.OpenProject;
+import com.Bridge.bridge.repository.SearchWordRepository;
+import com.Bridge.bridge.repository.SearchWordRepository.PopularSearchWord;
+import com.Bridge.bridge.util.HangulJamo;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * 검색어 자동완성 (읽기 전용, DB 조회 없음)
+ * - 모집 중인 모집글 제목 + 여러 유저가 검색한 검색어(min-search-users 명 이상)를 자모로 분리해 정렬된 배열로 보관
+ *   입력 중인 글자도 자모 단위로 비교 -> "프로ㅈ" 으로 "프로젝트" 추천
+ * - 추천 순서 = 모집글 제목 수 + 검색 횟수, 같으면 자모 순
+ * - 모집글 변경, 검색은 커밋 후 가중치에만 반영하고 refresh-interval-ms 마다 바뀐 경우에만 배열을 다시 만듦
+ * - 다른 노드의 변경과 새로 많이 검색된 검색어는 ProjectSearchReloader 가 주기적으로 DB 에서 다시 읽어 반영
+ */
+@Slf4j
+@Component
+public class SearchSuggester {
+
+    static final int MAX_KEY_LENGTH = 32;     // 자모 기준, 이보다 긴 입력은 앞부분만 비교
+
+    private final SearchWordRepository searchWordRepository;
+
+    private final long minSearchUsers;
+
+    private final int maxSearchWords;
+
+    // 모집글별 제목, 제목별 모집글 수, 검색어별 검색 횟수 -> this 로 동기화
+    private final Map<Long, String> titles = new HashMap<>();
+
+    private final Map<String, Long> titleCounts = new HashMap<>();
+
+    private final Map<String, Long> searchCounts = new HashMap<>();
+
+    private boolean dirty;
+
+    // 다시 읽는 중 반영된 변경 -> DB 에서 읽은 시점 이후 변경을 다시 적용
+    private List<Consumer<SearchSuggester>> changesDuringReload;
+
+    private volatile Suggestions suggestions = Suggestions.EMPTY;
+
+    // 배열 생성 순서 보장 -> 먼저 복사한 가중치로 만든 배열이 나중에 덮어쓰지 않도록
+    private final Object refreshLock = new Object();
+
+    private final Timer suggestTimer;
+
+    public SearchSuggester(SearchWordRepository searchWordRepository, MeterRegistry meterRegistry,
+                           @Value("${project.suggest.min-search-users:3}") long minSearchUsers,
+                           @Value("${project.suggest.max-search-words:10000}") int maxSearchWords) {
+        this.searchWordRepository = searchWordRepository;
+        this.minSearchUsers = minSearchUsers;
+        this.maxSearchWords = maxSearchWords;
+
+        this.suggestTimer = Timer.builder("project.suggest.latency")
+                .register(meterRegistry);
+        Gauge.builder("project.suggest.terms", this, suggester -> suggester.suggestions.size())
+                .register(meterRegistry);
+    }
+
+    /**
+     * 입력 중인 검색어로 시작하는 추천 검색어 limit 개
+     */
+    public List<String> suggest(String prefix, int limit) {
+        long start = System.nanoTime();
+        try {
+            if (prefix == null || limit <= 0) {
+                return Collections.emptyList();
+            }
+            String key = truncate(HangulJamo.decompose(prefix));
+            if (key.isEmpty()) {
+                return Collections.emptyList();
+            }
+            return suggestions.suggest(key, limit);
+        } finally {
+            suggestTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * 모집글 추가/수정 -> 커밋 후 제목 반영
+     */
+    public void onProjectSaved(Long projectId, String title, LocalDateTime dueDate) {
+        afterCommit(suggester -> {
+            suggester.removeTitle(projectId);
+            // 마감된 모집글 제목은 추천하지 않음
+            if (dueDate == null || !dueDate.isBefore(LocalDateTime.now())) {
+                suggester.addTitle(projectId, title);
+            }
+        });
+    }
+
+    /**
+     * 모집글 삭제 -> 커밋 후 제목 제거
+     */
+    public void onProjectRemoved(Long projectId) {
+        afterCommit(suggester -> suggester.removeTitle(projectId));
+    }
+
+    /**
+     * 검색 -> 커밋 후 이미 추천 중인 검색어면 검색 횟수 증가
+     * 새 검색어는 여러 유저가 검색했는지 알 수 없으므로 다음 reload 에서 추가
+     */
+    public void onSearch(String word) {
+        if (word == null || word.isBlank()) {
+            return;
+        }
+        String term = word.trim();
+        afterCommit(suggester -> suggester.searchCounts.computeIfPresent(term, (t, count) -> {
+            suggester.dirty = true;
+            return count + 1;
+        }));
+    }
+
+    /**
+     * 다시 읽기 시작 -> 이후 반영되는 변경은 다시 읽은 뒤에도 다시 적용 (DB 에서 읽기 전에 호출)
+     */
+    synchronized void beginReload() {
+        changesDuringReload = new ArrayList<>();
+    }
+
+    /**
+     * 다시 읽기 실패 -> 기존 추천 유지
+     */
+    synchronized void cancelReload() {
+        changesDuringReload = null;
+    }
+
+    /**
+     * DB 에서 읽은 모집 중인 모집글 제목 + 많이 검색된 검색어로 다시 채움
+     */
+    void reload(List<OpenProject> projects) {
+        Map<Long, String> loadedTitles = new HashMap<>();
+        for (OpenProject project : projects) {
+            if (project.getTitle() != null && !project.getTitle().isBlank()) {
+                loadedTitles.put(project.getId(), project.getTitle().trim());
+            }
+        }
+
+        Map<String, Long> loadedSearchCounts = new HashMap<>();
+        try {
+            for (PopularSearchWord searchWord :
+                    searchWordRepository.findPopularSearchWords(minSearchUsers, PageRequest.of(0, maxSearchWords))) {
+                if (!searchWord.getContent().isBlank()) {
+                    loadedSearchCounts.merge(searchWord.getContent().trim(), searchWord.getCount(), Long::sum);
+                }
+            }
+        } catch (RuntimeException e) {
+            log.error("추천 검색어 불러오기 실패", e);
+            cancelReload();
+            return;
+        }
+
+        synchronized (this) {
+            titles.clear();
+            titleCounts.clear();
+            loadedTitles.forEach(this::addTitle);
+            searchCounts.clear();
+            searchCounts.putAll(loadedSearchCounts);
+            changesDuringReload.forEach(change -> change.accept(this));
+            changesDuringReload = null;
+            dirty = true;
+        }
+        refresh();
+        log.info("추천 검색어 불러오기 완료 (제목 {}건, 검색어 {}건)", loadedTitles.size(), loadedSearchCounts.size());
+    }
+
+    /**
+     * 바뀐 가중치가 있으면 추천 배열 다시 생성
+     */
+    @Scheduled(fixedDelayString = "${project.suggest.refresh-interval-ms:1000}")
+    public void refresh() {
+        synchronized (refreshLock) {
+            Map<String, Long> weights;
+            synchronized (this) {
+                if (!dirty) {
+                    return;
+                }
+                dirty = false;
+                weights = new HashMap<>(searchCounts);
+                titleCounts.forEach((title, count) -> weights.merge(title, count, Long::sum));
+            }
+            suggestions = Suggestions.build(weights);
+        }
+    }
+
+    private void afterCommit(Consumer<SearchSuggester> change) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            apply(change);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                apply(change);
+            }
+        });
+    }
+
+    private synchronized void apply(Consumer<SearchSuggester> change) {
+        change.accept(this);
+        if (changesDuringReload != null) {
+            changesDuringReload.add(change);
+        }
+    }
+
+    private void addTitle(Long projectId, String title) {
+        if (title == null || title.isBlank()) {
+            return;
+        }
+        String term = title.trim();
+        titles.put(projectId, term);
+        titleCounts.merge(term, 1L, Long::sum);
+        dirty = true;
+    }
+
+    private void removeTitle(Long projectId) {
+        String title = titles.remove(projectId);
+        if (title == null) {
+            return;
+        }
+        titleCounts.computeIfPresent(title, (term, count) -> count > 1 ? count - 1 : null);
+        dirty = true;
+    }
+
+    private static String truncate(String key) {
+        return key.length() > MAX_KEY_LENGTH ? key.substring(0, MAX_KEY_LENGTH) : key;
+    }
+
+    /**
+     * 추천 배열 (만든 뒤 변경 없음) -> 자모 키 순으로 정렬, 키가 같은 검색어는 가중치를 합쳐서 하나로
+     * BLOCK_SIZE 개씩 나눈 구간마다 가중치 순 인덱스를 미리 정렬해 둠
+     * -> 짧은 입력으로 범위가 넓어도 구간마다 앞쪽 몇 개만 확인
+     */
+    static final class Suggestions {
+
+        static final Suggestions EMPTY = new Suggestions(new String[0], new String[0], new long[0]);
+
+        private static final int BLOCK_SIZE = 64;
+
+        private final String[] keys;
+
+        private final String[] terms;
+
+        private final long[] weights;
+
+        private final int[] blockOrder;
+
+        private Suggestions(String[] keys, String[] terms, long[] weights) {
+            this.keys = keys;
+            this.terms = terms;
+            this.weights = weights;
+
+            Integer[] order = new Integer[keys.length];
+            for (int i = 0; i < order.length; i++) {
+                order[i] = i;
+            }
+            for (int from = 0; from < order.length; from += BLOCK_SIZE) {
+                Arrays.sort(order, from, Math.min(order.length, from + BLOCK_SIZE), this::compare);
+            }
+            this.blockOrder = Arrays.stream(order).mapToInt(Integer::intValue).toArray();
+        }
+
+        static Suggestions build(Map<String, Long> weightByTerm) {
+            // 자모 키별로 합침 -> 표시할 검색어는 가중치가 가장 큰 것
+            Map<String, String> termByKey = new HashMap<>();
+            Map<String, Long> weightByKey = new HashMap<>();
+            weightByTerm.forEach((term, weight) -> {
+                String key = truncate(HangulJamo.decompose(term));
+                if (key.isEmpty()) {
+                    return;
+                }
+                weightByKey.merge(key, weight, Long::sum);
+                String current = termByKey.get(key);
+                if (current == null || weightByTerm.get(current) < weight
+                        || (weightByTerm.get(current).equals(weight) && term.compareTo(current) < 0)) {
+                    termByKey.put(key, term);
+                }
+            });
+
+            String[] keys = termByKey.keySet().toArray(new String[0]);
+            Arrays.sort(keys);
+            String[] terms = new String[keys.length];
+            long[] weights = new long[keys.length];
+            for (int i = 0; i < keys.length; i++) {
+                terms[i] = termByKey.get(keys[i]);
+                weights[i] = weightByKey.get(keys[i]);
+            }
+            return new Suggestions(keys, terms, weights);
+        }
+
+        int size() {
+            return keys.length;
+        }
+
+        List<String> suggest(String prefix, int limit) {
+            int from = lowerBound(prefix);
+            int to = lowerBound(prefix + Character.MAX_VALUE);
+
+            int[] top = new int[limit];
+            int count = 0;
+            if (to - from <= BLOCK_SIZE * 2) {
+                for (int i = from; i < to; i++) {
+                    count = offer(top, count, i);
+                }
+                return toTerms(top, count);
+            }
+
+            // 앞뒤로 걸친 구간은 하나씩, 범위 안에 다 들어가는 구간은 가중치 순으로 더 못 들어갈 때까지
+            int firstBlock = (from + BLOCK_SIZE - 1) / BLOCK_SIZE;
+            int lastBlock = to / BLOCK_SIZE;
+            for (int i = from; i < firstBlock * BLOCK_SIZE; i++) {
+                count = offer(top, count, i);
+            }
+            for (int i = lastBlock * BLOCK_SIZE; i < to; i++) {
+                count = offer(top, count, i);
+            }
+            for (int block = firstBlock; block < lastBlock; block++) {
+                for (int i = block * BLOCK_SIZE; i < (block + 1) * BLOCK_SIZE; i++) {
+                    if (count == limit && compare(blockOrder[i], top[limit - 1]) >= 0) {
+                        break;
+                    }
+                    count = offer(top, count, blockOrder[i]);
+                }
+            }
+            return toTerms(top, count);
+        }
+
+        // 가중치 순으로 유지하는 상위 목록에 추가 -> 목록 크기 반환
+        private int offer(int[] top, int count, int index) {
+            if (count == top.length && compare(index, top[count - 1]) >= 0) {
+                return count;
+            }
+            int position = count == top.length ? count - 1 : count;
+            while (position > 0 && compare(index, top[position - 1]) < 0) {
+                top[position] = top[position - 1];
+                position--;
+            }
+            top[position] = index;
+            return Math.min(count + 1, top.length);
+        }
+
+        // 가중치 큰 순, 같으면 키 순
+        private int compare(int a, int b) {
+            int result = Long.compare(weights[b], weights[a]);
+            return result != 0 ? result : Integer.compare(a, b);
+        }
+
+        private int lowerBound(String key) {
+            int low = 0;
+            int high = keys.length;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (keys[mid].compareTo(key) < 0) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+
+        private List<String> toTerms(int[] top, int count) {
+            List<String> result = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                result.add(terms[top[i]]);
+            }
+            return result;
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package com.Bridge.bridge.util;
+
+import com.Bridge.bridge.domain.Message;
+import com.Bridge.bridge.exception.badrequest.InvalidCursorException;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 채팅 기록 페이징 커서 -> (sendDateTime, message_id)
+ * 아직 DB ID 를 모르는 메세지(최근 메세지 캐시)는 채팅방 내 순번으로 대신 전달 -> 조회 시 (sendDateTime, message_id) 로 변환
+ * 클라이언트에는 Base64 로 인코딩된 불투명 문자열로 전달
+ */
+@Getter
+public class ChatCursor {
+
+    private static final char SEPARATOR = '_';
+
+    private static final String SEQ_PREFIX = "seq:";
+
+    private final LocalDateTime sendDateTime;
+
+    private final Long messageId;
+
+    private final Long seq;
+
+    private ChatCursor(LocalDateTime sendDateTime, Long messageId, Long seq) {
+        this.sendDateTime = sendDateTime;
+        this.messageId = messageId;
+        this.seq = seq;
+    }
+
+    public static String encode(Message message) {
+        return encode(message.getSendDateTime(), message.getId());
+    }
+
+    public static String encode(LocalDateTime sendDateTime, Long messageId) {
+        return toBase64(sendDateTime.toString() + SEPARATOR + messageId);
+    }
+
+    public static String encodeSeq(long seq) {
+        return toBase64(SEQ_PREFIX + seq);
+    }
+
+    /**
+     * 순번 커서 여부
+     */
+    public boolean isSeq() {
+        return seq != null;
+    }
+
+    public static ChatCursor decode(String cursor) {
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            if (decoded.startsWith(SEQ_PREFIX)) {
+                return new ChatCursor(null, null, Long.parseLong(decoded.substring(SEQ_PREFIX.length())));
+            }
+
+            int separator = decoded.lastIndexOf(SEPARATOR);
+
+            return new ChatCursor(LocalDateTime.parse(decoded.substring(0, separator)),
+                    Long.parseLong(decoded.substring(separator + 1)), null);
+        }
+        catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+            throw new InvalidCursorException();
+        }
+    }
+
+    private static String toBase64(String cursor) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(cursor.getBytes(StandardCharsets.UTF_8));
+    }
+}
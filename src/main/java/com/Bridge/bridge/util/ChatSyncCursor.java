@@ -0,0 +1,54 @@
+package com.Bridge.bridge.util;
+
+import com.Bridge.bridge.exception.badrequest.InvalidCursorException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.StringJoiner;
+
+/**
+ * 재접속 동기화 커서 -> 채팅방(chat_id)별로 받은 마지막 메세지 순번
+ * 메세지 ID 는 저장(커밋) 순서와 다를 수 있어서 채팅방별 순번으로 이어서 조회
+ * 클라이언트에는 Base64 로 인코딩된 불투명 문자열로 전달
+ */
+public class ChatSyncCursor {
+
+    private static final char ENTRY_SEPARATOR = ',';
+
+    private static final char VALUE_SEPARATOR = ':';
+
+    private ChatSyncCursor() {
+    }
+
+    public static String encode(Map<Long, Long> seqByChatId) {
+        StringJoiner joiner = new StringJoiner(String.valueOf(ENTRY_SEPARATOR));
+        seqByChatId.forEach((chatId, seq) -> joiner.add(chatId + String.valueOf(VALUE_SEPARATOR) + seq));
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(joiner.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 커서가 없으면 빈 맵 -> 모든 채팅방을 처음부터 조회
+     */
+    public static Map<Long, Long> decode(String cursor) {
+        Map<Long, Long> seqByChatId = new LinkedHashMap<>();
+        if (cursor == null || cursor.isBlank()) {
+            return seqByChatId;
+        }
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            if (decoded.isEmpty()) {
+                return seqByChatId;
+            }
+            for (String entry : decoded.split(String.valueOf(ENTRY_SEPARATOR))) {
+                int separator = entry.indexOf(VALUE_SEPARATOR);
+                seqByChatId.put(Long.parseLong(entry.substring(0, separator)), Long.parseLong(entry.substring(separator + 1)));
+            }
+            return seqByChatId;
+        }
+        catch (IllegalArgumentException | IndexOutOfBoundsException e) {
+            throw new InvalidCursorException();
+        }
+    }
+}
@@ -2,6 +2,10 @@ package com.Bridge.bridge.util;
 
 public abstract class Constant {
     public static final String KAFKA_TOPIC = "chat";
+    public static final String PRESENCE_TOPIC = "chat-presence";
+    public static final String ALARM_TOPIC = "alarm";
+    public static final String BOOKMARK_EVICT_TOPIC = "bookmark-evict";
+    public static final String CHAT_CACHE_EVICT_TOPIC = "chat-cache-evict";
     public static final String GROUP_ID = "group1";
     public static final String BOOTSTRAP_SERVER = "54.180.195.17:9092";
 }
@@ -0,0 +1,114 @@
+package com.Bridge.bridge.util;
+
+/**
+ * 한글 자모 분리
+ * - decompose : 음절을 초성/중성/종성 자모로 분리 -> "개발" = ㄱㅐㅂㅏㄹ (오타 한 글자가 자모 하나 차이가 됨)
+ * - choseong : 음절의 초성만 -> "개발" = ㄱㅂ
+ * 한글이 아닌 글자는 소문자로 그대로, 공백은 제거
+ */
+public class HangulJamo {
+
+    private static final char SYLLABLE_BEGIN = '가';
+
+    private static final char SYLLABLE_END = '힣';
+
+    private static final int JUNGSEONG_COUNT = 21;
+
+    private static final int JONGSEONG_COUNT = 28;
+
+    // 호환용 자모 (키보드로 입력되는 자모)
+    private static final char[] CHOSEONG = {
+            'ㄱ', 'ㄲ', 'ㄴ', 'ㄷ', 'ㄸ', 'ㄹ', 'ㅁ', 'ㅂ', 'ㅃ', 'ㅅ',
+            'ㅆ', 'ㅇ', 'ㅈ', 'ㅉ', 'ㅊ', 'ㅋ', 'ㅌ', 'ㅍ', 'ㅎ'};
+
+    private static final char[] JUNGSEONG = {
+            'ㅏ', 'ㅐ', 'ㅑ', 'ㅒ', 'ㅓ', 'ㅔ', 'ㅕ', 'ㅖ', 'ㅗ', 'ㅘ',
+            'ㅙ', 'ㅚ', 'ㅛ', 'ㅜ', 'ㅝ', 'ㅞ', 'ㅟ', 'ㅠ', 'ㅡ', 'ㅢ', 'ㅣ'};
+
+    // 종성 없음은 0
+    private static final char[] JONGSEONG = {
+            0, 'ㄱ', 'ㄲ', 'ㄳ', 'ㄴ', 'ㄵ', 'ㄶ', 'ㄷ', 'ㄹ', 'ㄺ',
+            'ㄻ', 'ㄼ', 'ㄽ', 'ㄾ', 'ㄿ', 'ㅀ', 'ㅁ', 'ㅂ', 'ㅄ', 'ㅅ',
+            'ㅆ', 'ㅇ', 'ㅈ', 'ㅊ', 'ㅋ', 'ㅌ', 'ㅍ', 'ㅎ'};
+
+    private HangulJamo() {
+    }
+
+    public static String decompose(String text) {
+        StringBuilder jamo = new StringBuilder(text.length() * 3);
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (Character.isWhitespace(c)) {
+                continue;
+            }
+            if (!isSyllable(c)) {
+                jamo.append(Character.toLowerCase(c));
+                continue;
+            }
+            int offset = c - SYLLABLE_BEGIN;
+            jamo.append(CHOSEONG[offset / (JUNGSEONG_COUNT * JONGSEONG_COUNT)]);
+            jamo.append(JUNGSEONG[offset / JONGSEONG_COUNT % JUNGSEONG_COUNT]);
+            char jongseong = JONGSEONG[offset % JONGSEONG_COUNT];
+            if (jongseong != 0) {
+                jamo.append(jongseong);
+            }
+        }
+        return jamo.toString();
+    }
+
+    public static String choseong(String text) {
+        StringBuilder initials = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (Character.isWhitespace(c)) {
+                continue;
+            }
+            if (isSyllable(c)) {
+                initials.append(CHOSEONG[(c - SYLLABLE_BEGIN) / (JUNGSEONG_COUNT * JONGSEONG_COUNT)]);
+            }
+            else {
+                initials.append(Character.toLowerCase(c));
+            }
+        }
+        return initials.toString();
+    }
+
+    /**
+     * 초성만으로 된 검색어인지 -> "ㅂㄹㅈ"
+     */
+    public static boolean isChoseong(String text) {
+        boolean found = false;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (Character.isWhitespace(c)) {
+                continue;
+            }
+            if (c < 'ㄱ' || c > 'ㅎ') {
+                return false;
+            }
+            found = true;
+        }
+        return found;
+    }
+
+    public static boolean isSyllable(char c) {
+        return c >= SYLLABLE_BEGIN && c <= SYLLABLE_END;
+    }
+
+    /**
+     * 검색어에 넣어볼 글자 -> 호환용 자모 전체, 영문 소문자, 숫자
+     */
+    public static String alphabet() {
+        StringBuilder alphabet = new StringBuilder();
+        for (char c = 'ㄱ'; c <= 'ㅣ'; c++) {
+            alphabet.append(c);
+        }
+        for (char c = 'a'; c <= 'z'; c++) {
+            alphabet.append(c);
+        }
+        for (char c = '0'; c <= '9'; c++) {
+            alphabet.append(c);
+        }
+        return alphabet.toString();
+    }
+}
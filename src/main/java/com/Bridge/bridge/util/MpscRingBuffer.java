@@ -0,0 +1,81 @@
+package com.Bridge.bridge.util;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * 락 없는 고정 크기 링 버퍼 (여러 생산자, 하나의 소비자)
+ * - 생산자는 tail 을 CAS 로 선점한 뒤 해당 칸에 값을 기록
+ * - 소비자는 head 칸에 값이 기록될 때까지 기다렸다가 꺼냄 -> 선점 순서대로 소비
+ * 용량은 2의 거듭제곱으로 올림
+ */
+public class MpscRingBuffer<E> {
+
+    private final AtomicReferenceArray<E> buffer;
+
+    private final int mask;
+
+    // 다음에 생산자가 선점할 위치
+    private final AtomicLong tail = new AtomicLong();
+
+    // 다음에 소비자가 꺼낼 위치 -> 소비자 스레드만 변경
+    private volatile long head;
+
+    public MpscRingBuffer(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("capacity must be positive");
+        }
+        int size = Integer.highestOneBit(capacity);
+        if (size < capacity) {
+            size <<= 1;
+        }
+        this.buffer = new AtomicReferenceArray<>(size);
+        this.mask = size - 1;
+    }
+
+    /**
+     * 값 추가 -> 가득 찬 경우 false
+     */
+    public boolean offer(E element) {
+        if (element == null) {
+            throw new NullPointerException();
+        }
+        while (true) {
+            long current = tail.get();
+            if (current - head >= buffer.length()) {
+                return false;
+            }
+            if (tail.compareAndSet(current, current + 1)) {
+                buffer.lazySet((int) current & mask, element);
+                return true;
+            }
+        }
+    }
+
+    /**
+     * 값 꺼내기 (소비자 스레드 전용) -> 비어 있거나 다음 값이 아직 기록 중이면 null
+     */
+    public E poll() {
+        long current = head;
+        int index = (int) current & mask;
+        E element = buffer.get(index);
+        if (element == null) {
+            return null;
+        }
+        buffer.lazySet(index, null);
+        head = current + 1;
+        return element;
+    }
+
+    public boolean isEmpty() {
+        return tail.get() == head;
+    }
+
+    public int size() {
+        return (int) (tail.get() - head);
+    }
+
+    public int capacity() {
+        return buffer.length();
+    }
+}
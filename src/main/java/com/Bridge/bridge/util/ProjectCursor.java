@@ -0,0 +1,90 @@
+package com.Bridge.bridge.util;
+
+import com.Bridge.bridge.domain.Project;
+import com.Bridge.bridge.exception.badrequest.InvalidCursorException;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 프로젝트 목록 페이징 커서 -> (uploadTime, project_id)
+ * 작성시간이 없는 모집글은 작성시간 없이 ID 만 전달 (작성시간 없는 글이 가장 먼저 정렬됨)
+ * 검색 결과는 검색 결과 스냅샷의 순위로 전달 -> (snapshotId, offset), 점수는 색인이 바뀌면 달라지므로 커서로 쓰지 않음
+ * 클라이언트에는 Base64 로 인코딩된 불투명 문자열로 전달
+ */
+@Getter
+public class ProjectCursor {
+
+    private static final char SEPARATOR = '_';
+
+    private static final String NULL_TIME = "null";
+
+    private static final String RANK_PREFIX = "rank:";
+
+    private final LocalDateTime uploadTime;
+
+    private final Long projectId;
+
+    private final Long snapshotId;
+
+    private final Integer offset;
+
+    private ProjectCursor(LocalDateTime uploadTime, Long projectId) {
+        this.uploadTime = uploadTime;
+        this.projectId = projectId;
+        this.snapshotId = null;
+        this.offset = null;
+    }
+
+    private ProjectCursor(long snapshotId, int offset) {
+        this.uploadTime = null;
+        this.projectId = null;
+        this.snapshotId = snapshotId;
+        this.offset = offset;
+    }
+
+    public static String encode(Project project) {
+        String uploadTime = project.getUploadTime() == null ? NULL_TIME : project.getUploadTime().toString();
+        return toBase64(uploadTime + SEPARATOR + project.getId());
+    }
+
+    public static String encodeRank(long snapshotId, int offset) {
+        return toBase64(RANK_PREFIX + snapshotId + SEPARATOR + offset);
+    }
+
+    /**
+     * 검색 결과 순위 커서 여부
+     */
+    public boolean isRank() {
+        return offset != null;
+    }
+
+    public static ProjectCursor decode(String cursor) {
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = decoded.lastIndexOf(SEPARATOR);
+
+            if (decoded.startsWith(RANK_PREFIX)) {
+                int offset = Integer.parseInt(decoded.substring(separator + 1));
+                if (offset < 0) {
+                    throw new InvalidCursorException();
+                }
+                return new ProjectCursor(Long.parseLong(decoded.substring(RANK_PREFIX.length(), separator)), offset);
+            }
+
+            Long projectId = Long.parseLong(decoded.substring(separator + 1));
+            String uploadTime = decoded.substring(0, separator);
+            return new ProjectCursor(NULL_TIME.equals(uploadTime) ? null : LocalDateTime.parse(uploadTime), projectId);
+        }
+        catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+            throw new InvalidCursorException();
+        }
+    }
+
+    private static String toBase64(String cursor) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(cursor.getBytes(StandardCharsets.UTF_8));
+    }
+}
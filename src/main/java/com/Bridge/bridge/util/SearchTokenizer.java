@@ -0,0 +1,71 @@
+package com.Bridge.bridge.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 검색어 / 모집글 토큰 분리
+ * - 한글 : 띄어쓰기 없이 붙여 쓰는 경우가 많아서 두 글자씩 겹쳐 자름 (bigram) -> "어플개발" = 어플, 플개, 개발
+ *          한 글자 단어는 그대로
+ * - 영문, 숫자 : 단어 단위, 소문자로 통일
+ * - 그 외 문자 (공백, 특수문자) 는 구분자
+ * 검색할 때 영문, 숫자 단어와 한글 한 글자는 접두어로 찾음 (isPrefixToken)
+ * -> "java" = javascript, "앱" = 앱개 (앱개발)
+ */
+public class SearchTokenizer {
+
+    private SearchTokenizer() {
+    }
+
+    public static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null || text.isEmpty()) {
+            return tokens;
+        }
+
+        int start = -1;
+        boolean hangulRun = false;
+        for (int i = 0; i <= text.length(); i++) {
+            char c = i < text.length() ? text.charAt(i) : ' ';
+            boolean hangul = isHangul(c);
+            boolean word = hangul || Character.isLetterOrDigit(c);
+
+            // 종류가 바뀌거나 구분자를 만나면 지금까지 모은 구간을 토큰으로
+            if (start >= 0 && (!word || hangul != hangulRun)) {
+                addTokens(tokens, text.substring(start, i), hangulRun);
+                start = -1;
+            }
+            if (word && start < 0) {
+                start = i;
+                hangulRun = hangul;
+            }
+        }
+        return tokens;
+    }
+
+    /**
+     * 접두어로 찾는 검색어 토큰인지 -> 영문, 숫자 단어와 한글 한 글자 (한글 두 글자는 bigram 그대로 일치)
+     */
+    public static boolean isPrefixToken(String token) {
+        return !token.isEmpty() && (token.length() == 1 || !isHangul(token.charAt(0)));
+    }
+
+    public static boolean isHangul(char c) {
+        return (c >= '가' && c <= '힣') || (c >= 'ㄱ' && c <= 'ㆎ');
+    }
+
+    private static void addTokens(List<String> tokens, String run, boolean hangul) {
+        if (!hangul) {
+            tokens.add(run.toLowerCase(Locale.ROOT));
+            return;
+        }
+        if (run.length() == 1) {
+            tokens.add(run);
+            return;
+        }
+        for (int i = 0; i + 1 < run.length(); i++) {
+            tokens.add(run.substring(i, i + 2));
+        }
+    }
+}
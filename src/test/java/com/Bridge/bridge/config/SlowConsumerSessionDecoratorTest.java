@@ -0,0 +1,144 @@
+package com.Bridge.bridge.config;
+
+import com.Bridge.bridge.config.SlowConsumerSessionDecorator.OverflowPolicy;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.SessionLimitExceededException;
+
+import java.io.IOException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+class SlowConsumerSessionDecoratorTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    // 첫 전송을 막아서 이후 프레임이 버퍼에 쌓이게 함
+    private final CountDownLatch sending = new CountDownLatch(1);
+
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    private Thread sender;
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        release.countDown();
+        sender.join(TimeUnit.SECONDS.toMillis(5));
+    }
+
+    private SlowConsumerSessionDecorator createSession(int bufferSizeLimit, OverflowPolicy policy) throws Exception {
+        WebSocketSession delegate = mock(WebSocketSession.class);
+        doAnswer(invocation -> {
+            sending.countDown();
+            release.await();
+            return null;
+        }).when(delegate).sendMessage(any());
+
+        SlowConsumerSessionDecorator session =
+                new SlowConsumerSessionDecorator(delegate, 60000, bufferSizeLimit, policy, meterRegistry);
+
+        sender = new Thread(() -> {
+            try {
+                session.sendMessage(new TextMessage("CONNECTED\n\n"));
+            } catch (IOException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        sender.start();
+        assertTrue(sending.await(5, TimeUnit.SECONDS));
+        return session;
+    }
+
+    private TextMessage frame(String type, long senderId) {
+        return frame(type, senderId, "{\"messageId\":\"a\",\"chatRoomId\":\"1\",\"seq\":3,\"type\":\"" + type
+                + "\",\"senderId\":" + senderId + "}");
+    }
+
+    private TextMessage frame(String type, long senderId, String body) {
+        return new TextMessage("MESSAGE\ndestination:/sub/chat/room/1\nchat-type:" + type + "\nchat-sender:" + senderId
+                + "\nsubscription:0\n\n" + body);
+    }
+
+    @Test
+    @DisplayName("COALESCE_READ - 같은 사람의 읽음 이벤트는 마지막 것만 버퍼에 남김")
+    void coalesceRead() throws Exception {
+        //given
+        SlowConsumerSessionDecorator session = createSession(100000, OverflowPolicy.COALESCE_READ);
+        TextMessage read = frame("READ", 2L);
+
+        //when
+        for (int i = 0; i < 10; i++) {
+            session.sendMessage(frame("READ", 2L));
+        }
+        session.sendMessage(frame("READ", 3L));
+        session.sendMessage(frame("TALK", 2L));
+
+        //then
+        assertEquals(read.getPayloadLength() * 2 + frame("TALK", 2L).getPayloadLength(), session.getBufferSize());
+        assertEquals(9, meterRegistry.get("chat.websocket.session.dropped").tag("reason", "coalesced").counter().count());
+    }
+
+    @Test
+    @DisplayName("COALESCE_READ - 본문이 아닌 STOMP 헤더로 읽음 이벤트 구분")
+    void coalesceReadByHeader() throws Exception {
+        //given
+        SlowConsumerSessionDecorator session = createSession(100000, OverflowPolicy.COALESCE_READ);
+        TextMessage talk = frame("TALK", 2L, "{\"type\":\"READ\",\"senderId\":2}");
+        TextMessage read = frame("READ", 3L, "{}");
+
+        //when
+        session.sendMessage(talk);
+        session.sendMessage(talk);
+        session.sendMessage(read);
+        session.sendMessage(read);
+
+        //then
+        assertEquals(talk.getPayloadLength() * 2 + read.getPayloadLength(), session.getBufferSize());
+        assertEquals(1, meterRegistry.get("chat.websocket.session.dropped").tag("reason", "coalesced").counter().count());
+    }
+
+    @Test
+    @DisplayName("DISCONNECT - 버퍼 한도 초과 시 연결 종료")
+    void disconnect() throws Exception {
+        //given
+        TextMessage talk = frame("TALK", 2L);
+        SlowConsumerSessionDecorator session = createSession(talk.getPayloadLength() * 2, OverflowPolicy.DISCONNECT);
+        session.sendMessage(talk);
+        session.sendMessage(talk);
+
+        //expected
+        assertThrows(SessionLimitExceededException.class, () -> session.sendMessage(talk));
+        assertEquals(0, session.getBufferSize());
+        assertEquals(1, meterRegistry.get("chat.websocket.session.evicted").tag("reason", "buffer-size").counter().count());
+
+        // 종료 처리 중인 세션은 더 이상 버퍼에 쌓지 않음
+        session.sendMessage(talk);
+        assertEquals(0, session.getBufferSize());
+    }
+
+    @Test
+    @DisplayName("DROP_OLDEST - 버퍼 한도 초과 시 오래된 메세지부터 버림")
+    void dropOldest() throws Exception {
+        //given
+        TextMessage talk = frame("TALK", 2L);
+        SlowConsumerSessionDecorator session = createSession(talk.getPayloadLength() * 2, OverflowPolicy.DROP_OLDEST);
+
+        //when
+        for (int i = 0; i < 5; i++) {
+            session.sendMessage(talk);
+        }
+
+        //then
+        assertEquals(talk.getPayloadLength() * 2, session.getBufferSize());
+        assertEquals(3, meterRegistry.get("chat.websocket.session.dropped").tag("reason", "oldest").counter().count());
+    }
+}
@@ -0,0 +1,121 @@
+package com.Bridge.bridge.config.kafka;
+
+import com.Bridge.bridge.dto.request.ChatMessageRequest;
+import org.apache.kafka.common.errors.SerializationException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.kafka.support.serializer.JsonSerializer;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ChatMessageCodecTest {
+
+    private final ChatMessageSerializer serializer = new ChatMessageSerializer();
+
+    private final ChatMessageDeserializer deserializer = new ChatMessageDeserializer();
+
+    private ChatMessageRequest createMessage() {
+        return ChatMessageRequest.builder()
+                .messageId("a5c1f3a4-33a4-4f2e-9d55-1b3c0e3f9e01")
+                .chatRoomId("0f8fad5b-d9cb-469f-a165-70867728950e")
+                .seq(42L)
+                .type(ChatMessageRequest.MessageType.TALK)
+                .senderId(300L)
+                .message("안녕하세요 bridge")
+                .readStat(true)
+                .sendTime(LocalDateTime.of(2023, 9, 1, 12, 30, 15))
+                .build();
+    }
+
+    @Test
+    @DisplayName("바이너리 직렬화 후 역직렬화")
+    void roundTrip() {
+        //given
+        ChatMessageRequest message = createMessage();
+
+        //when
+        byte[] data = serializer.serialize("chat", message);
+        ChatMessageRequest result = deserializer.deserialize("chat", data);
+
+        //then
+        assertEquals(message, result);
+    }
+
+    @Test
+    @DisplayName("바이너리 직렬화 - 값이 없는 필드")
+    void roundTripEmptyField() {
+        //given
+        ChatMessageRequest message = ChatMessageRequest.builder()
+                .chatRoomId("1")
+                .type(ChatMessageRequest.MessageType.READ)
+                .build();
+
+        //when
+        ChatMessageRequest result = deserializer.deserialize("chat", serializer.serialize("chat", message));
+
+        //then
+        assertEquals(message, result);
+        assertNull(result.getSenderId());
+        assertNull(result.getSendTime());
+    }
+
+    @Test
+    @DisplayName("바이너리 역직렬화 - 모르는 필드는 건너뜀")
+    void skipUnknownField() {
+        //given
+        byte[] data = serializer.serialize("chat", createMessage());
+        byte[] extended = Arrays.copyOf(data, data.length + 4);
+        extended[data.length] = 99;         // 새 TAG
+        extended[data.length + 1] = 2;      // LENGTH
+        extended[data.length + 2] = 1;
+        extended[data.length + 3] = 2;
+
+        //when
+        ChatMessageRequest result = deserializer.deserialize("chat", extended);
+
+        //then
+        assertEquals(createMessage(), result);
+    }
+
+    @Test
+    @DisplayName("바이너리 역직렬화 - 지원하지 않는 버전")
+    void unsupportedVersion() {
+        //given
+        byte[] data = serializer.serialize("chat", createMessage());
+        data[1] = (byte) (ChatMessageCodec.VERSION + 1);
+
+        //expected
+        assertThrows(SerializationException.class, () -> deserializer.deserialize("chat", data));
+    }
+
+    @Test
+    @DisplayName("JSON 으로 보낸 메세지도 역직렬화")
+    void deserializeJson() {
+        //given
+        ChatMessageRequest message = createMessage();
+        byte[] json = new JsonSerializer<ChatMessageRequest>().serialize("chat", message);
+
+        //when
+        ChatMessageRequest result = deserializer.deserialize("chat", json);
+
+        //then
+        assertEquals(message, result);
+    }
+
+    @Test
+    @DisplayName("바이너리 포맷이 JSON 보다 작음")
+    void smallerThanJson() {
+        //given
+        ChatMessageRequest message = createMessage();
+
+        //when
+        byte[] json = new JsonSerializer<ChatMessageRequest>().serialize("chat", message);
+        byte[] binary = serializer.serialize("chat", message);
+
+        //then
+        assertTrue(binary.length < json.length);
+    }
+}
@@ -139,12 +139,14 @@ class ChatControllerTest {
                 .content("content1")
                 .writerId(user1.getId())
                 .sendDateTime(LocalDateTime.now().withNano(0))
+                .chat(room1)
                 .build();
 
         Message message2 = Message.builder()
                 .content("content2")
                 .writerId(user2.getId())
                 .sendDateTime(LocalDateTime.now().withNano(0))
+                .chat(room1)
                 .build();
 
         room1.getMessages().add(message1);
@@ -162,6 +164,56 @@ class ChatControllerTest {
                 .andDo(print());
     }
 
+    @Test
+    @DisplayName("채팅방 기록 조회 - 커서 페이징")
+    @Transactional
+    void getChatHistory() throws Exception {
+        //given
+        User user1 = new User("bridge", Platform.APPLE, "11");
+        User user2 = new User("bridge2", Platform.APPLE, "12");
+
+        User saveUser1 = userRepository.save(user1);
+        User saveUser2 = userRepository.save(user2);
+
+        Chat room1 = Chat.builder()
+                .chatRoomId("1")
+                .build();
+
+        room1.setChatUser(saveUser1, saveUser2);
+
+        Message message1 = Message.builder()
+                .content("content1")
+                .writerId(user1.getId())
+                .sendDateTime(LocalDateTime.now().withNano(0))
+                .chat(room1)
+                .build();
+
+        Message message2 = Message.builder()
+                .content("content2")
+                .writerId(user2.getId())
+                .sendDateTime(LocalDateTime.now().withNano(0))
+                .chat(room1)
+                .build();
+
+        room1.getMessages().add(message1);
+        room1.getMessages().add(message2);
+
+        chatRepository.save(room1);
+
+        String accessToken = provider.createAccessToken(saveUser1.getId());
+
+        //expected
+        mockMvc.perform(get("/chat/history")
+                        .header("Authorization", "Bearer " + accessToken)
+                        .param("chatRoomId", "1")
+                        .param("size", "1")
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.chatHistory[0].content").value("content2"))
+                .andExpect(jsonPath("$.hasNext").value(true))
+                .andDo(print());
+    }
+
     @Test
     @DisplayName("채팅방 삭제")
     void delete() throws Exception {
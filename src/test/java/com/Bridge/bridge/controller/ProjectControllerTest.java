@@ -368,7 +368,7 @@ class ProjectControllerTest {
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(body))
                 .andExpect(content().contentType(MediaType.APPLICATION_JSON))
-                .andExpect(jsonPath("$[0].title").value("This is what i find"))
+                .andExpect(jsonPath("$.projects[0].title").value("This is what i find"))
                 .andDo(print());
 
     }
@@ -574,7 +574,7 @@ class ProjectControllerTest {
         newProject3.getBookmarks().add(bookmark1);
 
         // when
-        String expectByTitle = "$.[?(@.title == '%s')]";
+        String expectByTitle = "$.projects[?(@.title == '%s')]";
 
         mockMvc.perform(get("/projects/all")
 //                        .param("userId", "")
@@ -705,7 +705,7 @@ class ProjectControllerTest {
                 .compact();
 
         // when
-        String expectByTitle = "$.[?(@.title == '%s')]";
+        String expectByTitle = "$.projects[?(@.title == '%s')]";
         JSONObject body = new JSONObject();
         body.appendField("part", "BACKEND");
 
@@ -716,8 +716,8 @@ class ProjectControllerTest {
                 .andExpect(content().contentType(MediaType.APPLICATION_JSON))
                 .andExpect(jsonPath(expectByTitle, "Find AllProject1").exists())
                 .andExpect(jsonPath(expectByTitle, "Find AllProject3").exists())
-                .andExpect(jsonPath("$[0].scrap").value(false))
-                .andExpect(jsonPath("$[1].scrap").value(true))
+                .andExpect(jsonPath("$.projects[0].scrap").value(false))
+                .andExpect(jsonPath("$.projects[1].scrap").value(true))
                 .andDo(print());
 
     }
@@ -0,0 +1,135 @@
+package com.Bridge.bridge.security;
+
+import com.Bridge.bridge.exception.unauthorized.InvalidBearerException;
+import com.Bridge.bridge.service.ChatPresenceService;
+import com.Bridge.bridge.service.ChatRoomTaskExecutor;
+import com.Bridge.bridge.service.ChatService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageDeliveryException;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class ChannelInBoundInterceptorTest {
+
+    private final ChatService chatService = mock(ChatService.class);
+
+    private final ChatPresenceService chatPresenceService = mock(ChatPresenceService.class);
+
+    private final ChatRoomTaskExecutor chatRoomTaskExecutor = mock(ChatRoomTaskExecutor.class);
+
+    private final JwtTokenProvider jwtTokenProvider = mock(JwtTokenProvider.class);
+
+    private final MessageChannel channel = mock(MessageChannel.class);
+
+    private final ChannelInBoundInterceptor interceptor = new ChannelInBoundInterceptor(chatService,
+            chatPresenceService, chatRoomTaskExecutor, jwtTokenProvider);
+
+    private static final String CHAT_ROOM_ID = "123e4567-e89b-12d3-a456-426614174000";
+
+    private Message<byte[]> createMessage(StompHeaderAccessor accessor) {
+        accessor.setSessionId("session");
+        accessor.setLeaveMutable(true);
+        return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+    }
+
+    private StompHeaderAccessor subscribeAlarm(Long principalUserId, Long pathUserId) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.SUBSCRIBE);
+        accessor.setSubscriptionId("sub-1");
+        accessor.setDestination("/sub/user/" + pathUserId + "/alarms");
+        if (principalUserId != null) {
+            accessor.setUser(new StompPrincipal(principalUserId));
+        }
+        return accessor;
+    }
+
+    private StompHeaderAccessor subscribeChat(Long principalUserId, String bodyUserId) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.SUBSCRIBE);
+        accessor.setSubscriptionId("sub-1");
+        accessor.setDestination("/sub/chat/room/" + CHAT_ROOM_ID);
+        accessor.setNativeHeader("message", CHAT_ROOM_ID + "_" + bodyUserId);
+        accessor.setUser(new StompPrincipal(principalUserId));
+        return accessor;
+    }
+
+    @Test
+    @DisplayName("CONNECT - 엑세스 토큰의 유저를 세션 유저로 설정")
+    void connect() {
+        //given
+        when(jwtTokenProvider.getUserIdFromHeader("Bearer token")).thenReturn(1L);
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.CONNECT);
+        accessor.addNativeHeader("Authorization", "Bearer token");
+
+        //when
+        interceptor.preSend(createMessage(accessor), channel);
+
+        //then
+        assertEquals(1L, ((StompPrincipal) accessor.getUser()).getUserId());
+    }
+
+    @Test
+    @DisplayName("CONNECT - 토큰이 없거나 잘못되면 연결 거절")
+    void connectWithoutToken() {
+        //given
+        when(jwtTokenProvider.getUserIdFromHeader(null)).thenThrow(new InvalidBearerException());
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.CONNECT);
+
+        //expected
+        assertThrows(MessageDeliveryException.class, () -> interceptor.preSend(createMessage(accessor), channel));
+        assertNull(accessor.getUser());
+    }
+
+    @Test
+    @DisplayName("알림 구독 - 본인 알림만 구독 가능")
+    void subscribeAlarm() {
+        //given
+        Message<byte[]> own = createMessage(subscribeAlarm(1L, 1L));
+        Message<byte[]> other = createMessage(subscribeAlarm(1L, 2L));
+        Message<byte[]> anonymous = createMessage(subscribeAlarm(null, 2L));
+
+        //when
+        interceptor.preSend(own, channel);
+
+        //then
+        verify(chatPresenceService).enterAlarm("session", "sub-1", 1L);
+        assertThrows(MessageDeliveryException.class, () -> interceptor.preSend(other, channel));
+        assertThrows(MessageDeliveryException.class, () -> interceptor.preSend(anonymous, channel));
+        verify(chatPresenceService, times(1)).enterAlarm(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("채팅방 구독 - 메세지의 유저 ID 가 아닌 세션 유저로 입장")
+    void subscribeChat() {
+        //given
+        when(chatService.isParticipant(CHAT_ROOM_ID, 1L)).thenReturn(true);
+        Message<byte[]> message = createMessage(subscribeChat(1L, "2"));
+
+        //when
+        interceptor.preSend(message, channel);
+
+        //then
+        verify(chatPresenceService).enter("session", "sub-1", CHAT_ROOM_ID, 1L);
+        verify(chatRoomTaskExecutor).execute(eq(CHAT_ROOM_ID), any());
+    }
+
+    @Test
+    @DisplayName("채팅방 구독 - 참여하지 않은 채팅방은 입장, 읽음 처리 없이 거절")
+    void subscribeChatNotParticipant() {
+        //given
+        when(chatService.isParticipant(CHAT_ROOM_ID, 3L)).thenReturn(false);
+        Message<byte[]> message = createMessage(subscribeChat(3L, "1"));
+
+        //expected
+        assertThrows(MessageDeliveryException.class, () -> interceptor.preSend(message, channel));
+        verify(chatPresenceService, never()).enter(any(), any(), any(), any());
+        verifyNoInteractions(chatRoomTaskExecutor);
+    }
+}
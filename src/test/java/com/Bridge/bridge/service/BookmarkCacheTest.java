@@ -0,0 +1,130 @@
+package com.Bridge.bridge.service;
+
+import com.Bridge.bridge.config.kafka.ChatNode;
+import com.Bridge.bridge.dto.request.BookmarkEvictEvent;
+import com.Bridge.bridge.repository.BookmarkRepository;
+import com.Bridge.bridge.service.BookmarkCache.BookmarkSet;
+import com.Bridge.bridge.util.Constant;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.kafka.core.KafkaTemplate;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class BookmarkCacheTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private final BookmarkRepository bookmarkRepository = mock(BookmarkRepository.class);
+
+    @SuppressWarnings("unchecked")
+    private final KafkaTemplate<String, BookmarkEvictEvent> bookmarkEvictKafkaTemplate = mock(KafkaTemplate.class);
+
+    private final ChatNode chatNode = new ChatNode("node-1");
+
+    private BookmarkCache createCache() {
+        return new BookmarkCache(bookmarkRepository, meterRegistry, bookmarkEvictKafkaTemplate, chatNode, true, 100, 60000);
+    }
+
+    private BookmarkEvictEvent createEvent(String nodeId) {
+        return BookmarkEvictEvent.builder()
+                .nodeId(nodeId)
+                .userId(1L)
+                .build();
+    }
+
+    @Test
+    @DisplayName("스크랩한 프로젝트는 한 번만 조회하고 이후 요청은 캐시에서 확인")
+    void loadOnce() {
+        //given
+        BookmarkCache bookmarkCache = createCache();
+        when(bookmarkRepository.findProjectIdsByUserId(1L)).thenReturn(Arrays.asList(30L, 10L, 20L));
+
+        //when
+        BookmarkSet first = bookmarkCache.get(1L);
+        BookmarkSet second = bookmarkCache.get(1L);
+
+        //then
+        assertTrue(second.contains(10L));
+        assertTrue(second.contains(30L));
+        assertFalse(second.contains(15L));
+        assertSame(first, second);
+        verify(bookmarkRepository, times(1)).findProjectIdsByUserId(1L);
+    }
+
+    @Test
+    @DisplayName("스크랩 변경 시 캐시 삭제 -> 다음 요청에서 다시 조회")
+    void evict() {
+        //given
+        BookmarkCache bookmarkCache = createCache();
+        when(bookmarkRepository.findProjectIdsByUserId(1L))
+                .thenReturn(Collections.emptyList())
+                .thenReturn(Collections.singletonList(10L));
+        assertFalse(bookmarkCache.get(1L).contains(10L));
+
+        //when
+        bookmarkCache.evict(1L);
+
+        //then
+        assertTrue(bookmarkCache.get(1L).contains(10L));
+        verify(bookmarkRepository, times(2)).findProjectIdsByUserId(1L);
+    }
+
+    @Test
+    @DisplayName("로그인하지 않은 유저는 조회하지 않고 빈 목록")
+    void anonymous() {
+        //given
+        BookmarkCache bookmarkCache = createCache();
+
+        //when
+        BookmarkSet bookmarks = bookmarkCache.get(null);
+
+        //then
+        assertEquals(0, bookmarks.size());
+        verifyNoInteractions(bookmarkRepository);
+    }
+
+    @Test
+    @DisplayName("스크랩 변경 -> 다른 노드에 캐시 삭제 전달")
+    void publishEvict() {
+        //given
+        BookmarkCache bookmarkCache = createCache();
+
+        //when
+        bookmarkCache.evict(1L);
+
+        //then
+        ArgumentCaptor<BookmarkEvictEvent> event = ArgumentCaptor.forClass(BookmarkEvictEvent.class);
+        verify(bookmarkEvictKafkaTemplate).send(eq(Constant.BOOKMARK_EVICT_TOPIC), eq("1"), event.capture());
+        assertEquals("node-1", event.getValue().getNodeId());
+        assertEquals(1L, event.getValue().getUserId());
+    }
+
+    @Test
+    @DisplayName("다른 노드의 캐시 삭제 이벤트 -> 캐시 삭제, 자기가 보낸 이벤트는 무시")
+    void receiveEvict() {
+        //given
+        BookmarkCache bookmarkCache = createCache();
+        when(bookmarkRepository.findProjectIdsByUserId(1L))
+                .thenReturn(Collections.emptyList())
+                .thenReturn(Collections.singletonList(10L));
+        bookmarkCache.get(1L);
+
+        //when
+        bookmarkCache.receive(createEvent("node-1"));
+        boolean beforeRemote = bookmarkCache.get(1L).contains(10L);
+        bookmarkCache.receive(createEvent("node-2"));
+
+        //then
+        assertFalse(beforeRemote);
+        assertTrue(bookmarkCache.get(1L).contains(10L));
+        verify(bookmarkRepository, times(2)).findProjectIdsByUserId(1L);
+    }
+}
@@ -0,0 +1,129 @@
+package com.Bridge.bridge.service;
+
+import com.Bridge.bridge.dto.request.ChatAlarmRequest;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class ChatAlarmDispatcherTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private final AlarmService alarmService = mock(AlarmService.class);
+
+    private final ChatPresenceService chatPresenceService = mock(ChatPresenceService.class);
+
+    private ChatAlarmDispatcher dispatcher;
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        dispatcher.stop();
+    }
+
+    private ChatAlarmRequest createRequest() {
+        return createRequest(2L, "안녕하세요");
+    }
+
+    private ChatAlarmRequest createRequest(Long receiverId, String message) {
+        return createRequest("room", receiverId, message);
+    }
+
+    private ChatAlarmRequest createRequest(String chatRoomId, Long receiverId, String message) {
+        return ChatAlarmRequest.builder()
+                .chatRoomId(chatRoomId)
+                .senderId(1L)
+                .receiverId(receiverId)
+                .message(message)
+                .build();
+    }
+
+    private void awaitCompleted(long count) throws InterruptedException {
+        for (int i = 0; i < 500 && dispatcher.getPending() > 0; i++) {
+            Thread.sleep(10);
+        }
+        assertEquals(0, dispatcher.getPending());
+        assertEquals(count, meterRegistry.get("chat.push.latency").timers().stream().mapToLong(t -> t.count()).sum());
+    }
+
+    @Test
+    @DisplayName("받는 사람별로 묶어서 마지막 메세지와 개수로 한번만 발송")
+    void coalescePerReceiver() throws Exception {
+        //given
+        dispatcher = new ChatAlarmDispatcher(alarmService, chatPresenceService, meterRegistry, 1, 100, 200);
+        List<ChatAlarmRequest> sent = Collections.synchronizedList(new ArrayList<>());
+        doAnswer(invocation -> sent.add(invocation.getArgument(0)))
+                .when(alarmService).getChatAlarm(any());
+
+        //when
+        for (int i = 1; i <= 10; i++) {
+            dispatcher.dispatch(createRequest(2L, "메세지" + i));
+        }
+        dispatcher.dispatch(createRequest(3L, "다른 사람"));
+
+        //then
+        awaitCompleted(2);
+        assertEquals(2, sent.size());
+        ChatAlarmRequest coalesced = sent.stream().filter(r -> r.getReceiverId() == 2L).findFirst().get();
+        assertEquals("메세지10", coalesced.getMessage());
+        assertEquals(10, coalesced.getCount());
+        assertEquals(9, meterRegistry.get("chat.push.coalesced").counter().count());
+    }
+
+    @Test
+    @DisplayName("같은 사람이라도 채팅방이 다르면 따로 발송")
+    void coalescePerChatRoom() throws Exception {
+        //given
+        dispatcher = new ChatAlarmDispatcher(alarmService, chatPresenceService, meterRegistry, 1, 100, 200);
+        List<ChatAlarmRequest> sent = Collections.synchronizedList(new ArrayList<>());
+        doAnswer(invocation -> sent.add(invocation.getArgument(0)))
+                .when(alarmService).getChatAlarm(any());
+
+        //when
+        dispatcher.dispatch(createRequest("room1", 2L, "첫번째 방1"));
+        dispatcher.dispatch(createRequest("room2", 2L, "두번째 방"));
+        dispatcher.dispatch(createRequest("room1", 2L, "첫번째 방2"));
+
+        //then
+        awaitCompleted(2);
+        assertEquals(2, sent.size());
+        ChatAlarmRequest room1 = sent.stream().filter(r -> r.getChatRoomId().equals("room1")).findFirst().get();
+        ChatAlarmRequest room2 = sent.stream().filter(r -> r.getChatRoomId().equals("room2")).findFirst().get();
+        assertEquals("첫번째 방2", room1.getMessage());
+        assertEquals(2, room1.getCount());
+        assertEquals("두번째 방", room2.getMessage());
+        assertEquals(1, room2.getCount());
+    }
+
+    @Test
+    @DisplayName("대기 중인 알림이 가득 차면 버림 -> 보내는 쪽은 기다리지 않음")
+    void rejectWhenFull() throws Exception {
+        //given
+        dispatcher = new ChatAlarmDispatcher(alarmService, chatPresenceService, meterRegistry, 1, 1, 0);
+        CountDownLatch release = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            release.await();
+            return null;
+        }).when(alarmService).getChatAlarm(any());
+        dispatcher.dispatch(createRequest());
+
+        //when
+        dispatcher.dispatch(createRequest(3L, "다른 사람"));
+
+        //then
+        assertEquals(1, meterRegistry.get("chat.push.rejected").counter().count());
+        release.countDown();
+        awaitCompleted(1);
+        verify(alarmService, times(1)).getChatAlarm(any());
+    }
+}
@@ -0,0 +1,125 @@
+package com.Bridge.bridge.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ChatRoomTaskExecutorTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private ChatRoomTaskExecutor executor;
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        executor.stop();
+    }
+
+    @Test
+    @DisplayName("같은 채팅방 작업은 등록 순서대로 하나씩 실행")
+    void serializePerRoom() throws InterruptedException {
+        //given
+        executor = new ChatRoomTaskExecutor(meterRegistry, 4, 10000);
+        int taskCount = 1000;
+        List<Integer> result = Collections.synchronizedList(new ArrayList<>());
+        CountDownLatch done = new CountDownLatch(taskCount);
+
+        //when
+        for (int i = 0; i < taskCount; i++) {
+            int order = i;
+            executor.execute("room", () -> {
+                result.add(order);
+                done.countDown();
+            });
+        }
+
+        //then
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+        for (int i = 0; i < taskCount; i++) {
+            assertEquals(i, result.get(i));
+        }
+        // 실행 시간은 작업이 끝난 뒤 기록 -> 종료를 기다린 후 확인
+        executor.stop();
+        assertEquals(taskCount, meterRegistry.get("chat.room.task.execution").timer().count());
+    }
+
+    @Test
+    @DisplayName("다른 채팅방 작업은 막힌 채팅방과 관계없이 실행")
+    void otherRoomNotBlocked() throws InterruptedException {
+        //given
+        executor = new ChatRoomTaskExecutor(meterRegistry, 2, 10000);
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch otherDone = new CountDownLatch(1);
+        executor.execute("slow", () -> {
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+
+        //when
+        executor.execute("other", otherDone::countDown);
+
+        //then
+        assertTrue(otherDone.await(5, TimeUnit.SECONDS));
+        release.countDown();
+    }
+
+    @Test
+    @DisplayName("대기 작업이 가득 차면 거절")
+    void reject() {
+        //given
+        executor = new ChatRoomTaskExecutor(meterRegistry, 1, 2);
+        CountDownLatch release = new CountDownLatch(1);
+        Runnable blocking = () -> {
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        };
+        executor.execute("room", blocking);
+        executor.execute("room", blocking);
+
+        //expected
+        assertThrows(RejectedExecutionException.class, () -> executor.execute("room", () -> { }));
+        assertEquals(1, meterRegistry.get("chat.room.task.rejected").counter().count());
+        release.countDown();
+    }
+
+    @Test
+    @DisplayName("작업에서 Error 가 발생해도 같은 채팅방의 다음 작업 실행")
+    void continueAfterError() throws InterruptedException {
+        //given
+        executor = new ChatRoomTaskExecutor(meterRegistry, 1, 10000);
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(2);
+        executor.execute("room", () -> {
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            throw new StackOverflowError("테스트");
+        });
+        executor.execute("room", done::countDown);
+        release.countDown();
+
+        //when
+        executor.execute("room", done::countDown);
+
+        //then
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+    }
+}
@@ -0,0 +1,89 @@
+package com.Bridge.bridge.service;
+
+import com.Bridge.bridge.domain.Chat;
+import com.Bridge.bridge.repository.ChatRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class ChatSequenceGeneratorTest {
+
+    private final ChatRepository chatRepository = mock(ChatRepository.class);
+
+    private final PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+
+    private ChatSequenceGenerator createGenerator(int blockSize) {
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        return new ChatSequenceGenerator(chatRepository, transactionManager, blockSize);
+    }
+
+    private Chat createChat(Long chatId) {
+        Chat chat = mock(Chat.class);
+        when(chat.getId()).thenReturn(chatId);
+        return chat;
+    }
+
+    @Test
+    @DisplayName("순번은 블록 단위로 받아두고 메모리에서 발급")
+    void nextFromBlock() {
+        //given
+        ChatSequenceGenerator generator = createGenerator(3);
+        Chat chat = createChat(1L);
+        when(chatRepository.findLastSeq(1L)).thenReturn(3L, 6L);
+
+        //when
+        List<Long> seqs = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            seqs.add(generator.next(chat));
+        }
+
+        //then
+        assertEquals(List.of(1L, 2L, 3L, 4L), seqs);
+        verify(chatRepository, times(2)).leaseSeqBlock(1L, 3);
+    }
+
+    @Test
+    @DisplayName("다른 노드가 먼저 블록을 받은 경우 받은 블록 범위부터 발급")
+    void nextAfterOtherNode() {
+        //given
+        ChatSequenceGenerator generator = createGenerator(10);
+        Chat chat = createChat(1L);
+        when(chatRepository.findLastSeq(1L)).thenReturn(30L);
+
+        //when
+        long seq = generator.next(chat);
+
+        //then
+        assertEquals(21L, seq);
+    }
+
+    @Test
+    @DisplayName("채팅방마다 따로 발급")
+    void nextPerRoom() {
+        //given
+        ChatSequenceGenerator generator = createGenerator(10);
+        Chat room1 = createChat(1L);
+        Chat room2 = createChat(2L);
+        when(chatRepository.findLastSeq(1L)).thenReturn(10L);
+        when(chatRepository.findLastSeq(2L)).thenReturn(10L);
+
+        //when
+        generator.next(room1);
+        long seq1 = generator.next(room1);
+        long seq2 = generator.next(room2);
+
+        //then
+        assertEquals(2L, seq1);
+        assertEquals(1L, seq2);
+        verify(chatRepository, times(1)).leaseSeqBlock(1L, 10);
+        verify(chatRepository, times(1)).leaseSeqBlock(2L, 10);
+    }
+}
@@ -6,13 +6,17 @@ import com.Bridge.bridge.domain.Platform;
 import com.Bridge.bridge.domain.User;
 import com.Bridge.bridge.dto.request.ChatMessageRequest;
 import com.Bridge.bridge.dto.request.ChatRoomRequest;
+import com.Bridge.bridge.dto.response.ChatHistoryPageResponse;
 import com.Bridge.bridge.dto.response.ChatHistoryResponse;
 import com.Bridge.bridge.dto.response.ChatListResponse;
 import com.Bridge.bridge.dto.response.ChatMessageResponse;
 import com.Bridge.bridge.dto.response.ChatRoomResponse;
+import com.Bridge.bridge.dto.response.ChatRoomSyncResponse;
+import com.Bridge.bridge.dto.response.ChatSyncResponse;
+import com.Bridge.bridge.exception.badrequest.InvalidCursorException;
 import com.Bridge.bridge.repository.ChatRepository;
+import com.Bridge.bridge.repository.MessageRepository;
 import com.Bridge.bridge.repository.UserRepository;
-import com.google.firebase.messaging.FirebaseMessagingException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -21,7 +25,10 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.UUID;
 import java.util.stream.Collectors;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -39,6 +46,18 @@ class ChatServiceTest {
     @Autowired
     private ChatRepository chatRepository;
 
+    @Autowired
+    private MessageRepository messageRepository;
+
+    @Autowired
+    private MessageBatchWriter messageBatchWriter;
+
+    @Autowired
+    private ChatSeqBackfill chatSeqBackfill;
+
+    @Autowired
+    private ChatPresenceService chatPresenceService;
+
     @BeforeEach
     void clean() {
         userRepository.deleteAll();
@@ -132,6 +151,46 @@ class ChatServiceTest {
         assertEquals("bridge3", allChat.get(1).getRoomName());
     }
 
+    @Test
+    @DisplayName("채팅방 목록 조회 - 마지막 메세지, 안 읽은 메세지 수")
+    void findAllChatSummary() {
+        //given
+        User user1 = new User("bridge", Platform.APPLE, "11");
+        User user2 = new User("bridge2", Platform.APPLE, "12");
+
+        User saveUser1 = userRepository.save(user1);
+        User saveUser2 = userRepository.save(user2);
+
+        Chat room1 = Chat.builder()
+                .chatRoomId("1")
+                .build();
+
+        room1.setChatUser(saveUser1, saveUser2);
+        chatRepository.save(room1);
+
+        for (int i = 1; i <= 2; i++) {
+            ChatMessageRequest messageRequest = new ChatMessageRequest();
+            messageRequest.setChatRoomId("1");
+            messageRequest.setType(ChatMessageRequest.MessageType.TALK);
+            messageRequest.setSenderId(saveUser1.getId());
+            messageRequest.setMessage("content" + i);
+            chatService.saveMessage(messageRequest);
+        }
+        messageBatchWriter.flush();
+
+        //when
+        ChatListResponse receiverRoom = chatService.findAllChat(saveUser2.getId()).get(0);
+        chatService.readNotReadMessage("1", String.valueOf(saveUser2.getId()));
+        ChatListResponse readRoom = chatService.findAllChat(saveUser2.getId()).get(0);
+
+        //then
+        assertEquals("content2", receiverRoom.getLastMessage());
+        assertEquals("bridge", receiverRoom.getRoomName());
+        assertEquals(2, receiverRoom.getNotReadMessageCnt());
+        assertEquals(0, readRoom.getNotReadMessageCnt());
+        assertEquals("content2", readRoom.getLastMessage());
+    }
+
     @Test
     @DisplayName("채팅방 조회")
     @Transactional
@@ -153,12 +212,14 @@ class ChatServiceTest {
                 .content("content1")
                 .writerId(saveUser1.getId())
                 .sendDateTime(LocalDateTime.now().withNano(0))
+                .chat(room1)
                 .build();
 
         Message message2 = Message.builder()
                 .content("content2")
                 .writerId(saveUser2.getId())
                 .sendDateTime(LocalDateTime.now().withNano(0))
+                .chat(room1)
                 .build();
 
         room1.getMessages().add(message1);
@@ -205,9 +266,69 @@ class ChatServiceTest {
     }
 
     @Test
-    @DisplayName("채팅방 메세지 저장")
+    @DisplayName("채팅방 조회 - 커서 페이징")
     @Transactional
-    void saveMessage() throws FirebaseMessagingException {
+    void findChatHistoryPage() {
+        //given
+        User user1 = new User("bridge", Platform.APPLE, "11");
+        User user2 = new User("bridge2", Platform.APPLE, "12");
+
+        User saveUser1 = userRepository.save(user1);
+        User saveUser2 = userRepository.save(user2);
+
+        Chat room1 = Chat.builder()
+                .chatRoomId("1")
+                .build();
+
+        room1.setChatUser(saveUser1, saveUser2);
+
+        LocalDateTime sendTime = LocalDateTime.now().withNano(0);
+        for (int i = 1; i <= 5; i++) {
+            Message message = Message.builder()
+                    .content("content" + i)
+                    .writerId(saveUser1.getId())
+                    .sendDateTime(sendTime)
+                    .chat(room1)
+                    .build();
+            room1.getMessages().add(message);
+        }
+
+        chatRepository.save(room1);
+
+        //when
+        ChatHistoryPageResponse firstPage = chatService.getChatHistory("1", null, 3);
+        ChatHistoryPageResponse secondPage = chatService.getChatHistory("1", firstPage.getBefore(), 3);
+
+        //then
+        assertEquals(3, firstPage.getChatHistory().size());
+        assertEquals("content3", firstPage.getChatHistory().get(0).getContent());
+        assertEquals("content5", firstPage.getChatHistory().get(2).getContent());
+        assertTrue(firstPage.isHasNext());
+
+        assertEquals(2, secondPage.getChatHistory().size());
+        assertEquals("content1", secondPage.getChatHistory().get(0).getContent());
+        assertEquals("content2", secondPage.getChatHistory().get(1).getContent());
+        assertFalse(secondPage.isHasNext());
+        assertNull(secondPage.getBefore());
+    }
+
+    @Test
+    @DisplayName("채팅방 조회 - 잘못된 커서")
+    void findChatHistoryInvalidCursor() {
+        //given
+        Chat room1 = Chat.builder()
+                .chatRoomId("1")
+                .build();
+
+        chatRepository.save(room1);
+
+        //expected
+        assertThrows(InvalidCursorException.class, () -> chatService.getChatHistory("1", "invalid", 3));
+    }
+
+    @Test
+    @DisplayName("채팅방 메세지 저장")
+    void saveMessage() {
         //given
         Chat room1 = Chat.builder()
                 .chatRoomId("1")
@@ -223,12 +344,228 @@ class ChatServiceTest {
 
         //when
         chatService.saveMessage(messageRequest);
+        messageBatchWriter.flush();
 
         //then
-        Chat chat = chatRepository.findAll().get(0);
-        Message message = chat.getMessages().get(0);
+        Message message = messageRepository.findAll().get(0);
         assertEquals("content", message.getContent());
-        assertEquals(true, message.isReadStat());
+        assertEquals(false, message.isReadStat());
+    }
+
+    @Test
+    @DisplayName("채팅방 메세지 저장 - 재전송된 메세지는 한 번만 저장")
+    void saveMessageDuplicate() {
+        //given
+        Chat room1 = Chat.builder()
+                .chatRoomId("1")
+                .build();
+
+        chatRepository.save(room1);
+
+        String messageId = UUID.randomUUID().toString();
+
+        ChatMessageRequest messageRequest = new ChatMessageRequest();
+        messageRequest.setMessageId(messageId);
+        messageRequest.setChatRoomId("1");
+        messageRequest.setType(ChatMessageRequest.MessageType.TALK);
+        messageRequest.setSenderId(1L);
+        messageRequest.setMessage("content");
+
+        ChatMessageRequest retryRequest = new ChatMessageRequest();
+        retryRequest.setMessageId(messageId);
+        retryRequest.setChatRoomId("1");
+        retryRequest.setType(ChatMessageRequest.MessageType.TALK);
+        retryRequest.setSenderId(1L);
+        retryRequest.setMessage("content");
+
+        //when
+        ChatMessageRequest first = chatService.saveMessage(messageRequest);
+        ChatMessageRequest retry = chatService.saveMessage(retryRequest);
+        messageBatchWriter.flush();
+
+        //then
+        assertNotNull(first);
+        assertNull(retry);
+        assertEquals(1L, messageRepository.count());
+    }
+
+    @Test
+    @DisplayName("채팅방 메세지 저장 - 채팅방 내 순번 발급")
+    void saveMessageSequence() {
+        //given
+        Chat room1 = Chat.builder()
+                .chatRoomId("1")
+                .build();
+
+        chatRepository.save(room1);
+
+        //when
+        List<Long> seqs = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            ChatMessageRequest messageRequest = new ChatMessageRequest();
+            messageRequest.setChatRoomId("1");
+            messageRequest.setType(ChatMessageRequest.MessageType.TALK);
+            messageRequest.setSenderId(1L);
+            messageRequest.setMessage("content" + i);
+            seqs.add(chatService.saveMessage(messageRequest).getSeq());
+        }
+        messageBatchWriter.flush();
+
+        //then
+        assertEquals(List.of(1L, 2L, 3L), seqs);
+        List<ChatMessageResponse> history = chatService.getChatHistory("1", 2L, 3L).getChatHistory();
+        assertEquals(2, history.size());
+        assertEquals("content1", history.get(0).getContent());
+        assertEquals(3L, history.get(1).getSeq());
+    }
+
+    @Test
+    @DisplayName("채팅방 메세지 저장 - 순번 채우기 후 이미 저장된 순번(이전 버전) 다음부터 발급")
+    void saveMessageSequenceAfterStored() {
+        //given
+        Chat room1 = Chat.builder()
+                .chatRoomId("1")
+                .build();
+
+        chatRepository.save(room1);
+        messageRepository.save(Message.builder()
+                .messageUuId("stored")
+                .seq(5L)
+                .content("stored")
+                .writerId(1L)
+                .sendDateTime(LocalDateTime.now())
+                .type("TALK")
+                .chat(room1)
+                .build());
+        chatSeqBackfill.backfill();
+
+        ChatMessageRequest messageRequest = new ChatMessageRequest();
+        messageRequest.setChatRoomId("1");
+        messageRequest.setType(ChatMessageRequest.MessageType.TALK);
+        messageRequest.setSenderId(1L);
+        messageRequest.setMessage("content");
+
+        //when
+        ChatMessageRequest result = chatService.saveMessage(messageRequest);
+        messageBatchWriter.flush();
+
+        //then
+        assertEquals(6L, result.getSeq());
+        assertEquals(2L, messageRepository.count());
+    }
+
+    @Test
+    @DisplayName("재접속 동기화 - 채팅방별 since 이후 메세지와 읽음 상태")
+    void syncChat() {
+        //given
+        User user1 = new User("bridge", Platform.APPLE, "11");
+        User user2 = new User("bridge2", Platform.APPLE, "12");
+        User user3 = new User("bridge3", Platform.APPLE, "13");
+
+        User saveUser1 = userRepository.save(user1);
+        User saveUser2 = userRepository.save(user2);
+        User saveUser3 = userRepository.save(user3);
+
+        Chat room1 = Chat.builder()
+                .chatRoomId("1")
+                .build();
+        Chat room2 = Chat.builder()
+                .chatRoomId("2")
+                .build();
+
+        room1.setChatUser(saveUser1, saveUser2);
+        room2.setChatUser(saveUser3, saveUser1);
+        chatRepository.save(room1);
+        chatRepository.save(room2);
+
+        saveTalk("1", saveUser2.getId(), "old");
+        messageBatchWriter.flush();
+        String since = chatService.syncChat(saveUser1.getId(), null, null).getCursor();
+
+        saveTalk("1", saveUser2.getId(), "new1");
+        saveTalk("2", saveUser3.getId(), "new2");
+        chatService.readNotReadMessage("1", String.valueOf(saveUser2.getId()));
+
+        //when
+        ChatSyncResponse result = chatService.syncChat(saveUser1.getId(), since, null);
+
+        //then
+        assertFalse(result.isHasNext());
+        assertNotEquals(since, result.getCursor());
+        Map<String, ChatRoomSyncResponse> rooms = result.getRooms().stream()
+                .collect(Collectors.toMap(ChatRoomSyncResponse::getChatRoomId, r -> r));
+        assertEquals(1, rooms.get("1").getMessages().size());
+        assertEquals("new1", rooms.get("1").getMessages().get(0).getContent());
+        assertEquals(2, rooms.get("1").getNotReadMessageCnt());
+        assertEquals(2L, rooms.get("1").getPeerLastReadSeq());
+        assertEquals(1, rooms.get("2").getMessages().size());
+        assertEquals("new2", rooms.get("2").getMessages().get(0).getContent());
+    }
+
+    @Test
+    @DisplayName("재접속 동기화 - 앞 순번이 아직 저장되지 않았으면 그 전까지만 반환하고 다음 동기화에서 이어서 조회")
+    void syncChatStopsAtGap() {
+        //given
+        User user1 = userRepository.save(new User("bridge", Platform.APPLE, "11"));
+        User user2 = userRepository.save(new User("bridge2", Platform.APPLE, "12"));
+
+        Chat room1 = Chat.builder()
+                .chatRoomId("1")
+                .build();
+        room1.setChatUser(user1, user2);
+        chatRepository.save(room1);
+
+        saveTalk("1", user2.getId(), "first");
+        saveTalk("1", user2.getId(), "second");
+        saveTalk("1", user2.getId(), "third");
+        messageBatchWriter.flush();
+
+        // 다른 노드의 저장 스레드가 순번 2 를 아직 커밋하지 않은 상태
+        messageRepository.delete(messageRepository.findByChatAndSeq(room1, 2L).get());
+
+        //when
+        ChatSyncResponse first = chatService.syncChat(user1.getId(), null, null);
+        saveStored(room1, user2.getId(), 2L, "second");
+        ChatSyncResponse second = chatService.syncChat(user1.getId(), first.getCursor(), null);
+
+        //then
+        List<String> firstContents = first.getRooms().get(0).getMessages().stream()
+                .map(ChatMessageResponse::getContent).collect(Collectors.toList());
+        List<String> secondContents = second.getRooms().get(0).getMessages().stream()
+                .map(ChatMessageResponse::getContent).collect(Collectors.toList());
+        assertEquals(List.of("first"), firstContents);
+        assertEquals(List.of("second", "third"), secondContents);
+    }
+
+    @Test
+    @DisplayName("재접속 동기화 - 잘못된 커서")
+    void syncChatInvalidCursor() {
+        //given
+        User user1 = userRepository.save(new User("bridge", Platform.APPLE, "11"));
+
+        //expected
+        assertThrows(InvalidCursorException.class, () -> chatService.syncChat(user1.getId(), "!!", null));
+    }
+
+    private void saveStored(Chat chat, Long senderId, Long seq, String content) {
+        messageRepository.save(Message.builder()
+                .messageUuId(UUID.randomUUID().toString())
+                .seq(seq)
+                .content(content)
+                .writerId(senderId)
+                .sendDateTime(LocalDateTime.now())
+                .type("TALK")
+                .chat(chat)
+                .build());
+    }
+
+    private void saveTalk(String chatRoomId, Long senderId, String content) {
+        ChatMessageRequest messageRequest = new ChatMessageRequest();
+        messageRequest.setChatRoomId(chatRoomId);
+        messageRequest.setType(ChatMessageRequest.MessageType.TALK);
+        messageRequest.setSenderId(senderId);
+        messageRequest.setMessage(content);
+        chatService.saveMessage(messageRequest);
     }
 
     @Test
@@ -249,40 +586,72 @@ class ChatServiceTest {
     }
 
     @Test
-    @DisplayName("채팅방 접속 인원 변경 -> 1명")
-    void getConnectStatOnePeople() {
+    @DisplayName("채팅방 메세지 저장 - 상대방 접속 중이면 읽음 처리")
+    void saveMessageReceiverConnected() {
         //given
+        User user1 = new User("bridge", Platform.APPLE, "11");
+        User user2 = new User("bridge2", Platform.APPLE, "12");
+
+        User saveUser1 = userRepository.save(user1);
+        User saveUser2 = userRepository.save(user2);
+
         Chat room1 = Chat.builder()
                 .chatRoomId("1")
                 .build();
 
+        room1.setChatUser(saveUser1, saveUser2);
         chatRepository.save(room1);
 
+        chatPresenceService.enter("session1", "sub-0", "1", saveUser2.getId());
+
+        ChatMessageRequest messageRequest = new ChatMessageRequest();
+        messageRequest.setChatRoomId("1");
+        messageRequest.setType(ChatMessageRequest.MessageType.TALK);
+        messageRequest.setSenderId(saveUser1.getId());
+        messageRequest.setMessage("content");
+
         //when
-        chatService.changeConnectStat("1");
+        ChatMessageRequest result = chatService.saveMessage(messageRequest);
+        messageBatchWriter.flush();
 
         //then
-        Chat findChat = chatRepository.findAll().get(0);
-        assertTrue(findChat.isConnectStat());
+        assertTrue(result.isReadStat());
+        assertTrue(messageRepository.findAll().get(0).isReadStat());
+        chatPresenceService.leave("session1", "sub-0");
     }
 
     @Test
-    @DisplayName("채팅방 접속 인원 변경 -> 2명")
-    void getConnectStatTwoPeople() {
+    @DisplayName("채팅방 메세지 저장 - 상대방 미접속이면 안읽음")
+    void saveMessageReceiverNotConnected() {
         //given
+        User user1 = new User("bridge", Platform.APPLE, "11");
+        User user2 = new User("bridge2", Platform.APPLE, "12");
+
+        User saveUser1 = userRepository.save(user1);
+        User saveUser2 = userRepository.save(user2);
+
         Chat room1 = Chat.builder()
                 .chatRoomId("1")
                 .build();
 
+        room1.setChatUser(saveUser1, saveUser2);
         chatRepository.save(room1);
 
+        // 보낸 사람만 접속 중
+        chatPresenceService.enter("session1", "sub-0", "1", saveUser1.getId());
+
+        ChatMessageRequest messageRequest = new ChatMessageRequest();
+        messageRequest.setChatRoomId("1");
+        messageRequest.setType(ChatMessageRequest.MessageType.TALK);
+        messageRequest.setSenderId(saveUser1.getId());
+        messageRequest.setMessage("content");
+
         //when
-        chatService.changeConnectStat("1");
-        chatService.changeConnectStat("1");
+        ChatMessageRequest result = chatService.saveMessage(messageRequest);
 
         //then
-        Chat findChat = chatRepository.findAll().get(0);
-        assertFalse(findChat.isConnectStat());
+        assertFalse(result.isReadStat());
+        chatPresenceService.leave("session1", "sub-0");
     }
 
     @Test
@@ -307,6 +676,7 @@ class ChatServiceTest {
                 .writerId(saveUser1.getId())
                 .readStat(true)
                 .sendDateTime(LocalDateTime.now().withNano(0))
+                .chat(room1)
                 .build();
 
         Message message2 = Message.builder()
@@ -314,6 +684,7 @@ class ChatServiceTest {
                 .writerId(saveUser1.getId())
                 .readStat(false)
                 .sendDateTime(LocalDateTime.now().withNano(0))
+                .chat(room1)
                 .build();
 
         room1.getMessages().add(message1);
@@ -325,8 +696,7 @@ class ChatServiceTest {
         chatService.readNotReadMessage("1", String.valueOf(saveUser2.getId()));
 
         //then
-        Chat findChat = chatRepository.findAll().get(0);
-        List<Message> messages = findChat.getMessages().stream()
+        List<ChatMessageResponse> messages = chatService.getChatHistory("1").getChatHistory().stream()
                 .filter(m -> m.isReadStat() == false)
                 .collect(Collectors.toList());
         assertEquals(0, messages.size());
@@ -354,6 +724,7 @@ class ChatServiceTest {
                 .writerId(saveUser1.getId())
                 .readStat(true)
                 .sendDateTime(LocalDateTime.now().withNano(0))
+                .chat(room1)
                 .build();
 
         Message message2 = Message.builder()
@@ -361,6 +732,7 @@ class ChatServiceTest {
                 .writerId(saveUser1.getId())
                 .readStat(false)
                 .sendDateTime(LocalDateTime.now().withNano(0))
+                .chat(room1)
                 .build();
 
         room1.getMessages().add(message1);
@@ -372,10 +744,84 @@ class ChatServiceTest {
         chatService.readNotReadMessage("1", String.valueOf(saveUser1.getId()));
 
         //then
-        Chat findChat = chatRepository.findAll().get(0);
-        List<Message> messages = findChat.getMessages().stream()
+        List<ChatMessageResponse> messages = chatService.getChatHistory("1").getChatHistory().stream()
                 .filter(m -> m.isReadStat() == false)
                 .collect(Collectors.toList());
         assertEquals(1, messages.size());
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("읽음 이벤트 생성 - 마지막으로 읽은 메세지 위치만 전달")
+    @Transactional
+    void createReadReceipt() {
+        //given
+        User user1 = new User("bridge", Platform.APPLE, "11");
+        User user2 = new User("bridge2", Platform.APPLE, "12");
+
+        User saveUser1 = userRepository.save(user1);
+        User saveUser2 = userRepository.save(user2);
+
+        Chat room1 = Chat.builder()
+                .chatRoomId("1")
+                .build();
+
+        room1.setChatUser(saveUser1, saveUser2);
+
+        Message message1 = Message.builder()
+                .messageUuId("uuid1")
+                .content("content1")
+                .writerId(saveUser1.getId())
+                .sendDateTime(LocalDateTime.now().withNano(0))
+                .chat(room1)
+                .build();
+
+        Message message2 = Message.builder()
+                .messageUuId("uuid2")
+                .content("content2")
+                .writerId(saveUser1.getId())
+                .sendDateTime(LocalDateTime.now().withNano(0))
+                .chat(room1)
+                .build();
+
+        room1.getMessages().add(message1);
+        room1.getMessages().add(message2);
+
+        chatRepository.save(room1);
+        chatService.readNotReadMessage("1", String.valueOf(saveUser2.getId()));
+
+        //when
+        ChatMessageRequest readReceipt = chatService.createReadReceipt("1", String.valueOf(saveUser2.getId()));
+
+        //then
+        assertEquals(ChatMessageRequest.MessageType.READ, readReceipt.getType());
+        assertEquals("1", readReceipt.getChatRoomId());
+        assertEquals(saveUser2.getId(), readReceipt.getSenderId());
+        assertEquals("uuid2", readReceipt.getMessageId());
+        assertNull(readReceipt.getMessage());
+    }
+
+    @Test
+    @DisplayName("읽음 이벤트 생성 - 읽은 메세지가 없는 경우")
+    @Transactional
+    void createReadReceiptNothingRead() {
+        //given
+        User user1 = new User("bridge", Platform.APPLE, "11");
+        User user2 = new User("bridge2", Platform.APPLE, "12");
+
+        User saveUser1 = userRepository.save(user1);
+        User saveUser2 = userRepository.save(user2);
+
+        Chat room1 = Chat.builder()
+                .chatRoomId("1")
+                .build();
+
+        room1.setChatUser(saveUser1, saveUser2);
+        chatRepository.save(room1);
+
+        //when
+        ChatMessageRequest readReceipt = chatService.createReadReceipt("1", String.valueOf(saveUser2.getId()));
+
+        //then
+        assertNull(readReceipt);
+    }
+}
@@ -0,0 +1,79 @@
+package com.Bridge.bridge.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collection;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ChatSubscriptionRegistryTest {
+
+    @Test
+    @DisplayName("구독 등록 후 해제")
+    void subscribeAndUnsubscribe() {
+        //given
+        ChatSubscriptionRegistry registry = new ChatSubscriptionRegistry();
+        registry.subscribe("session1", "sub-0", "room1", 1L);
+        registry.subscribe("session2", "sub-0", "room1", 2L);
+
+        //when
+        ChatSubscriptionRegistry.Subscription subscription = registry.unsubscribe("session1", "sub-0");
+
+        //then
+        assertEquals("room1", subscription.getChatRoomId());
+        assertEquals(1L, subscription.getUserId());
+        assertTrue(registry.hasLocalSubscribers("room1"));
+        assertFalse(registry.isSubscribed("room1", 1L));
+        assertTrue(registry.isSubscribed("room1", 2L));
+
+        registry.unsubscribe("session2", "sub-0");
+        assertFalse(registry.hasLocalSubscribers("room1"));
+    }
+
+    @Test
+    @DisplayName("같은 유저가 여러 세션으로 접속한 경우")
+    void subscribeMultipleSessions() {
+        //given
+        ChatSubscriptionRegistry registry = new ChatSubscriptionRegistry();
+        registry.subscribe("session1", "sub-0", "room1", 1L);
+        registry.subscribe("session2", "sub-0", "room1", 1L);
+
+        //when
+        registry.unsubscribe("session1", "sub-0");
+
+        //then
+        assertTrue(registry.isSubscribed("room1", 1L));
+        assertEquals(Set.of(1L), registry.getUsers("room1"));
+    }
+
+    @Test
+    @DisplayName("세션 종료 시 모든 구독 해제")
+    void removeSession() {
+        //given
+        ChatSubscriptionRegistry registry = new ChatSubscriptionRegistry();
+        registry.subscribe("session1", "sub-0", "room1", 1L);
+        registry.subscribe("session1", "sub-1", "room2", 1L);
+
+        //when
+        Collection<ChatSubscriptionRegistry.Subscription> subscriptions = registry.removeSession("session1");
+
+        //then
+        assertEquals(2, subscriptions.size());
+        assertFalse(registry.hasLocalSubscribers("room1"));
+        assertFalse(registry.hasLocalSubscribers("room2"));
+        assertTrue(registry.snapshot().isEmpty());
+    }
+
+    @Test
+    @DisplayName("없는 구독 해제")
+    void unsubscribeUnknown() {
+        //given
+        ChatSubscriptionRegistry registry = new ChatSubscriptionRegistry();
+
+        //expected
+        assertNull(registry.unsubscribe("session1", "sub-0"));
+        assertTrue(registry.removeSession("session1").isEmpty());
+    }
+}
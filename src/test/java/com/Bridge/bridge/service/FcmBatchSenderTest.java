@@ -0,0 +1,132 @@
+package com.Bridge.bridge.service;
+
+import com.Bridge.bridge.dto.request.NotificationRequest;
+import com.Bridge.bridge.repository.UserRepository;
+import com.google.firebase.messaging.MessagingErrorCode;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+class FcmBatchSenderTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private final FcmClient fcmClient = mock(FcmClient.class);
+
+    private final UserRepository userRepository = mock(UserRepository.class);
+
+    private final TransactionTemplate transactionTemplate = new TransactionTemplate(mock(PlatformTransactionManager.class));
+
+    private FcmBatchSender sender;
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        sender.stop();
+    }
+
+    private FcmBatchSender createSender(int maxAttempts) {
+        return new FcmBatchSender(fcmClient, userRepository, transactionTemplate, meterRegistry,
+                500, 10, 10000, maxAttempts, 1);
+    }
+
+    private NotificationRequest createRequest(Long userId, String deviceToken) {
+        NotificationRequest request = NotificationRequest.builder()
+                .userId(userId)
+                .title("지원 결과 도착")
+                .body("내가 지원한 프로젝트의 결과가 나왔어요.")
+                .type("Apply")
+                .build();
+        request.setDeviceToken(deviceToken);
+        return request;
+    }
+
+    private void awaitCompleted() throws InterruptedException {
+        for (int i = 0; i < 500 && sender.getPending() > 0; i++) {
+            Thread.sleep(10);
+        }
+        assertEquals(0, sender.getPending());
+    }
+
+    private double count(String result) {
+        return meterRegistry.get("fcm.messages").tag("result", result).counter().count();
+    }
+
+    @Test
+    @DisplayName("쌓인 알림은 최대 500개씩 묶어서 발송")
+    void sendInBatches() throws Exception {
+        //given
+        sender = createSender(3);
+        List<Integer> batchSizes = Collections.synchronizedList(new ArrayList<>());
+        when(fcmClient.sendAll(anyList())).thenAnswer(invocation -> {
+            List<NotificationRequest> requests = invocation.getArgument(0);
+            batchSizes.add(requests.size());
+            return new ArrayList<>(Collections.nCopies(requests.size(), (MessagingErrorCode) null));
+        });
+        for (long i = 1; i <= 501; i++) {
+            sender.enqueue(createRequest(i, "token" + i));
+        }
+
+        //when
+        sender.start();
+
+        //then
+        awaitCompleted();
+        assertEquals(Arrays.asList(500, 1), batchSizes);
+        assertEquals(501, count("success"));
+    }
+
+    @Test
+    @DisplayName("일시적인 오류는 실패한 알림만 다시 발송")
+    void retryTransientError() throws Exception {
+        //given
+        sender = createSender(3);
+        when(fcmClient.sendAll(anyList()))
+                .thenReturn(Arrays.asList(null, MessagingErrorCode.UNAVAILABLE))
+                .thenReturn(Collections.singletonList(null));
+        sender.enqueue(createRequest(1L, "token1"));
+        sender.enqueue(createRequest(2L, "token2"));
+
+        //when
+        sender.start();
+
+        //then
+        awaitCompleted();
+        verify(fcmClient, times(2)).sendAll(anyList());
+        assertEquals(2, count("success"));
+        assertEquals(1, count("retry"));
+        assertEquals(0, count("failure"));
+    }
+
+    @Test
+    @DisplayName("만료된 토큰은 재시도하지 않고 유저의 디바이스 토큰 삭제")
+    void clearInvalidToken() throws Exception {
+        //given
+        sender = createSender(3);
+        when(fcmClient.sendAll(anyList()))
+                .thenReturn(Arrays.asList(MessagingErrorCode.UNREGISTERED, null));
+        sender.enqueue(createRequest(1L, "expired-token"));
+        sender.enqueue(createRequest(2L, "token2"));
+
+        //when
+        sender.start();
+
+        //then
+        awaitCompleted();
+        verify(fcmClient, times(1)).sendAll(anyList());
+        verify(userRepository).clearDeviceTokens(Collections.singletonList("expired-token"));
+        assertEquals(1, count("failure"));
+        assertEquals(0, count("retry"));
+    }
+}
@@ -0,0 +1,71 @@
+package com.Bridge.bridge.service;
+
+import com.Bridge.bridge.dto.request.ChatMessageRequest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class InProcessChatTransportTest {
+
+    private MessageReceiver messageReceiver;
+
+    private InProcessChatTransport transport;
+
+    @BeforeEach
+    void setUp() {
+        messageReceiver = mock(MessageReceiver.class);
+        transport = new InProcessChatTransport(messageReceiver);
+        ReflectionTestUtils.setField(transport, "capacity", 16);
+        transport.start();
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        transport.stop();
+    }
+
+    @Test
+    @DisplayName("보낸 순서대로 MessageReceiver 로 전달")
+    void sendInOrder() {
+        //when
+        for (int i = 0; i < 100; i++) {
+            transport.send("chat", ChatMessageRequest.builder()
+                    .chatRoomId("1")
+                    .message(String.valueOf(i))
+                    .build());
+        }
+
+        //then
+        ArgumentCaptor<ChatMessageRequest> captor = ArgumentCaptor.forClass(ChatMessageRequest.class);
+        verify(messageReceiver, timeout(1000).times(100)).receiveMessage(captor.capture());
+
+        List<ChatMessageRequest> received = captor.getAllValues();
+        for (int i = 0; i < 100; i++) {
+            assertEquals(String.valueOf(i), received.get(i).getMessage());
+        }
+    }
+
+    @Test
+    @DisplayName("전달 중 예외가 나도 다음 메세지는 전달")
+    void continueAfterFailure() {
+        //given
+        ChatMessageRequest fail = ChatMessageRequest.builder().chatRoomId("fail").build();
+        ChatMessageRequest ok = ChatMessageRequest.builder().chatRoomId("ok").build();
+        doThrow(new IllegalStateException()).when(messageReceiver).receiveMessage(fail);
+
+        //when
+        transport.send("chat", fail);
+        transport.send("chat", ok);
+
+        //then
+        verify(messageReceiver, timeout(1000)).receiveMessage(ok);
+    }
+}
@@ -0,0 +1,166 @@
+package com.Bridge.bridge.service;
+
+import com.Bridge.bridge.config.kafka.ChatNode;
+import com.Bridge.bridge.domain.User;
+import com.Bridge.bridge.dto.request.AlarmEvent;
+import com.Bridge.bridge.dto.request.NotificationRequest;
+import com.Bridge.bridge.repository.UserRepository;
+import com.Bridge.bridge.util.Constant;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class NotificationDispatcherTest {
+
+    private final SimpMessagingTemplate template = mock(SimpMessagingTemplate.class);
+
+    private final ChatPresenceService chatPresenceService = mock(ChatPresenceService.class);
+
+    @SuppressWarnings("unchecked")
+    private final KafkaTemplate<String, AlarmEvent> alarmKafkaTemplate = mock(KafkaTemplate.class);
+
+    private final ChatNode chatNode = mock(ChatNode.class);
+
+    private final FcmBatchSender fcmBatchSender = mock(FcmBatchSender.class);
+
+    private final UserRepository userRepository = mock(UserRepository.class);
+
+    private NotificationDispatcher notificationDispatcher;
+
+    @BeforeEach
+    void setUp() {
+        when(chatNode.getId()).thenReturn("node-1");
+        notificationDispatcher = new NotificationDispatcher(template, chatPresenceService, alarmKafkaTemplate,
+                chatNode, fcmBatchSender, userRepository);
+        ReflectionTestUtils.setField(notificationDispatcher, "replicate", true);
+    }
+
+    private NotificationRequest createRequest() {
+        return NotificationRequest.builder()
+                .userId(1L)
+                .title("지원 결과 도착")
+                .body("내가 지원한 프로젝트의 결과가 나왔어요.")
+                .type("Apply")
+                .build();
+    }
+
+    @Test
+    @DisplayName("이 노드에 접속 중인 유저 -> STOMP 로 전달, FCM 은 보내지 않음")
+    void dispatchToLocalSocket() throws Exception {
+        //given
+        when(chatPresenceService.isOnlineLocally(1L)).thenReturn(true);
+
+        //when
+        notificationDispatcher.dispatch(createRequest());
+
+        //then
+        ArgumentCaptor<AlarmEvent> event = ArgumentCaptor.forClass(AlarmEvent.class);
+        verify(template).convertAndSend(eq("/sub/user/1/alarms"), event.capture());
+        assertEquals("Apply", event.getValue().getType());
+        assertEquals("지원 결과 도착", event.getValue().getTitle());
+        verifyNoInteractions(fcmBatchSender, alarmKafkaTemplate);
+    }
+
+    @Test
+    @DisplayName("다른 노드에 접속 중인 유저 -> Kafka 로 넘김, FCM 은 보내지 않음")
+    void dispatchToRemoteSocket() throws Exception {
+        //given
+        when(chatPresenceService.getRemoteAlarmNodeId(1L)).thenReturn("node-2");
+
+        //when
+        notificationDispatcher.dispatch(createRequest());
+
+        //then
+        ArgumentCaptor<AlarmEvent> event = ArgumentCaptor.forClass(AlarmEvent.class);
+        verify(alarmKafkaTemplate).send(eq(Constant.ALARM_TOPIC), eq("1"), event.capture());
+        assertEquals("node-2", event.getValue().getFallbackNodeId());
+        verify(template, never()).convertAndSend(anyString(), any(Object.class));
+        verifyNoInteractions(fcmBatchSender);
+    }
+
+    @Test
+    @DisplayName("접속 중이 아닌 유저 -> 디바이스 토큰을 채워서 FCM 발송 큐에 추가")
+    void dispatchToFcm() throws Exception {
+        //given
+        User user = new User("device-token");
+        when(userRepository.findById(1L)).thenReturn(Optional.of(user));
+
+        //when
+        notificationDispatcher.dispatch(createRequest());
+
+        //then
+        ArgumentCaptor<NotificationRequest> request = ArgumentCaptor.forClass(NotificationRequest.class);
+        verify(fcmBatchSender).enqueue(request.capture());
+        assertEquals("device-token", request.getValue().getDeviceToken());
+        verifyNoInteractions(template, alarmKafkaTemplate);
+    }
+
+    @Test
+    @DisplayName("다른 노드에서 넘어온 알림 -> 이 노드에 구독 중인 유저에게만 전달")
+    void receive() {
+        //given
+        AlarmEvent event = AlarmEvent.builder()
+                .nodeId("node-2")
+                .userId(1L)
+                .type("Chat")
+                .build();
+        AlarmEvent other = AlarmEvent.builder()
+                .nodeId("node-2")
+                .userId(2L)
+                .type("Chat")
+                .build();
+        when(chatPresenceService.isOnlineLocally(1L)).thenReturn(true);
+
+        //when
+        notificationDispatcher.receive(event);
+        notificationDispatcher.receive(other);
+
+        //then
+        verify(template, times(1)).convertAndSend(anyString(), any(Object.class));
+        verify(template).convertAndSend("/sub/user/1/alarms", event);
+    }
+
+    @Test
+    @DisplayName("알림을 맡은 노드에서 유저가 나감 -> 맡은 노드만 FCM 으로 대신 발송")
+    void receiveFallbackToFcm() {
+        //given
+        User user = new User("device-token");
+        when(userRepository.findById(1L)).thenReturn(Optional.of(user));
+        AlarmEvent event = AlarmEvent.builder()
+                .nodeId("node-2")
+                .userId(1L)
+                .type("Chat")
+                .title("지원 결과 도착")
+                .fallbackNodeId("node-1")
+                .build();
+        AlarmEvent otherNode = AlarmEvent.builder()
+                .nodeId("node-2")
+                .userId(1L)
+                .type("Chat")
+                .fallbackNodeId("node-3")
+                .build();
+
+        //when
+        notificationDispatcher.receive(event);
+        notificationDispatcher.receive(otherNode);
+
+        //then
+        ArgumentCaptor<NotificationRequest> request = ArgumentCaptor.forClass(NotificationRequest.class);
+        verify(fcmBatchSender, times(1)).enqueue(request.capture());
+        assertEquals("device-token", request.getValue().getDeviceToken());
+        assertEquals("지원 결과 도착", request.getValue().getTitle());
+        verifyNoInteractions(template);
+    }
+}
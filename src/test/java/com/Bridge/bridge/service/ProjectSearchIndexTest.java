@@ -0,0 +1,211 @@
+package com.Bridge.bridge.service;
+
+import com.Bridge.bridge.domain.Project;
+import com.Bridge.bridge.repository.ProjectRepository;
+import com.Bridge.bridge.service.ProjectSearchIndex.SearchHit;
+import com.Bridge.bridge.service.ProjectSearchIndex.SearchPage;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+class ProjectSearchIndexTest {
+
+    private final ProjectSearchIndex index = new ProjectSearchIndex(mock(ProjectRepository.class), new SimpleMeterRegistry());
+
+    private Project createProject(long id, String title, String overview, LocalDateTime dueDate) {
+        Project project = Project.builder()
+                .title(title)
+                .overview(overview)
+                .dueDate(dueDate)
+                .build();
+        ReflectionTestUtils.setField(project, "id", id);
+        return project;
+    }
+
+    private Project createProject(long id, String title, String overview) {
+        return createProject(id, title, overview, LocalDateTime.now().plusDays(7));
+    }
+
+    private List<Long> search(String word) {
+        return index.search(word, null, 0, 10).getHits().stream()
+                .map(SearchHit::getProjectId)
+                .collect(Collectors.toList());
+    }
+
+    private List<Long> toIds(SearchPage page) {
+        return page.getHits().stream()
+                .map(SearchHit::getProjectId)
+                .collect(Collectors.toList());
+    }
+
+    private List<Long> searchTitle(String word) {
+        return index.searchTitle(word, null, 0, 10).getHits().stream()
+                .map(SearchHit::getProjectId)
+                .collect(Collectors.toList());
+    }
+
+    @Test
+    @DisplayName("띄어쓰기 없이 붙여 쓴 한글도 검색 -> 제목에 있는 모집글이 먼저")
+    void searchHangul() {
+        //given
+        index.index(createProject(1L, "스터디 모집", "어플개발 같이 하실 분"));
+        index.index(createProject(2L, "어플 개발 프로젝트", "Spring 백엔드 구합니다"));
+        index.index(createProject(3L, "맛집 지도", "웹 프로젝트"));
+
+        //expected
+        assertEquals(List.of(2L, 1L), search("어플"));
+        assertEquals(List.of(1L), search("어플개발"));
+        assertEquals(List.of(2L), search("spring"));
+        assertTrue(search("게임").isEmpty());
+    }
+
+    @Test
+    @DisplayName("한글 한 글자, 영문 단어는 접두어로 검색")
+    void searchPrefix() {
+        //given
+        index.index(createProject(1L, "앱개발 스터디", "javascript 로 만들어요"));
+        index.index(createProject(2L, "웹 프로젝트", "springboot 백엔드 구합니다"));
+        index.index(createProject(3L, "앱 출시", "Java Spring"));
+
+        //expected
+        assertEquals(List.of(1L, 3L), search("앱").stream().sorted().collect(Collectors.toList()));
+        assertEquals(List.of(1L, 3L), search("java").stream().sorted().collect(Collectors.toList()));
+        assertEquals(List.of(2L, 3L), search("spring").stream().sorted().collect(Collectors.toList()));
+        assertEquals(List.of(2L), search("springboot"));
+        assertEquals(List.of(3L), search("앱 java spring"));
+        assertTrue(search("javas 웹").isEmpty());
+    }
+
+    @Test
+    @DisplayName("수정, 삭제, 마감된 모집글은 바로 반영")
+    void update() {
+        //given
+        index.index(createProject(1L, "어플 프로젝트", "모집"));
+        index.index(createProject(2L, "어플 스터디", "모집"));
+        index.index(createProject(3L, "어플 공모전", "모집"));
+
+        //when
+        index.index(createProject(1L, "웹 프로젝트", "모집"));
+        index.remove(2L);
+        index.index(createProject(3L, "어플 공모전", "모집", LocalDateTime.now().minusMinutes(1)));
+
+        //then
+        assertTrue(search("어플").isEmpty());
+        assertEquals(List.of(1L), search("웹"));
+        assertEquals(1, index.getDocumentCount());
+    }
+
+    @Test
+    @DisplayName("첫 페이지 스냅샷의 순위 offset 다음부터 조회")
+    void searchAfter() {
+        //given
+        for (long id = 1; id <= 5; id++) {
+            index.index(createProject(id, "어플 프로젝트 " + id, "모집"));
+        }
+
+        //when
+        SearchPage first = index.search("어플", null, 0, 3);
+        SearchPage second = index.search("어플", first.getSnapshotId(), 3, 3);
+
+        //then
+        assertEquals(List.of(1L, 2L, 3L), toIds(first));
+        assertEquals(List.of(4L, 5L), toIds(second));
+        assertEquals(first.getSnapshotId(), second.getSnapshotId());
+    }
+
+    @Test
+    @DisplayName("다음 페이지 조회 전에 색인이 바뀌어 점수가 달라져도 첫 페이지 순위로 이어서 조회")
+    void searchAfterIndexChanged() {
+        //given
+        for (long id = 1; id <= 5; id++) {
+            index.index(createProject(id, "어플 프로젝트 " + id, "모집"));
+        }
+        SearchPage first = index.search("어플", null, 0, 3);
+
+        //when
+        index.index(createProject(6L, "어플 어플 어플", "어플"));
+        index.index(createProject(5L, "어플 어플", "어플"));
+        SearchPage second = index.search("어플", first.getSnapshotId(), 3, 3);
+
+        //then
+        assertEquals(List.of(4L, 5L), toIds(second));
+    }
+
+    @Test
+    @DisplayName("스냅샷이 없으면 현재 순위의 같은 offset 부터 조회")
+    void searchAfterWithoutSnapshot() {
+        //given
+        for (long id = 1; id <= 5; id++) {
+            index.index(createProject(id, "어플 프로젝트 " + id, "모집"));
+        }
+
+        //when
+        SearchPage page = index.search("어플", 12345L, 3, 3);
+
+        //then
+        assertEquals(List.of(4L, 5L), toIds(page));
+        assertNotEquals(12345L, page.getSnapshotId());
+    }
+
+    @Test
+    @DisplayName("지운 모집글은 토큰 등장 수(df)에서 제외 -> 수정을 반복해도 점수가 같음")
+    void scoreIgnoresDeletedDocs() {
+        //given
+        index.index(createProject(1L, "어플 프로젝트", "모집"));
+        index.index(createProject(2L, "웹 프로젝트", "모집"));
+        double before = index.search("어플", null, 0, 10).getHits().get(0).getScore();
+
+        //when
+        for (int i = 0; i < 10; i++) {
+            index.index(createProject(1L, "어플 프로젝트", "모집"));
+        }
+        double after = index.search("어플", null, 0, 10).getHits().get(0).getScore();
+
+        //then
+        assertEquals(before, after, 1e-9);
+    }
+
+    @Test
+    @DisplayName("제목 검색 - 초성, 단어 중간부터, 자모 하나 오타 -> 접두어 일치가 먼저")
+    void searchTitle() {
+        //given
+        index.index(createProject(1L, "브릿지 프로젝트", "모집"));
+        index.index(createProject(2L, "어플 개발 스터디", "모집"));
+        index.index(createProject(3L, "어플 개밣", "모집"));
+        index.index(createProject(4L, "맛집 지도", "모집"));
+
+        //expected
+        assertEquals(List.of(1L), searchTitle("ㅂㄹㅈ"));
+        assertEquals(List.of(1L), searchTitle("브릿"));
+        assertEquals(List.of(2L, 3L), searchTitle("개발"));
+        assertEquals(List.of(1L), searchTitle("프로잭트"));
+        assertEquals(List.of(2L, 3L), searchTitle("ㄱㅂ"));
+        assertTrue(searchTitle("스터디 개발").isEmpty());
+    }
+
+    @Test
+    @DisplayName("제목 검색 - 수정, 삭제, 마감된 모집글은 바로 반영")
+    void updateTitle() {
+        //given
+        index.index(createProject(1L, "브릿지 프로젝트", "모집"));
+        index.index(createProject(2L, "브릿지 스터디", "모집"));
+        index.index(createProject(3L, "브릿지 공모전", "모집"));
+
+        //when
+        index.index(createProject(1L, "맛집 지도", "모집"));
+        index.remove(2L);
+        index.index(createProject(3L, "브릿지 공모전", "모집", LocalDateTime.now().minusMinutes(1)));
+
+        //then
+        assertTrue(searchTitle("ㅂㄹㅈ").isEmpty());
+        assertEquals(List.of(1L), searchTitle("ㅁㅈ"));
+    }
+}
@@ -0,0 +1,59 @@
+package com.Bridge.bridge.service;
+
+import com.Bridge.bridge.repository.ProjectRepository;
+import com.Bridge.bridge.repository.ProjectRepository.OpenProject;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class ProjectSearchReloaderTest {
+
+    private final ProjectRepository projectRepository = mock(ProjectRepository.class);
+
+    private final ProjectSearchIndex projectSearchIndex = mock(ProjectSearchIndex.class);
+
+    private final SearchSuggester searchSuggester = mock(SearchSuggester.class);
+
+    private final ProjectSearchReloader reloader =
+            new ProjectSearchReloader(projectRepository, projectSearchIndex, searchSuggester);
+
+    @Test
+    @DisplayName("모집 중인 모집글을 한 번만 읽어서 검색 색인과 추천 검색어 모두 갱신")
+    void reload() {
+        //given
+        List<OpenProject> projects = List.of(mock(OpenProject.class));
+        when(projectRepository.findOpenProjects(any())).thenReturn(projects);
+
+        //when
+        reloader.reload();
+
+        //then
+        InOrder inOrder = inOrder(projectSearchIndex, searchSuggester, projectRepository);
+        inOrder.verify(projectSearchIndex).beginRebuild();
+        inOrder.verify(searchSuggester).beginReload();
+        inOrder.verify(projectRepository, times(1)).findOpenProjects(any());
+        inOrder.verify(projectSearchIndex).rebuild(projects);
+        inOrder.verify(searchSuggester).reload(projects);
+    }
+
+    @Test
+    @DisplayName("DB 읽기 실패 -> 둘 다 기존 데이터 유지")
+    void reloadFailure() {
+        //given
+        when(projectRepository.findOpenProjects(any())).thenThrow(new IllegalStateException("DB 오류"));
+
+        //when
+        reloader.reload();
+
+        //then
+        verify(projectSearchIndex).cancelRebuild();
+        verify(searchSuggester).cancelReload();
+        verify(projectSearchIndex, never()).rebuild(any());
+        verify(searchSuggester, never()).reload(any());
+    }
+}
@@ -146,7 +146,7 @@ class ProjectServiceTest {
 
 
         // When
-        List<ProjectListResponse> result = projectService.findByTitleAndContent(request,"어플");
+        List<ProjectListResponse> result = projectService.findByTitleAndContent(request,"어플", null, null, null).getProjects();
 
         // Then
         assertEquals(result.get(0).getTitle(),"어플 프로젝트" );
@@ -655,10 +655,10 @@ class ProjectServiceTest {
         request.addHeader("Authorization", "Bearer " + token);
 
         // when
-        int result = projectService.filterProjectList(request, filterRequest).size();
+        int result = projectService.filterProjectList(request, filterRequest, null, null).getProjects().size();
 
         // then
-        System.out.println(projectService.filterProjectList(request, filterRequest));
+        System.out.println(projectService.filterProjectList(request, filterRequest, null, null));
         assertThat(result).isEqualTo(0);
     }
 
@@ -1055,13 +1055,50 @@ class ProjectServiceTest {
         newProject3.getBookmarks().add(bookmark1);
 
         // when
-        List<ProjectListResponse> response = projectService.allProjects(null);
+        List<ProjectListResponse> response = projectService.allProjects(null, null, null).getProjects();
 
         // then
         Assertions.assertThat(response.get(1).isScrap()).isEqualTo(false);
         Assertions.assertThat(response.get(2).isScrap()).isEqualTo(false);
     }
 
+    @DisplayName("모든 모집글 페이징 - 작성시간 순으로 커서 다음 모집글 조회")
+    @Test
+    void allProjectsPaging() {
+        // given
+        User user = new User("user", Platform.APPLE, "Test");
+        userRepository.save(user);
+
+        for (int i = 1; i <= 3; i++) {
+            Project project = Project.builder()
+                    .title("Paging Project" + i)
+                    .overview("This is Paging Project" + i)
+                    .dueDate(LocalDateTime.of(2050,1,12,0,0,0))
+                    .startDate(LocalDateTime.of(2024,1,12,0,0,0))
+                    .endDate(LocalDateTime.of(2024,1,12,0,0,0))
+                    .uploadTime(LocalDateTime.of(2023,1,i,0,0,0))
+                    .tagLimit(new ArrayList<>())
+                    .meetingWay("Offline")
+                    .user(user)
+                    .stage("Before Start")
+                    .build();
+            projectRepository.save(project);
+        }
+
+        // when
+        ProjectListPageResponse first = projectService.allProjects(null, null, 2);
+        ProjectListPageResponse second = projectService.allProjects(null, first.getAfter(), 2);
+
+        // then
+        assertThat(first.getProjects()).extracting(ProjectListResponse::getTitle)
+                .containsExactly("Paging Project1", "Paging Project2");
+        assertThat(first.isHasNext()).isTrue();
+        assertThat(second.getProjects()).extracting(ProjectListResponse::getTitle)
+                .containsExactly("Paging Project3");
+        assertThat(second.isHasNext()).isFalse();
+        assertThat(second.getAfter()).isNull();
+    }
+
     @DisplayName("내 분야 모집글")
     @Test
     void findMyPartProjects() {
@@ -1168,7 +1205,7 @@ class ProjectServiceTest {
         request.addHeader("Authorization", "Bearer " + token);
 
         // when
-        List<ProjectListResponse> response = projectService.findMyPartProjects(request, "BACKEND");
+        List<ProjectListResponse> response = projectService.findMyPartProjects(request, "BACKEND", null, null).getProjects();
 
         // then
         Assertions.assertThat(response.size()).isEqualTo(2);
@@ -0,0 +1,218 @@
+package com.Bridge.bridge.service;
+
+import com.Bridge.bridge.config.kafka.ChatNode;
+import com.Bridge.bridge.dto.request.ChatCacheEvictEvent;
+import com.Bridge.bridge.dto.request.ChatMessageRequest;
+import com.Bridge.bridge.dto.response.ChatHistoryPageResponse;
+import com.Bridge.bridge.util.ChatCursor;
+import com.Bridge.bridge.util.Constant;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.kafka.core.KafkaTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class RecentMessageCacheTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @SuppressWarnings("unchecked")
+    private final KafkaTemplate<String, ChatCacheEvictEvent> chatCacheEvictKafkaTemplate = mock(KafkaTemplate.class);
+
+    private final ChatNode chatNode = new ChatNode("node-1");
+
+    private RecentMessageCache createCache(SimpleMeterRegistry registry, int messagesPerRoom, long maxBytes) {
+        return new RecentMessageCache(registry, chatCacheEvictKafkaTemplate, chatNode, true, messagesPerRoom, maxBytes);
+    }
+
+    private ChatMessageRequest createMessage(String chatRoomId, long seq, Long senderId) {
+        return ChatMessageRequest.builder()
+                .messageId(chatRoomId + "-" + seq)
+                .chatRoomId(chatRoomId)
+                .seq(seq)
+                .type(ChatMessageRequest.MessageType.TALK)
+                .senderId(senderId)
+                .message("메세지" + seq)
+                .sendTime(LocalDateTime.of(2023, 9, 1, 12, 0).plusSeconds(seq))
+                .build();
+    }
+
+    private double requests(String result) {
+        return meterRegistry.get("chat.history.cache.requests").tag("result", result).counter().count();
+    }
+
+    @Test
+    @DisplayName("첫 페이지 조회 - 메세지가 충분하면 캐시에서 반환, 부족하면 null")
+    void getFirstPage() {
+        //given
+        RecentMessageCache cache = createCache(meterRegistry, 10, 1 << 20);
+        for (long seq = 1; seq <= 5; seq++) {
+            cache.append(createMessage("room", seq, 1L));
+        }
+
+        //when
+        ChatHistoryPageResponse hit = cache.getFirstPage("room", 3);
+        ChatHistoryPageResponse miss = cache.getFirstPage("room", 6);
+
+        //then
+        assertNull(miss);
+        assertEquals(3, hit.getChatHistory().size());
+        assertEquals(3L, hit.getChatHistory().get(0).getSeq());
+        assertEquals(5L, hit.getChatHistory().get(2).getSeq());
+        assertTrue(hit.isHasNext());
+        assertEquals(3L, ChatCursor.decode(hit.getBefore()).getSeq());
+
+        assertEquals(1, requests("hit"));
+        assertEquals(1, requests("miss"));
+    }
+
+    @Test
+    @DisplayName("같은 순번 메세지는 한번만 추가, 채팅방별 최대 개수 유지")
+    void append() {
+        //given
+        RecentMessageCache cache = createCache(meterRegistry, 3, 1 << 20);
+
+        //when
+        for (long seq = 1; seq <= 5; seq++) {
+            cache.append(createMessage("room", seq, 1L));
+        }
+        cache.append(createMessage("room", 5, 1L));
+
+        //then
+        ChatHistoryPageResponse page = cache.getFirstPage("room", 3);
+        assertEquals(3, page.getChatHistory().size());
+        assertEquals(3L, page.getChatHistory().get(0).getSeq());
+        assertEquals(5L, page.getChatHistory().get(2).getSeq());
+        assertNull(cache.getFirstPage("room", 4));
+    }
+
+    @Test
+    @DisplayName("읽음 이벤트 -> 상대방이 보낸 순번 이하 메세지만 읽음 처리")
+    void markRead() {
+        //given
+        RecentMessageCache cache = createCache(meterRegistry, 10, 1 << 20);
+        cache.append(createMessage("room", 1, 1L));
+        cache.append(createMessage("room", 2, 2L));
+        cache.append(createMessage("room", 3, 1L));
+
+        //when
+        cache.markRead("room", 2L, 2L);
+
+        //then
+        ChatHistoryPageResponse page = cache.getFirstPage("room", 3);
+        assertTrue(page.getChatHistory().get(0).isReadStat());
+        assertFalse(page.getChatHistory().get(1).isReadStat());
+        assertFalse(page.getChatHistory().get(2).isReadStat());
+    }
+
+    @Test
+    @DisplayName("전체 크기 초과 -> 가장 오래 사용하지 않은 채팅방부터 삭제")
+    void evictLeastRecentlyUsed() {
+        //given
+        RecentMessageCache cache = createCache(meterRegistry, 10, 1 << 20);
+        cache.append(createMessage("room1", 1, 1L));
+        long roomBytes = cache.getTotalBytes();
+
+        RecentMessageCache small = createCache(new SimpleMeterRegistry(), 10, roomBytes * 2);
+        small.append(createMessage("room1", 1, 1L));
+        small.append(createMessage("room2", 1, 1L));
+        small.getFirstPage("room1", 1);
+
+        //when
+        small.append(createMessage("room3", 1, 1L));
+
+        //then
+        assertEquals(2, small.getRoomCount());
+        assertNotNull(small.getFirstPage("room1", 1));
+        assertNull(small.getFirstPage("room2", 1));
+        assertNotNull(small.getFirstPage("room3", 1));
+        assertTrue(small.getTotalBytes() <= roomBytes * 2);
+    }
+
+    @Test
+    @DisplayName("여러 채팅방 동시 추가 -> 채팅방별 내용과 전체 크기 유지")
+    void appendConcurrently() throws Exception {
+        //given
+        RecentMessageCache reference = createCache(new SimpleMeterRegistry(), 10, 1 << 20);
+        for (long seq = 1; seq <= 200; seq++) {
+            reference.append(createMessage("room0", seq, 1L));
+        }
+        RecentMessageCache cache = createCache(meterRegistry, 10, 1 << 20);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+
+        //when
+        List<Future<?>> futures = new ArrayList<>();
+        for (int room = 0; room < 8; room++) {
+            String chatRoomId = "room" + room;
+            futures.add(executor.submit(() -> {
+                for (long seq = 1; seq <= 200; seq++) {
+                    cache.append(createMessage(chatRoomId, seq, 1L));
+                    cache.markRead(chatRoomId, 2L, seq);
+                    cache.getFirstPage(chatRoomId, 5);
+                }
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get(10, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        //then
+        assertEquals(8, cache.getRoomCount());
+        assertEquals(reference.getTotalBytes() * 8, cache.getTotalBytes());
+        for (int room = 0; room < 8; room++) {
+            ChatHistoryPageResponse page = cache.getFirstPage("room" + room, 10);
+            assertEquals(191L, page.getChatHistory().get(0).getSeq());
+            assertEquals(200L, page.getChatHistory().get(9).getSeq());
+            assertTrue(page.getChatHistory().get(9).isReadStat());
+        }
+    }
+
+    @Test
+    @DisplayName("채팅방 삭제 -> 캐시 삭제 후 다른 노드에 전달")
+    void publishEvict() {
+        //given
+        RecentMessageCache cache = createCache(meterRegistry, 10, 1 << 20);
+        cache.append(createMessage("room", 1, 1L));
+
+        //when
+        cache.evict("room");
+
+        //then
+        assertNull(cache.getFirstPage("room", 1));
+        ArgumentCaptor<ChatCacheEvictEvent> event = ArgumentCaptor.forClass(ChatCacheEvictEvent.class);
+        verify(chatCacheEvictKafkaTemplate).send(eq(Constant.CHAT_CACHE_EVICT_TOPIC), eq("room"), event.capture());
+        assertEquals("node-1", event.getValue().getNodeId());
+        assertEquals("room", event.getValue().getChatRoomId());
+    }
+
+    @Test
+    @DisplayName("다른 노드의 채팅방 삭제 이벤트 -> 캐시 삭제, 자기가 보낸 이벤트는 무시")
+    void receiveEvict() {
+        //given
+        RecentMessageCache cache = createCache(meterRegistry, 10, 1 << 20);
+        cache.append(createMessage("room", 1, 1L));
+
+        //when
+        cache.receive(ChatCacheEvictEvent.builder().nodeId("node-1").chatRoomId("room").build());
+        ChatHistoryPageResponse beforeRemote = cache.getFirstPage("room", 1);
+        cache.receive(ChatCacheEvictEvent.builder().nodeId("node-2").chatRoomId("room").build());
+
+        //then
+        assertNotNull(beforeRemote);
+        assertNull(cache.getFirstPage("room", 1));
+        verifyNoInteractions(chatCacheEvictKafkaTemplate);
+    }
+}
@@ -0,0 +1,126 @@
+package com.Bridge.bridge.service;
+
+import com.Bridge.bridge.repository.ProjectRepository.OpenProject;
+import com.Bridge.bridge.repository.SearchWordRepository;
+import com.Bridge.bridge.repository.SearchWordRepository.PopularSearchWord;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class SearchSuggesterTest {
+
+    private final SearchWordRepository searchWordRepository = mock(SearchWordRepository.class);
+
+    private final SearchSuggester suggester =
+            new SearchSuggester(searchWordRepository, new SimpleMeterRegistry(), 3, 10000);
+
+    private OpenProject createProject(long id, String title) {
+        return new OpenProject() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public String getTitle() {
+                return title;
+            }
+
+            @Override
+            public String getOverview() {
+                return null;
+            }
+
+            @Override
+            public LocalDateTime getDueDate() {
+                return LocalDateTime.now().plusDays(7);
+            }
+        };
+    }
+
+    private void reload(List<OpenProject> projects) {
+        suggester.beginReload();
+        suggester.reload(projects);
+    }
+
+    private PopularSearchWord createSearchWord(String content, long count) {
+        return new PopularSearchWord() {
+            @Override
+            public String getContent() {
+                return content;
+            }
+
+            @Override
+            public Long getCount() {
+                return count;
+            }
+        };
+    }
+
+    @Test
+    @DisplayName("모집글 제목과 많이 검색된 검색어를 자모 단위 접두어로 추천 -> 많이 나온 순")
+    void suggest() {
+        //given
+        List<OpenProject> projects = List.of(createProject(1L, "프로젝트 팀원 모집"), createProject(2L, "프론트엔드 스터디"));
+        when(searchWordRepository.findPopularSearchWords(anyLong(), any()))
+                .thenReturn(List.of(createSearchWord("프로젝트", 5), createSearchWord("프론트엔드", 2)));
+
+        //when
+        reload(projects);
+
+        //then
+        assertEquals(List.of("프로젝트", "프론트엔드", "프론트엔드 스터디", "프로젝트 팀원 모집"), suggester.suggest("프", 10));
+        assertEquals(List.of("프로젝트", "프로젝트 팀원 모집"), suggester.suggest("프로ㅈ", 10));
+        assertEquals(List.of("프로젝트"), suggester.suggest("프로", 1));
+        assertTrue(suggester.suggest("백엔드", 10).isEmpty());
+    }
+
+    @Test
+    @DisplayName("모집글 변경, 검색 횟수는 DB 를 다시 읽지 않고 반영")
+    void update() {
+        //given
+        when(searchWordRepository.findPopularSearchWords(anyLong(), any()))
+                .thenReturn(List.of(createSearchWord("어플", 1)));
+        reload(List.of(createProject(1L, "어플 개발")));
+
+        //when
+        suggester.onProjectSaved(1L, "웹 개발", LocalDateTime.now().plusDays(7));
+        suggester.onProjectSaved(2L, "어플 공모전", LocalDateTime.now().plusDays(7));
+        suggester.onProjectSaved(3L, "어플 스터디", LocalDateTime.now().minusDays(1));
+        suggester.onSearch("어플 공모전");
+        suggester.onSearch("어플");
+        suggester.onSearch("어플");
+        suggester.refresh();
+
+        //then
+        assertEquals(List.of("어플", "어플 공모전"), suggester.suggest("어플", 10));
+        assertEquals(List.of("웹 개발"), suggester.suggest("웹", 10));
+    }
+
+    @Test
+    @DisplayName("접두어 범위가 넓어도 전체에서 가장 많이 나온 순서대로")
+    void suggestFromManyTerms() {
+        //given
+        List<PopularSearchWord> searchWords = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            searchWords.add(createSearchWord("검색어" + i, i % 97));
+        }
+        when(searchWordRepository.findPopularSearchWords(anyLong(), any())).thenReturn(searchWords);
+
+        //when
+        reload(List.of());
+
+        //then
+        assertEquals(List.of("검색어193", "검색어290", "검색어387", "검색어484", "검색어581"), suggester.suggest("검", 5));
+    }
+}
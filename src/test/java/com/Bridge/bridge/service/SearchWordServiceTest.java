@@ -54,9 +54,9 @@ public class SearchWordServiceTest {
         request.addHeader("Authorization", "Bearer " + token);
 
         // when
-        projectService.findByTitleAndContent(request, "검색어1");
-        projectService.findByTitleAndContent(request, "검색어2");
-        projectService.findByTitleAndContent(request, "검색어3");
+        projectService.findByTitleAndContent(request, "검색어1", null, null, null);
+        projectService.findByTitleAndContent(request, "검색어2", null, null, null);
+        projectService.findByTitleAndContent(request, "검색어3", null, null, null);
         List<SearchWordResponse> searchWordResponse = searchWordService.resentSearchWord(request);
 
         // then
@@ -0,0 +1,28 @@
+package com.Bridge.bridge.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HangulJamoTest {
+
+    @Test
+    @DisplayName("음절을 자모로 분리 -> 공백은 제거, 영문은 소문자")
+    void decompose() {
+        //expected
+        assertEquals("ㅂㅡㄹㅣㅅㅈㅣ", HangulJamo.decompose("브릿지"));
+        assertEquals("ㅇㅓㅍㅡㄹspring", HangulJamo.decompose("어플 Spring"));
+        assertEquals("ㄱㅐㅂㅏㄺ", HangulJamo.decompose("개밝"));
+    }
+
+    @Test
+    @DisplayName("초성만 추출, 초성으로만 된 검색어 구분")
+    void choseong() {
+        //expected
+        assertEquals("ㅂㄹㅈㅍㄹㅈㅌ", HangulJamo.choseong("브릿지 프로젝트"));
+        assertTrue(HangulJamo.isChoseong("ㅂㄹ ㅈ"));
+        assertFalse(HangulJamo.isChoseong("ㅂ릿"));
+        assertFalse(HangulJamo.isChoseong(" "));
+    }
+}
@@ -0,0 +1,92 @@
+package com.Bridge.bridge.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MpscRingBufferTest {
+
+    @Test
+    @DisplayName("용량은 2의 거듭제곱으로 올림")
+    void capacity() {
+        //when
+        MpscRingBuffer<Integer> ringBuffer = new MpscRingBuffer<>(5);
+
+        //then
+        assertEquals(8, ringBuffer.capacity());
+    }
+
+    @Test
+    @DisplayName("넣은 순서대로 꺼냄, 가득 차면 추가 실패")
+    void offerAndPoll() {
+        //given
+        MpscRingBuffer<Integer> ringBuffer = new MpscRingBuffer<>(4);
+        for (int i = 0; i < 4; i++) {
+            assertTrue(ringBuffer.offer(i));
+        }
+
+        //when
+        boolean overflow = ringBuffer.offer(4);
+
+        //then
+        assertFalse(overflow);
+        for (int i = 0; i < 4; i++) {
+            assertEquals(i, ringBuffer.poll());
+        }
+        assertNull(ringBuffer.poll());
+        assertTrue(ringBuffer.isEmpty());
+    }
+
+    @Test
+    @DisplayName("여러 생산자 - 빠짐없이 생산자별 순서대로 꺼냄")
+    void multiProducer() throws InterruptedException {
+        //given
+        int producers = 4;
+        int perProducer = 10000;
+        MpscRingBuffer<long[]> ringBuffer = new MpscRingBuffer<>(64);
+        CountDownLatch start = new CountDownLatch(1);
+
+        List<Thread> threads = new ArrayList<>();
+        for (int p = 0; p < producers; p++) {
+            long producer = p;
+            Thread thread = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    return;
+                }
+                for (long i = 0; i < perProducer; i++) {
+                    while (!ringBuffer.offer(new long[]{producer, i})) {
+                        Thread.onSpinWait();
+                    }
+                }
+            });
+            thread.start();
+            threads.add(thread);
+        }
+
+        //when
+        start.countDown();
+        long[] next = new long[producers];
+        int received = 0;
+        while (received < producers * perProducer) {
+            long[] element = ringBuffer.poll();
+            if (element == null) {
+                Thread.onSpinWait();
+                continue;
+            }
+            //then
+            assertEquals(next[(int) element[0]]++, element[1]);
+            received++;
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        assertTrue(ringBuffer.isEmpty());
+    }
+}